@@ -0,0 +1,40 @@
+#!/usr/bin/env bash
+# Builds an AppCDS archive for the application from a training run that stops right after the
+# Spring context refreshes (-Dspring.context.exit=onRefresh), so no requests are served and the
+# real database is not touched. Output goes to target/cds:
+#
+#   target/cds/lib/*.jar        application classes and dependencies as plain jars (CDS cannot
+#                               archive classes loaded from nested jars or directories)
+#   target/cds/classpath.txt    the exact classpath; runs must use it unchanged for the archive to apply
+#   target/cds/application.jsa  the archive
+#
+#   scripts/build-cds-archive.sh [extra spring args...]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+CDS_DIR="target/cds"
+MAIN_CLASS="com.project.packingoptions.PackingOptionsApplication"
+
+./mvnw -q -DskipTests package
+JAR="$(ls target/PackingOptions-*.jar | grep -v '\.original$' | head -n 1)"
+
+rm -rf "$CDS_DIR"
+mkdir -p "$CDS_DIR/exploded" "$CDS_DIR/lib"
+(cd "$CDS_DIR/exploded" && jar -xf "../../../$JAR")
+jar -cf "$CDS_DIR/lib/application.jar" -C "$CDS_DIR/exploded/BOOT-INF/classes" .
+cp "$CDS_DIR"/exploded/BOOT-INF/lib/*.jar "$CDS_DIR/lib/"
+rm -rf "$CDS_DIR/exploded"
+
+CLASSPATH="$(find "$CDS_DIR/lib" -name '*.jar' | sort | paste -sd: -)"
+echo "$CLASSPATH" > "$CDS_DIR/classpath.txt"
+
+java -XX:ArchiveClassesAtExit="$CDS_DIR/application.jsa" \
+  -Dspring.context.exit=onRefresh \
+  -cp "$CLASSPATH" "$MAIN_CLASS" \
+  --spring.profiles.active=fast-startup \
+  --spring.datasource.url=jdbc:h2:mem:cds-training \
+  "$@"
+
+echo
+echo "Archive written to $CDS_DIR/application.jsa. Start with:"
+echo "  java -XX:SharedArchiveFile=$CDS_DIR/application.jsa -cp \"\$(cat $CDS_DIR/classpath.txt)\" $MAIN_CLASS --spring.profiles.active=fast-startup"
@@ -0,0 +1,37 @@
+#!/usr/bin/env bash
+# Runs the load test harness against platform-thread and virtual-thread request execution
+# and prints throughput and latency side by side. Requires JDK 21 and jq.
+#
+#   scripts/compare-thread-modes.sh [rps] [duration-seconds]
+set -euo pipefail
+
+RPS="${1:-300}"
+DURATION="${2:-60}"
+REPORT_DIR="target/load-test/thread-modes"
+# LoadTest runs the test profile, which turns read/write routing off: the single
+# spring.datasource pool serves every request. Each report records the pool sizes in use.
+POOL_SIZE=32
+
+cd "$(dirname "$0")/.."
+rm -rf "$REPORT_DIR"
+
+run() {
+  local label="$1" virtual="$2"
+  ./mvnw -q -Pjava21,load-test test \
+    -Dloadtest.label="$label" \
+    -Dloadtest.rps="$RPS" \
+    -Dloadtest.duration="$DURATION" \
+    -Dloadtest.concurrency=256 \
+    -Dloadtest.reportDir="$REPORT_DIR" \
+    -Dspring.threads.virtual.enabled="$virtual" \
+    -Dspring.datasource.hikari.maximum-pool-size="$POOL_SIZE"
+}
+
+run platform false
+run virtual true
+
+printf '%-10s %12s %10s %10s %10s %10s %8s\n' mode req/s p50ms p90ms p99ms p999ms errors
+for report in "$REPORT_DIR"/platform-*.json "$REPORT_DIR"/virtual-*.json; do
+  jq -r '[.label, .total.throughputPerSecond, .total.p50Ms, .total.p90Ms, .total.p99Ms, .total.p999Ms, .total.errors]
+         | @tsv' "$report" | awk -F'\t' '{ printf "%-10s %12s %10s %10s %10s %10s %8s\n", $1, $2, $3, $4, $5, $6, $7 }'
+done
@@ -0,0 +1,51 @@
+#!/usr/bin/env bash
+# Measures time-to-first-request for each startup mode: wall-clock time from launching the JVM
+# until GET /api/v1/products first succeeds, plus the application's own
+# application.first.request.time figure from its log. Each mode runs RUNS times against a fresh
+# in-memory database; the table shows the median.
+#
+#   scripts/measure-startup.sh [runs]
+#
+# The AppCDS mode is skipped unless scripts/build-cds-archive.sh has been run.
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT=18080
+CDS_DIR="target/cds"
+MAIN_CLASS="com.project.packingoptions.PackingOptionsApplication"
+LOG="target/startup-run.log"
+
+cd "$(dirname "$0")/.."
+ls target/PackingOptions-*.jar > /dev/null 2>&1 || ./mvnw -q -DskipTests package
+JAR="$(ls target/PackingOptions-*.jar | grep -v '\.original$' | head -n 1)"
+
+now_ms() { date +%s%3N; }
+
+median() { sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }'; }
+
+measure() {
+  local label="$1"; shift
+  local wall=() internal=()
+  for _ in $(seq "$RUNS"); do
+    local start; start="$(now_ms)"
+    "$@" --server.port="$PORT" --spring.datasource.url="jdbc:h2:mem:startup-$RANDOM" > "$LOG" 2>&1 &
+    local pid=$!
+    until curl -sf "http://localhost:$PORT/api/v1/products" > /dev/null; do
+      kill -0 "$pid" 2> /dev/null || { echo "$label: application exited, see $LOG" >&2; exit 1; }
+      sleep 0.02
+    done
+    wall+=($(( $(now_ms) - start )))
+    internal+=("$(grep -o 'completed [0-9]* ms after JVM start' "$LOG" | grep -o '[0-9]*' || echo '-')")
+    kill "$pid"; wait "$pid" 2> /dev/null || true
+  done
+  printf '%-24s %10s %10s\n' "$label" \
+    "$(printf '%s\n' "${wall[@]}" | median)" "$(printf '%s\n' "${internal[@]}" | median)"
+}
+
+printf '%-24s %10s %10s\n' mode wall-ms app-ms
+measure default java -jar "$JAR"
+measure fast-startup java -jar "$JAR" --spring.profiles.active=fast-startup
+if [ -f "$CDS_DIR/application.jsa" ]; then
+  measure fast-startup+appcds java -XX:SharedArchiveFile="$CDS_DIR/application.jsa" \
+    -cp "$(cat "$CDS_DIR/classpath.txt")" "$MAIN_CLASS" --spring.profiles.active=fast-startup
+fi
@@ -0,0 +1,115 @@
+package com.project.packingoptions.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.packingoptions.model.PackagingOption;
+import com.project.packingoptions.model.Product;
+import com.project.packingoptions.repository.IdempotencyRecordRepository;
+import com.project.packingoptions.repository.OrderLineStatistics;
+import com.project.packingoptions.repository.OrderRepository;
+import com.project.packingoptions.repository.OrderSubmissionRepository;
+import com.project.packingoptions.repository.OrderViewStore;
+import com.project.packingoptions.repository.PackagingOptionRepository;
+import com.project.packingoptions.repository.ProductRepository;
+import com.project.packingoptions.repository.SalesRollupStore;
+import com.project.packingoptions.repository.memory.InMemoryIdempotencyRecordRepository;
+import com.project.packingoptions.repository.memory.InMemoryOrderLineStatistics;
+import com.project.packingoptions.repository.memory.InMemoryOrderRepository;
+import com.project.packingoptions.repository.memory.InMemoryOrderSubmissionRepository;
+import com.project.packingoptions.repository.memory.InMemoryOrderViewStore;
+import com.project.packingoptions.repository.memory.InMemoryPackagingOptionRepository;
+import com.project.packingoptions.repository.memory.InMemoryProductRepository;
+import com.project.packingoptions.repository.memory.InMemorySalesRollupStore;
+import com.project.packingoptions.repository.memory.InMemoryTransactionManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+
+/**
+ * Replaces H2 and JPA with in-memory repositories for the {@code in-memory} profile, which also
+ * excludes the datasource, JPA and Flyway auto-configuration (application-in-memory.yml).
+ * Nothing survives a restart; the catalog is seeded with the same sample data as V3__seed_catalog.
+ */
+@Slf4j
+@Configuration
+@Profile("in-memory")
+public class InMemoryRepositoryConfig {
+
+    @Bean
+    public ProductRepository productRepository() {
+        ProductRepository repository = new InMemoryProductRepository();
+        repository.save(product("CE", "Cheese", "5.95"));
+        repository.save(product("HM", "Ham", "7.95"));
+        repository.save(product("SS", "Soy Sauce", "11.95"));
+        return repository;
+    }
+
+    @Bean
+    public PackagingOptionRepository packagingOptionRepository(ProductRepository productRepository) {
+        PackagingOptionRepository repository = new InMemoryPackagingOptionRepository();
+        repository.save(option(productRepository, 1L, "CE", 3, "14.95"));
+        repository.save(option(productRepository, 2L, "CE", 5, "20.95"));
+        repository.save(option(productRepository, 3L, "HM", 2, "13.95"));
+        repository.save(option(productRepository, 4L, "HM", 5, "29.95"));
+        repository.save(option(productRepository, 5L, "HM", 8, "40.95"));
+        log.info("Using in-memory repositories; data is not persisted");
+        return repository;
+    }
+
+    @Bean
+    public OrderRepository orderRepository() {
+        return new InMemoryOrderRepository();
+    }
+
+    @Bean
+    public OrderViewStore orderViewStore(ObjectMapper objectMapper) {
+        return new InMemoryOrderViewStore(objectMapper);
+    }
+
+    @Bean
+    public SalesRollupStore salesRollupStore() {
+        return new InMemorySalesRollupStore();
+    }
+
+    @Bean
+    public OrderLineStatistics orderLineStatistics(OrderRepository orderRepository) {
+        return new InMemoryOrderLineStatistics(orderRepository);
+    }
+
+    @Bean
+    public IdempotencyRecordRepository idempotencyRecordRepository() {
+        return new InMemoryIdempotencyRecordRepository();
+    }
+
+    @Bean
+    public OrderSubmissionRepository orderSubmissionRepository() {
+        return new InMemoryOrderSubmissionRepository();
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager() {
+        return new InMemoryTransactionManager();
+    }
+
+    private static Product product(String code, String name, String basePrice) {
+        return Product.builder()
+                .code(code)
+                .name(name)
+                .basePrice(new BigDecimal(basePrice))
+                .build();
+    }
+
+    private static PackagingOption option(ProductRepository productRepository, Long id, String productCode,
+                                          int bundleSize, String bundlePrice) {
+        return PackagingOption.builder()
+                .id(id)
+                .product(productRepository.findByCode(productCode).orElseThrow())
+                .productCode(productCode)
+                .bundleSize(bundleSize)
+                .bundlePrice(new BigDecimal(bundlePrice))
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.project.packingoptions.config;
+
+import com.project.packingoptions.model.id.TimeOrderedIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Provides the time-ordered id generator for orders and order items. Every node writing to the
+ * same database needs its own {@code orders.id.node-id} (0-1023); two nodes sharing an id can
+ * issue the same id in the same millisecond. A single node may leave it unset and uses 0; with
+ * {@code orders.id.nodes} above 1 startup fails until it is set.
+ */
+@Slf4j
+@Configuration
+public class OrderIdConfig {
+
+    private static final String MAX_ID_QUERY =
+            "SELECT GREATEST(COALESCE((SELECT MAX(id) FROM orders), 0), "
+                    + "COALESCE((SELECT MAX(id) FROM order_items), 0))";
+
+    @Bean
+    public TimeOrderedIdGenerator timeOrderedIdGenerator(@Value("${orders.id.node-id:#{null}}") Integer nodeId,
+                                                         @Value("${orders.id.nodes:1}") int nodes) {
+        if (nodeId == null) {
+            if (nodes > 1) {
+                throw new IllegalStateException("orders.id.nodes is " + nodes
+                        + ", so orders.id.node-id must be set to a value unique to this node");
+            }
+            nodeId = 0;
+        }
+        log.info("Generating order ids for node {}", nodeId);
+        return new TimeOrderedIdGenerator(nodeId);
+    }
+
+    /**
+     * Runs once all singletons (including the Flyway migration) are ready and before the web
+     * server accepts requests, so ids never fall below what a previous run already stored.
+     */
+    @Bean
+    public SmartInitializingSingleton orderIdSeeder(TimeOrderedIdGenerator generator,
+                                                    ObjectProvider<JdbcTemplate> jdbcTemplate) {
+        return () -> jdbcTemplate.ifAvailable(template -> {
+            Long maxId = template.queryForObject(MAX_ID_QUERY, Long.class);
+            if (maxId != null && maxId > 0) {
+                generator.advancePast(maxId);
+            }
+        });
+    }
+}
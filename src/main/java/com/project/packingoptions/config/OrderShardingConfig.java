@@ -0,0 +1,63 @@
+package com.project.packingoptions.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.packingoptions.model.id.TimeOrderedIdGenerator;
+import com.project.packingoptions.repository.DisabledOrderViewStore;
+import com.project.packingoptions.repository.OrderViewStore;
+import com.project.packingoptions.repository.shard.OrderShard;
+import com.project.packingoptions.repository.shard.ShardedOrderRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores orders across the databases listed in {@code orders.sharding.shards} when
+ * {@code orders.store=sharded}. Each shard gets its own Hikari pool ({@code order-shard-N}) and
+ * its order tables are migrated from {@code db/shard} at startup. Products, packaging options,
+ * idempotency keys and the catalog change log stay in the main database. The order read model is
+ * disabled, since writing every order's view to the main database would undo the sharding;
+ * listings merge the shards instead.
+ */
+@Configuration
+@ConditionalOnProperty(name = "orders.store", havingValue = "sharded")
+@EnableConfigurationProperties(OrderShardingProperties.class)
+public class OrderShardingConfig {
+
+    @Bean
+    @Primary
+    public ShardedOrderRepository shardedOrderRepository(OrderShardingProperties properties,
+                                                         TimeOrderedIdGenerator idGenerator) {
+        if (properties.shards().isEmpty()) {
+            throw new IllegalStateException("orders.store=sharded requires at least one orders.sharding.shards entry");
+        }
+        List<OrderShard> shards = new ArrayList<>();
+        for (OrderShardingProperties.Shard shardProperties : properties.shards()) {
+            String name = "order-shard-" + shards.size();
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(shardProperties.url())
+                    .username(shardProperties.username())
+                    .password(shardProperties.password())
+                    .build();
+            dataSource.setPoolName(name);
+            dataSource.setMaximumPoolSize(properties.poolSize());
+            OrderShard shard = new OrderShard(name, dataSource, idGenerator);
+            shard.migrate();
+            shards.add(shard);
+        }
+        return new ShardedOrderRepository(shards, idGenerator);
+    }
+
+    @Bean
+    @Primary
+    public OrderViewStore disabledOrderViewStore(ObjectMapper objectMapper) {
+        return new DisabledOrderViewStore(objectMapper);
+    }
+}
@@ -0,0 +1,16 @@
+package com.project.packingoptions.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Shard databases for {@code orders.store=sharded}, bound from {@code orders.sharding.*}.
+ */
+@ConfigurationProperties("orders.sharding")
+public record OrderShardingProperties(@DefaultValue List<Shard> shards, @DefaultValue("10") int poolSize) {
+
+    public record Shard(String url, String username, String password) {
+    }
+}
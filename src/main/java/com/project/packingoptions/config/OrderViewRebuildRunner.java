@@ -0,0 +1,47 @@
+package com.project.packingoptions.config;
+
+import com.project.packingoptions.service.OrderViewService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the order read model when the application is started with
+ * {@code --rebuild-order-view}, then shuts down. Combine with
+ * {@code --spring.main.web-application-type=none} to skip starting the web server.
+ * Otherwise, unless {@code orders.view.rebuild-on-startup} is false, views missing for existing
+ * orders are rebuilt once at startup, so listings do not leave out orders placed before the
+ * read model existed.
+ */
+@Component
+public class OrderViewRebuildRunner implements ApplicationRunner {
+
+    static final String REBUILD_OPTION = "rebuild-order-view";
+
+    private final OrderViewService orderViewService;
+    private final ConfigurableApplicationContext applicationContext;
+    private final boolean rebuildOnStartup;
+
+    public OrderViewRebuildRunner(OrderViewService orderViewService,
+                                  ConfigurableApplicationContext applicationContext,
+                                  @Value("${orders.view.rebuild-on-startup:true}") boolean rebuildOnStartup) {
+        this.orderViewService = orderViewService;
+        this.applicationContext = applicationContext;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(REBUILD_OPTION)) {
+            orderViewService.rebuild();
+            // Scheduler threads would otherwise keep the JVM alive
+            System.exit(SpringApplication.exit(applicationContext));
+        }
+        if (rebuildOnStartup) {
+            orderViewService.rebuildIfMissing();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.project.packingoptions.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes connections for {@code @Transactional(readOnly = true)} work to the read pool
+ * and everything else, including non-transactional access, to the write pool. A replica
+ * behind the read pool may lag the primary, so work that must see a just-committed write,
+ * such as reading an order by id, runs in a read-write transaction.
+ * Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * so the connection is chosen after the transaction's read-only flag is known.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        WRITE,
+        READ
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Route.READ : Route.WRITE;
+    }
+}
@@ -0,0 +1,62 @@
+package com.project.packingoptions.controller;
+
+import com.project.packingoptions.dto.BundleRecommendationResponse;
+import com.project.packingoptions.service.BundleRecommendationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/analytics/products")
+@Tag(name = "Analytics")
+@RequiredArgsConstructor
+public class BundleRecommendationController {
+
+    static final int DEFAULT_RANGE_DAYS = 365;
+
+    private final BundleRecommendationService bundleRecommendationService;
+
+    @GetMapping("/{code}/bundle-recommendations")
+    @Operation(summary = "Recommend bundle sizes",
+            description = "Bundle-size sets that would have packed the product's order lines between from and to "
+                    + "(inclusive) in the fewest packages, next to the current sizes. Defaults to the last "
+                    + DEFAULT_RANGE_DAYS + " days.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recommended bundle sizes, fewest packages first"),
+            @ApiResponse(responseCode = "400", description = "Invalid date range or search bounds"),
+            @ApiResponse(responseCode = "404", description = "Product not found")
+    })
+    public ResponseEntity<BundleRecommendationResponse> recommend(
+            @Parameter(description = "Product code", example = "CE")
+            @PathVariable String code,
+            @Parameter(description = "First day (ISO date), defaults to " + DEFAULT_RANGE_DAYS + " days before to")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day (ISO date), defaults to today")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Most bundle sizes per set (1-" + BundleRecommendationService.MAX_BUNDLE_SIZES + ")")
+            @RequestParam(defaultValue = "3") int maxSizes,
+            @Parameter(description = "Smallest bundle size considered (at least 2)")
+            @RequestParam(defaultValue = "2") int minBundleSize,
+            @Parameter(description = "Largest bundle size considered (at most "
+                    + BundleRecommendationService.MAX_BUNDLE_SIZE + ")")
+            @RequestParam(defaultValue = "50") int maxBundleSize,
+            @Parameter(description = "Number of recommendations (1-" + BundleRecommendationService.MAX_RECOMMENDATIONS + ")")
+            @RequestParam(defaultValue = "5") int limit) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        return ResponseEntity.ok(bundleRecommendationService.recommend(code, start, end, maxSizes, minBundleSize,
+                maxBundleSize, limit));
+    }
+}
@@ -0,0 +1,105 @@
+package com.project.packingoptions.controller;
+
+import com.project.packingoptions.dto.CatalogChangeResponse;
+import com.project.packingoptions.dto.CatalogChangesResponse;
+import com.project.packingoptions.service.CatalogChangeLog;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/catalog/changes")
+@Tag(name = "Catalog Changes", description = "Incremental feed of product and packaging option changes")
+public class CatalogChangeController {
+
+    static final String CHANGE_EVENT = "catalog-change";
+    static final String RESET_EVENT = "catalog-reset";
+
+    private final CatalogChangeLog catalogChangeLog;
+    private final long streamTimeoutMs;
+
+    public CatalogChangeController(CatalogChangeLog catalogChangeLog,
+                                   @Value("${catalog.changes.stream-timeout-ms:1800000}") long streamTimeoutMs) {
+        this.catalogChangeLog = catalogChangeLog;
+        this.streamTimeoutMs = streamTimeoutMs;
+    }
+
+    @GetMapping
+    @Operation(summary = "Get catalog changes since a version",
+            description = "Returns product and packaging option changes after sinceVersion, oldest first. " +
+                    "Pass the returned latestVersion as sinceVersion on the next call. Without sinceVersion only " +
+                    "the latest version is returned: read it before downloading the full catalog, then poll from it.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes after the given version"),
+            @ApiResponse(responseCode = "410", description = "Changes are no longer retained, reload the full catalog")
+    })
+    public ResponseEntity<CatalogChangesResponse> getChanges(
+            @Parameter(description = "Last catalog version the client has applied")
+            @RequestParam(required = false) Long sinceVersion) {
+        long from = sinceVersion != null ? sinceVersion : catalogChangeLog.latestVersion();
+        return ResponseEntity.ok(catalogChangeLog.changesSince(from));
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream catalog changes",
+            description = "Server-Sent Events stream of catalog changes. Each '" + CHANGE_EVENT + "' event has the " +
+                    "version as its id, so reconnecting clients resume through Last-Event-ID. A '" + RESET_EVENT +
+                    "' event means changes were missed and the full catalog must be reloaded.")
+    @ApiResponse(responseCode = "200", description = "Event stream opened")
+    public SseEmitter streamChanges(
+            @Parameter(description = "Last catalog version the client has applied; defaults to the latest version")
+            @RequestParam(required = false) Long sinceVersion,
+            @Parameter(description = "Set by EventSource clients when reconnecting")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        long from = lastEventId != null ? lastEventId
+                : sinceVersion != null ? sinceVersion
+                : catalogChangeLog.latestVersion();
+
+        Runnable unsubscribe = catalogChangeLog.subscribe(from, new CatalogChangeLog.Listener() {
+            @Override
+            public void onChange(CatalogChangeResponse change) {
+                send(emitter, SseEmitter.event()
+                        .id(String.valueOf(change.getVersion()))
+                        .name(CHANGE_EVENT)
+                        .data(change, MediaType.APPLICATION_JSON));
+            }
+
+            @Override
+            public void onReset(long latestVersion) {
+                send(emitter, SseEmitter.event()
+                        .id(String.valueOf(latestVersion))
+                        .name(RESET_EVENT)
+                        .data(new CatalogChangesResponse(latestVersion, List.of()), MediaType.APPLICATION_JSON));
+            }
+        });
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(error -> unsubscribe.run());
+        return emitter;
+    }
+
+    private static void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException ex) {
+            // Client went away; failing here unsubscribes the listener
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
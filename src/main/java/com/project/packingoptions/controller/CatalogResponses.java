@@ -0,0 +1,44 @@
+package com.project.packingoptions.controller;
+
+import com.project.packingoptions.service.CatalogChangeLog;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * Builds catalog read responses tagged with an ETag of the {@link CatalogChangeLog} version. Clients
+ * may store them but must revalidate, which is cheap because the ETag is known before anything loads.
+ */
+final class CatalogResponses {
+
+    static final CacheControl CACHE_CONTROL = CacheControl.noCache();
+
+    private CatalogResponses() {
+    }
+
+    static String eTag(long catalogVersion) {
+        return "\"catalog-" + catalogVersion + "\"";
+    }
+
+    /**
+     * Answers 304 Not Modified without calling {@code body} when If-None-Match carries the current
+     * catalog ETag. Only for reads that cannot fail, since the ETag is written to the response early.
+     */
+    static <T> ResponseEntity<T> conditional(String eTag, WebRequest webRequest, Supplier<T> body) {
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CACHE_CONTROL).build();
+        }
+        return ok(eTag, body.get());
+    }
+
+    /**
+     * Tags a loaded response. {@code eTag} must be read before loading, so a concurrent catalog
+     * write can only make the tag older than the body, never newer.
+     */
+    static <T> ResponseEntity<T> ok(String eTag, T body) {
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CACHE_CONTROL).body(body);
+    }
+}
@@ -4,19 +4,33 @@ package com.project.packingoptions.controller;
 import com.project.packingoptions.dto.OrderItemRequest;
 import com.project.packingoptions.dto.OrderRequest;
 import com.project.packingoptions.dto.OrderResponse;
+import com.project.packingoptions.dto.OrderTicketResponse;
 import com.project.packingoptions.exception.ResourceNotFoundException;
+import com.project.packingoptions.repository.OrderSearchCriteria;
+import com.project.packingoptions.service.IdempotencyService;
+import com.project.packingoptions.service.IdempotencyService.IdempotentResult;
 import com.project.packingoptions.service.OrderService;
+import com.project.packingoptions.service.OrderSubmissionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -25,50 +39,176 @@ import java.util.List;
 @RequiredArgsConstructor
 public class OrderController {
 
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    // Orders never change once created but can be deleted; like the response cache's default TTL,
+    // HTTP caches only keep them for a minute before revalidating
+    static final String ORDER_CACHE_CONTROL = "max-age=60";
+    static final int DEFAULT_PAGE_SIZE = 100;
+
     private final OrderService orderService;
+    private final IdempotencyService idempotencyService;
+    private final OrderSubmissionService orderSubmissionService;
 
     @GetMapping
-    @Operation(summary = "Get all orders", description = "Retrieves all orders with their packaging breakdowns")
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved list of orders")
-    public ResponseEntity<List<OrderResponse>> getAllOrders() {
-        List<OrderResponse> orders = orderService.getAllOrders();
+    @Operation(summary = "Get orders",
+            description = "Retrieves orders with their packaging breakdowns. Without parameters all orders are returned; "
+                    + "with afterId and/or limit a keyset page in ascending ID order is returned, and the last order's ID "
+                    + "is the afterId of the next page.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved list of orders"),
+            @ApiResponse(responseCode = "400", description = "Limit out of range")
+    })
+    public ResponseEntity<List<OrderResponse>> getAllOrders(
+            @Parameter(description = "Return only orders with an ID greater than this")
+            @RequestParam(required = false) Long afterId,
+            @Parameter(description = "Maximum number of orders to return (1-" + OrderService.MAX_PAGE_SIZE + ", default "
+                    + DEFAULT_PAGE_SIZE + " when afterId is given)")
+            @RequestParam(required = false) Integer limit) {
+        if (afterId == null && limit == null) {
+            return ResponseEntity.ok(orderService.getAllOrders());
+        }
+
+        List<OrderResponse> orders = orderService.getOrders(afterId == null ? 0 : afterId,
+                limit == null ? DEFAULT_PAGE_SIZE : limit);
 
         return ResponseEntity.ok(orders);
     }
 
+    @GetMapping("/search")
+    @Operation(summary = "Search orders",
+            description = "Finds orders containing a product, created in a time range and/or with a total in a price "
+                    + "range. Results are a keyset page in ascending ID order; pass the last order's ID as afterId "
+                    + "to get the next page.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching orders"),
+            @ApiResponse(responseCode = "400", description = "Invalid range or limit")
+    })
+    public ResponseEntity<List<OrderResponse>> searchOrders(
+            @Parameter(description = "Only orders containing this product", example = "CE")
+            @RequestParam(required = false) String productCode,
+            @Parameter(description = "Created at or after (ISO date-time)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @Parameter(description = "Created before (ISO date-time)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @Parameter(description = "Minimum total price, inclusive")
+            @RequestParam(required = false) BigDecimal minTotal,
+            @Parameter(description = "Maximum total price, inclusive")
+            @RequestParam(required = false) BigDecimal maxTotal,
+            @Parameter(description = "Return only orders with an ID greater than this")
+            @RequestParam(defaultValue = "0") long afterId,
+            @Parameter(description = "Maximum number of orders to return (1-" + OrderService.MAX_PAGE_SIZE + ")")
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int limit) {
+        OrderSearchCriteria criteria = new OrderSearchCriteria(
+                productCode == null ? null : productCode.trim().toUpperCase(),
+                createdFrom, createdTo, minTotal, maxTotal);
+
+        return ResponseEntity.ok(orderService.searchOrders(criteria, afterId, limit));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get order by ID",
             description = "Retrieves an order with its complete packaging breakdown")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Order found"),
+            @ApiResponse(responseCode = "200", description = "Order found",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = OrderResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Order unchanged since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Order not found")
     })
-    public ResponseEntity<OrderResponse> getOrderById(
+    public ResponseEntity<byte[]> getOrderById(
             @Parameter(description = "Order ID")
-            @PathVariable Long id) {
-        return orderService.getOrderById(id)
-                .map(ResponseEntity::ok)
+            @PathVariable Long id,
+            WebRequest webRequest) {
+        String eTag = orderETag(id);
+        // An order's content never changes, so a matching ETag only needs the order to still exist
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && orderService.orderExists(id)
+                && webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .header(HttpHeaders.CACHE_CONTROL, ORDER_CACHE_CONTROL)
+                    .build();
+        }
+
+        // Orders are immutable, so the body is pre-serialized JSON, usually from OrderResponseCache
+        return orderService.getOrderJson(id)
+                .map(body -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .eTag(eTag)
+                        .header(HttpHeaders.CACHE_CONTROL, ORDER_CACHE_CONTROL)
+                        .body(body))
                 .orElseThrow(() -> new ResourceNotFoundException("Order", "id", id));
     }
 
+    static String orderETag(Long id) {
+        return "\"order-" + id + "\"";
+    }
+
     @PostMapping
     @Operation(summary = "Create a new order",
             description = "Creates a new order with optimal packaging to minimize number of packages. " +
-                    "The system will calculate the best way to package products using available bundle options.")
+                    "The system will calculate the best way to package products using available bundle options. " +
+                    "Send an Idempotency-Key header to make retries return the original order instead of creating a new one.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Order created successfully with packaging breakdown"),
             @ApiResponse(responseCode = "400", description = "Invalid input"),
-            @ApiResponse(responseCode = "404", description = "One or more products not found")
+            @ApiResponse(responseCode = "404", description = "One or more products not found"),
+            @ApiResponse(responseCode = "409", description = "Idempotency key reused with a different request or still in progress")
     })
     public ResponseEntity<OrderResponse> createOrder(
+            @Parameter(description = "Client-generated key identifying this order request across retries")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody OrderRequest request) {
 
         OrderRequest sanitizedRequest = sanitizeOrderRequest(request);
-        OrderResponse response = orderService.createOrder(sanitizedRequest);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        if (idempotencyKey == null) {
+            OrderResponse response = orderService.createOrder(sanitizedRequest);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        }
+
+        IdempotentResult result = idempotencyService.createOrder(idempotencyKey, sanitizedRequest);
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.isReplayed()))
+                .body(result.getResponse());
   }
 
+    @PostMapping("/async")
+    @Operation(summary = "Submit an order for asynchronous processing",
+            description = "Queues the order and returns a ticket immediately. " +
+                    "Poll GET /api/v1/orders/tickets/{ticketId} for the result.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Order accepted for processing"),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "503", description = "Submission queue is full, retry later")
+    })
+    public ResponseEntity<OrderTicketResponse> submitOrder(
+            @Valid @RequestBody OrderRequest request) {
+
+        OrderTicketResponse ticket = orderSubmissionService.submitOrder(sanitizeOrderRequest(request));
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/orders/tickets/" + ticket.getTicketId()))
+                .body(ticket);
+    }
+
+    @GetMapping("/tickets/{ticketId}")
+    @Operation(summary = "Get order submission status",
+            description = "Returns the status of an asynchronous order submission and the order once completed")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ticket found"),
+            @ApiResponse(responseCode = "404", description = "Ticket not found or expired")
+    })
+    public ResponseEntity<OrderTicketResponse> getTicket(
+            @Parameter(description = "Ticket ID returned by the asynchronous submission")
+            @PathVariable String ticketId) {
+        return orderSubmissionService.getTicket(ticketId)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new ResourceNotFoundException("Order ticket", "id", ticketId));
+    }
+
     private OrderRequest sanitizeOrderRequest(OrderRequest request) {
         if (request == null || request.getItems() == null) {
             return request;
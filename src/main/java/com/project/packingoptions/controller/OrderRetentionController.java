@@ -0,0 +1,65 @@
+package com.project.packingoptions.controller;
+
+import com.project.packingoptions.dto.OrderPurgeResponse;
+import com.project.packingoptions.service.OrderRetentionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/v1/admin/orders/purge")
+@Tag(name = "Order Retention", description = "Purging of orders older than the retention age")
+@Profile("!in-memory")
+@ConditionalOnProperty(name = "orders.store", havingValue = "database", matchIfMissing = true)
+public class OrderRetentionController {
+
+    private final OrderRetentionService orderRetentionService;
+    private final Duration defaultMaxAge;
+
+    public OrderRetentionController(OrderRetentionService orderRetentionService,
+                                    @Value("${orders.retention.max-age:365d}") Duration defaultMaxAge) {
+        this.orderRetentionService = orderRetentionService;
+        this.defaultMaxAge = defaultMaxAge;
+    }
+
+    @PostMapping
+    @Operation(summary = "Start an order purge",
+            description = "Deletes orders older than olderThanDays (default orders.retention.max-age) in the "
+                    + "background, in short chunked transactions. Poll GET for progress.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Purge started"),
+            @ApiResponse(responseCode = "400", description = "Retention age below one day"),
+            @ApiResponse(responseCode = "409", description = "A purge is already running")
+    })
+    public ResponseEntity<OrderPurgeResponse> startPurge(
+            @Parameter(description = "Purge orders created more than this many days ago")
+            @RequestParam(required = false) Integer olderThanDays) {
+        Duration maxAge = olderThanDays != null ? Duration.ofDays(olderThanDays) : defaultMaxAge;
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(orderRetentionService.startPurge(maxAge));
+    }
+
+    @GetMapping
+    @Operation(summary = "Get order purge progress",
+            description = "Progress of the running purge, or the result of the last purge since startup")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Purge progress"),
+            @ApiResponse(responseCode = "404", description = "No purge has run since startup")
+    })
+    public ResponseEntity<OrderPurgeResponse> getPurge() {
+        return ResponseEntity.of(orderRetentionService.getLastPurge());
+    }
+}
@@ -3,6 +3,7 @@ package com.project.packingoptions.controller;
 import com.project.packingoptions.dto.PackagingOptionRequest;
 import com.project.packingoptions.dto.PackagingOptionResponse;
 import com.project.packingoptions.exception.ResourceNotFoundException;
+import com.project.packingoptions.service.CatalogChangeLog;
 import com.project.packingoptions.service.PackagingOptionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -25,30 +27,36 @@ import java.util.stream.Collectors;
 public class PackagingOptionController {
 
     private final PackagingOptionService packagingOptionService;
+    private final CatalogChangeLog catalogChangeLog;
 
     @GetMapping
     @Operation(summary = "Get all packaging options", description = "Retrieves all available packaging options")
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved list of packaging options")
-    public ResponseEntity<List<PackagingOptionResponse>> getAllPackagingOptions() {
-        List<PackagingOptionResponse> options = packagingOptionService.getAllPackagingOptions().stream()
-                .map(PackagingOptionResponse::fromPackagingOption)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(options);
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved list of packaging options"),
+            @ApiResponse(responseCode = "304", description = "Catalog unchanged since the ETag in If-None-Match")
+    })
+    public ResponseEntity<List<PackagingOptionResponse>> getAllPackagingOptions(WebRequest webRequest) {
+        String eTag = CatalogResponses.eTag(catalogChangeLog.latestVersion());
+        return CatalogResponses.conditional(eTag, webRequest,
+                () -> packagingOptionService.getAllPackagingOptions().stream()
+                        .map(PackagingOptionResponse::fromPackagingOption)
+                        .collect(Collectors.toList()));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get packaging option by ID", description = "Retrieves a packaging option by its ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Packaging option found"),
+            @ApiResponse(responseCode = "304", description = "Catalog unchanged since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Packaging option not found")
     })
     public ResponseEntity<PackagingOptionResponse> getPackagingOptionById(
             @Parameter(description = "Packaging option ID")
             @PathVariable Long id) {
+        String eTag = CatalogResponses.eTag(catalogChangeLog.latestVersion());
         return packagingOptionService.getPackagingOptionById(id)
                 .map(PackagingOptionResponse::fromPackagingOption)
-                .map(ResponseEntity::ok)
+                .map(option -> CatalogResponses.ok(eTag, option))
                 .orElseThrow(() -> new ResourceNotFoundException("PackagingOption", "id", id));
     }
 
@@ -57,17 +65,19 @@ public class PackagingOptionController {
             description = "Retrieves all packaging options for a specific product")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved packaging options"),
+            @ApiResponse(responseCode = "304", description = "Catalog unchanged since the ETag in If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Product not found")
     })
     public ResponseEntity<List<PackagingOptionResponse>> getPackagingOptionsByProduct(
             @Parameter(description = "Product code", example = "CE")
             @PathVariable String productCode) {
+        String eTag = CatalogResponses.eTag(catalogChangeLog.latestVersion());
         List<PackagingOptionResponse> options = packagingOptionService
                 .getPackagingOptionsByProductCode(productCode).stream()
                 .map(PackagingOptionResponse::fromPackagingOption)
                 .collect(Collectors.toList());
 
-        return ResponseEntity.ok(options);
+        return CatalogResponses.ok(eTag, options);
     }
 
     @PostMapping
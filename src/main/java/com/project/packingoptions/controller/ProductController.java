@@ -4,6 +4,7 @@ import com.project.packingoptions.dto.ProductRequest;
 import com.project.packingoptions.dto.ProductResponse;
 import com.project.packingoptions.dto.ProductUpdateRequest;
 import com.project.packingoptions.exception.ResourceNotFoundException;
+import com.project.packingoptions.service.CatalogChangeLog;
 import com.project.packingoptions.service.ProductService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,6 +21,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -31,29 +33,35 @@ import java.util.stream.Collectors;
 public class ProductController {
 
         private final ProductService productService;
+        private final CatalogChangeLog catalogChangeLog;
 
         @GetMapping
         @Operation(summary = "Get all products", description = "Retrieves a list of all available products")
-        @ApiResponse(responseCode = "200", description = "Successfully retrieved list of products")
-        public ResponseEntity<List<ProductResponse>> getAllProducts() {
-                List<ProductResponse> products = productService.getAllProducts().stream()
-                                .map(ProductResponse::fromProduct)
-                                .collect(Collectors.toList());
-
-                return ResponseEntity.ok(products);
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Successfully retrieved list of products"),
+                        @ApiResponse(responseCode = "304", description = "Catalog unchanged since the ETag in If-None-Match")
+        })
+        public ResponseEntity<List<ProductResponse>> getAllProducts(WebRequest webRequest) {
+                String eTag = CatalogResponses.eTag(catalogChangeLog.latestVersion());
+                return CatalogResponses.conditional(eTag, webRequest,
+                                () -> productService.getAllProducts().stream()
+                                                .map(ProductResponse::fromProduct)
+                                                .collect(Collectors.toList()));
         }
 
         @GetMapping("/{code}")
         @Operation(summary = "Get product by code", description = "Retrieves a product by its unique code")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Product found"),
+                        @ApiResponse(responseCode = "304", description = "Catalog unchanged since the ETag in If-None-Match"),
                         @ApiResponse(responseCode = "404", description = "Product not found")
         })
         public ResponseEntity<ProductResponse> getProductByCode(
                         @Parameter(description = "Product code", example = "CE") @PathVariable String code) {
+                String eTag = CatalogResponses.eTag(catalogChangeLog.latestVersion());
                 return productService.getProductByCode(code)
                                 .map(ProductResponse::fromProduct)
-                                .map(ResponseEntity::ok)
+                                .map(product -> CatalogResponses.ok(eTag, product))
                                 .orElseThrow(() -> new ResourceNotFoundException("Product", "code", code));
         }
 
@@ -0,0 +1,54 @@
+package com.project.packingoptions.controller;
+
+import com.project.packingoptions.dto.PackagingOptionChange;
+import com.project.packingoptions.dto.RepricingSimulationRequest;
+import com.project.packingoptions.dto.RepricingSimulationResponse;
+import com.project.packingoptions.service.RepricingSimulationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/analytics/repricing-simulations")
+@Tag(name = "Analytics")
+@RequiredArgsConstructor
+public class RepricingSimulationController {
+
+    static final int DEFAULT_RANGE_DAYS = 90;
+
+    private final RepricingSimulationService repricingSimulationService;
+
+    @PostMapping
+    @Operation(summary = "Simulate packaging option changes",
+            description = "Packs the order lines of the changed products between from and to (inclusive) with the "
+                    + "current and the proposed packaging options, and reports revenue, packages and packages "
+                    + "per line for both. Defaults to the last " + DEFAULT_RANGE_DAYS + " days. Nothing is saved.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Simulation result"),
+            @ApiResponse(responseCode = "400", description = "Invalid date range or changes"),
+            @ApiResponse(responseCode = "404", description = "Product not found")
+    })
+    public ResponseEntity<RepricingSimulationResponse> simulate(@Valid @RequestBody RepricingSimulationRequest request) {
+        LocalDate end = request.getTo() != null ? request.getTo() : LocalDate.now();
+        LocalDate start = request.getFrom() != null ? request.getFrom() : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        List<PackagingOptionChange> changes = request.getChanges().stream()
+                .map(change -> PackagingOptionChange.builder()
+                        .productCode(change.getProductCode().trim().toUpperCase())
+                        .bundleSize(change.getBundleSize())
+                        .bundlePrice(change.getBundlePrice())
+                        .build())
+                .toList();
+        return ResponseEntity.ok(repricingSimulationService.simulate(start, end, changes));
+    }
+}
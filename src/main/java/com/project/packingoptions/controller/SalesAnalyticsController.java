@@ -0,0 +1,76 @@
+package com.project.packingoptions.controller;
+
+import com.project.packingoptions.dto.ProductSalesResponse;
+import com.project.packingoptions.dto.SalesMetric;
+import com.project.packingoptions.dto.TopProductsResponse;
+import com.project.packingoptions.service.SalesAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/analytics")
+@Tag(name = "Analytics", description = "Sales reports per product, served from daily rollups")
+@RequiredArgsConstructor
+public class SalesAnalyticsController {
+
+    static final int DEFAULT_RANGE_DAYS = 30;
+    static final int DEFAULT_TOP_PRODUCTS = 10;
+
+    private final SalesAnalyticsService salesAnalyticsService;
+
+    @GetMapping("/products/{code}")
+    @Operation(summary = "Get product sales",
+            description = "Units, packages and revenue of a product between from and to (inclusive), in total, "
+                    + "per bundle size and per day. Defaults to the last " + DEFAULT_RANGE_DAYS + " days.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Sales of the product"),
+            @ApiResponse(responseCode = "400", description = "Invalid date range"),
+            @ApiResponse(responseCode = "404", description = "Product not found and without sales")
+    })
+    public ResponseEntity<ProductSalesResponse> getProductSales(
+            @Parameter(description = "Product code", example = "CE")
+            @PathVariable String code,
+            @Parameter(description = "First day (ISO date), defaults to " + DEFAULT_RANGE_DAYS + " days before to")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day (ISO date), defaults to today")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        return ResponseEntity.ok(salesAnalyticsService.getProductSales(code, start, end));
+    }
+
+    @GetMapping("/top-products")
+    @Operation(summary = "Get top products",
+            description = "Products ranked by units, packages or revenue between from and to (inclusive). "
+                    + "Defaults to the last " + DEFAULT_RANGE_DAYS + " days.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Top products, highest first"),
+            @ApiResponse(responseCode = "400", description = "Invalid date range, metric or limit")
+    })
+    public ResponseEntity<TopProductsResponse> getTopProducts(
+            @Parameter(description = "First day (ISO date), defaults to " + DEFAULT_RANGE_DAYS + " days before to")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day (ISO date), defaults to today")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Ranking metric")
+            @RequestParam(defaultValue = "REVENUE") SalesMetric metric,
+            @Parameter(description = "Number of products (1-" + SalesAnalyticsService.MAX_TOP_PRODUCTS + ")")
+            @RequestParam(defaultValue = "" + DEFAULT_TOP_PRODUCTS) int limit) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        return ResponseEntity.ok(salesAnalyticsService.getTopProducts(start, end, metric, limit));
+    }
+}
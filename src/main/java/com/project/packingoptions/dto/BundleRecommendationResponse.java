@@ -0,0 +1,39 @@
+package com.project.packingoptions.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BundleRecommendationResponse {
+
+    private String productCode;
+    private LocalDate from;
+    private LocalDate to;
+    /** Order lines of the product in the range, the demand the sets are scored against. */
+    private long orderLines;
+    /** The product's bundle sizes today. */
+    private BundleSet current;
+    /** Fewest packages first. */
+    private List<BundleSet> recommendations;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BundleSet {
+        /** Smallest first. */
+        private List<Integer> bundleSizes;
+        /** Packages for all order lines. */
+        private long packages;
+        private BigDecimal packagesPerLine;
+    }
+}
@@ -0,0 +1,28 @@
+package com.project.packingoptions.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One product or packaging-option mutation. Upserts carry the new state; deletes carry only the key.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CatalogChangeResponse {
+
+    private long version;
+    private CatalogChangeType type;
+    private LocalDateTime changedAt;
+    private String productCode;
+    private Long packagingOptionId;
+    private ProductResponse product;
+    private PackagingOptionResponse packagingOption;
+}
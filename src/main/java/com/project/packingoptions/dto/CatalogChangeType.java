@@ -0,0 +1,9 @@
+package com.project.packingoptions.dto;
+
+public enum CatalogChangeType {
+    PRODUCT_UPSERTED,
+    /** The product and all of its packaging options were deleted. */
+    PRODUCT_DELETED,
+    PACKAGING_OPTION_UPSERTED,
+    PACKAGING_OPTION_DELETED
+}
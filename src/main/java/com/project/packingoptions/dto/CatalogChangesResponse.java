@@ -0,0 +1,19 @@
+package com.project.packingoptions.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogChangesResponse {
+
+    /** Pass as {@code sinceVersion} on the next poll. */
+    private long latestVersion;
+    private List<CatalogChangeResponse> changes;
+}
@@ -13,12 +13,14 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class OrderItemRequest {
 
+    public static final int MAX_QUANTITY = 10000;
+
     @NotBlank(message = "Product code is required")
     @Size(min = 1, max = 20, message = "Product code must be between 1 and 20 characters")
     private String productCode;
 
     @NotNull(message = "Quantity is required")
     @Min(value = 1, message = "Quantity must be at least 1")
-    @Max(value = 10000, message = "Quantity cannot exceed 10000")
+    @Max(value = MAX_QUANTITY, message = "Quantity cannot exceed 10000")
     private Integer quantity;
 }
@@ -0,0 +1,27 @@
+package com.project.packingoptions.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderPurgeResponse {
+
+    private OrderPurgeStatus status;
+    /** Orders created before this are purged. */
+    private LocalDateTime cutoff;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long chunks;
+    private long ordersDeleted;
+    private long itemsDeleted;
+    private String error;
+}
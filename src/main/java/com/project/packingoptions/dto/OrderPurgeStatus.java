@@ -0,0 +1,7 @@
+package com.project.packingoptions.dto;
+
+public enum OrderPurgeStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -1,5 +1,8 @@
 package com.project.packingoptions.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -21,6 +24,16 @@ public class OrderResponse {
     private int totalPackages;
     private List<ProductBreakdown> productBreakdowns;
 
+    /**
+     * The order id as a string, for clients such as JavaScript that read JSON numbers as doubles:
+     * generated ids exceed 2^53, which a double cannot hold exactly.
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Schema(description = "orderId as a string, exact in clients that read JSON numbers as doubles",
+            example = "351843720888320001", accessMode = Schema.AccessMode.READ_ONLY)
+    public String getOrderIdString() {
+        return orderId == null ? null : orderId.toString();
+    }
 
     @Data
     @Builder
@@ -32,6 +45,13 @@ public class OrderResponse {
         private int quantityOrdered;
         private BigDecimal subtotal;
         private List<PackageBreakdown> packages;
+
+        /**
+         * Zero-based indexes of the request lines merged into this product, present only on
+         * the response to order creation.
+         */
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        private List<Integer> sourceLines;
     }
 
     @Data
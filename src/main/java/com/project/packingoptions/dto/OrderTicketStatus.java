@@ -0,0 +1,8 @@
+package com.project.packingoptions.dto;
+
+public enum OrderTicketStatus {
+    QUEUED,
+    PROCESSING,
+    COMPLETED,
+    FAILED
+}
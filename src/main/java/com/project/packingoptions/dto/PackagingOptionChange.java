@@ -0,0 +1,33 @@
+package com.project.packingoptions.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * A proposed packaging option: sets the price of a bundle size, adding the size if the product
+ * does not have it, or removes the size when {@code bundlePrice} is omitted.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PackagingOptionChange {
+
+    @NotBlank(message = "Product code is required")
+    private String productCode;
+
+    @NotNull(message = "Bundle size is required")
+    @Min(value = 2, message = "Bundle size must be at least 2")
+    private Integer bundleSize;
+
+    @DecimalMin(value = "0.01", message = "Bundle price must be greater than 0")
+    private BigDecimal bundlePrice;
+}
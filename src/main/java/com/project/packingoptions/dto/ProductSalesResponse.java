@@ -0,0 +1,58 @@
+package com.project.packingoptions.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSalesResponse {
+
+    private String productCode;
+    private LocalDate from;
+    private LocalDate to;
+    private SalesTotals totals;
+    private List<BundleSales> bundles;
+    /** Days with sales only, oldest first. */
+    private List<DailySales> days;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SalesTotals {
+        /** Items shipped: bundle size times bundle count. */
+        private long units;
+        private long packages;
+        private BigDecimal revenue;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BundleSales {
+        private int bundleSize;
+        private long units;
+        private long packages;
+        private BigDecimal revenue;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DailySales {
+        private LocalDate date;
+        private long units;
+        private long packages;
+        private BigDecimal revenue;
+    }
+}
@@ -0,0 +1,28 @@
+package com.project.packingoptions.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RepricingSimulationRequest {
+
+    /** First day of orders to replay (inclusive); defaults to 90 days before {@code to}. */
+    private LocalDate from;
+
+    /** Last day of orders to replay (inclusive); defaults to today. */
+    private LocalDate to;
+
+    @NotEmpty(message = "Simulation must contain at least one change")
+    @Valid
+    private List<PackagingOptionChange> changes;
+}
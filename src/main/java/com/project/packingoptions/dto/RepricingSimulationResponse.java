@@ -0,0 +1,52 @@
+package com.project.packingoptions.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RepricingSimulationResponse {
+
+    private LocalDate from;
+    private LocalDate to;
+    /** Order lines of the changed products in the range. */
+    private long orderLines;
+    /** The lines packed with the current catalog. */
+    private SimulatedTotals current;
+    /** The same lines packed with the proposed catalog. */
+    private SimulatedTotals proposed;
+    /** Proposed minus current. */
+    private SimulatedTotals delta;
+    /** One entry per changed product, by product code. */
+    private List<ProductSimulation> products;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SimulatedTotals {
+        private BigDecimal revenue;
+        private long packages;
+        private BigDecimal packagesPerLine;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProductSimulation {
+        private String productCode;
+        private long orderLines;
+        private SimulatedTotals current;
+        private SimulatedTotals proposed;
+        private SimulatedTotals delta;
+    }
+}
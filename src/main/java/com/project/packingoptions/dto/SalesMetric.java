@@ -0,0 +1,11 @@
+package com.project.packingoptions.dto;
+
+/**
+ * Ranking measure for the top products report.
+ */
+public enum SalesMetric {
+    /** Items shipped: bundle size times bundle count. */
+    UNITS,
+    PACKAGES,
+    REVENUE
+}
@@ -0,0 +1,34 @@
+package com.project.packingoptions.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TopProductsResponse {
+
+    private LocalDate from;
+    private LocalDate to;
+    private SalesMetric metric;
+    /** Highest metric first. */
+    private List<ProductSales> products;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProductSales {
+        private String productCode;
+        private long units;
+        private long packages;
+        private BigDecimal revenue;
+    }
+}
@@ -0,0 +1,17 @@
+package com.project.packingoptions.exception;
+
+import lombok.Getter;
+
+@Getter
+public class CatalogChangesExpiredException extends RuntimeException {
+
+    private final long sinceVersion;
+    private final long latestVersion;
+
+    public CatalogChangesExpiredException(long sinceVersion, long latestVersion) {
+        super(String.format("Catalog changes since version %d are no longer available (latest version: %d). "
+                + "Reload the full catalog and continue from the latest version.", sinceVersion, latestVersion));
+        this.sinceVersion = sinceVersion;
+        this.latestVersion = latestVersion;
+    }
+}
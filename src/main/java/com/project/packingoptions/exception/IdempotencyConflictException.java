@@ -0,0 +1,14 @@
+package com.project.packingoptions.exception;
+
+import lombok.Getter;
+
+@Getter
+public class IdempotencyConflictException extends RuntimeException {
+
+    private final String idempotencyKey;
+
+    public IdempotencyConflictException(String idempotencyKey, String message) {
+        super(String.format("Idempotency-Key '%s': %s", idempotencyKey, message));
+        this.idempotencyKey = idempotencyKey;
+    }
+}
@@ -0,0 +1,8 @@
+package com.project.packingoptions.exception;
+
+public class OrderPurgeInProgressException extends RuntimeException {
+
+    public OrderPurgeInProgressException() {
+        super("An order purge is already running");
+    }
+}
@@ -0,0 +1,14 @@
+package com.project.packingoptions.exception;
+
+import lombok.Getter;
+
+@Getter
+public class SubmissionRejectedException extends RuntimeException {
+
+    private final int retryAfterSeconds;
+
+    public SubmissionRejectedException(String message, int retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
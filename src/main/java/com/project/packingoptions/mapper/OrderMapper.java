@@ -16,6 +16,9 @@ import org.springframework.stereotype.Component;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -37,14 +40,43 @@ public class OrderMapper {
      * @return the order response DTO with product breakdowns
      */
     public OrderResponse toResponse(Order order) {
+        return buildResponse(order, loadProducts(List.of(order)));
+    }
+
+    /**
+     * Converts a list of Order entities to OrderResponse DTOs.
+     * Products for all orders are loaded with a single query instead of one per item group.
+     *
+     * @param orders the order entities from database
+     * @return the order response DTOs, in the same order
+     */
+    public List<OrderResponse> toResponses(List<Order> orders) {
+        Map<String, Product> products = loadProducts(orders);
+        return orders.stream()
+                .map(order -> buildResponse(order, products))
+                .toList();
+    }
+
+    /**
+     * Converts an Order entity to OrderResponse DTO using products the caller already loaded,
+     * producing the same representation as {@link #toResponse(Order)} without querying.
+     *
+     * @param order    the order entity
+     * @param products products by code; codes missing from the map are rendered as unknown
+     * @return the order response DTO with product breakdowns
+     */
+    public OrderResponse toResponse(Order order, Map<String, Product> products) {
+        return buildResponse(order, products);
+    }
+
+    private OrderResponse buildResponse(Order order, Map<String, Product> products) {
         List<ProductBreakdown> productBreakdowns = new ArrayList<>();
 
         // Group order items by product code
         order.getOrderItems().stream()
                 .collect(Collectors.groupingBy(OrderItem::getProductCode))
                 .forEach((productCode, items) -> {
-                    Product product = productRepository.findByCode(productCode)
-                            .orElse(createUnknownProduct(productCode));
+                    Product product = products.getOrDefault(productCode, createUnknownProduct(productCode));
 
                     ProductBreakdown breakdown = buildProductBreakdown(product, items);
                     productBreakdowns.add(breakdown);
@@ -175,6 +207,19 @@ public class OrderMapper {
                 .sum();
     }
 
+    private Map<String, Product> loadProducts(List<Order> orders) {
+        Set<String> productCodes = orders.stream()
+                .flatMap(order -> order.getOrderItems().stream())
+                .map(OrderItem::getProductCode)
+                .collect(Collectors.toSet());
+        if (productCodes.isEmpty()) {
+            return Map.of();
+        }
+
+        return productRepository.findAllById(productCodes).stream()
+                .collect(Collectors.toMap(Product::getCode, Function.identity()));
+    }
+
     private Product createUnknownProduct(String productCode) {
         return Product.builder()
                 .code(productCode)
@@ -0,0 +1,94 @@
+package com.project.packingoptions.model;
+
+import com.project.packingoptions.dto.OrderTicketStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Ticket of an asynchronously submitted order. The worker that moves it to {@code PROCESSING}
+ * stamps it with a claim id, and only that claim can complete it, so a ticket that is taken over
+ * after its worker stalled is completed once.
+ */
+@Entity
+@Table(name = "order_submissions")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString(exclude = {"requestBody", "responseBody"})
+public class OrderSubmission implements Persistable<String> {
+
+    @Id
+    @EqualsAndHashCode.Include
+    @Column(name = "ticket_id", length = 36)
+    private String ticketId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private OrderTicketStatus status;
+
+    @Lob
+    @Column(name = "request_body", nullable = false)
+    private String requestBody;
+
+    @Lob
+    @Column(name = "response_body")
+    private String responseBody;
+
+    @Column(name = "error", length = 500)
+    private String error;
+
+    @Column(name = "claim_id", length = 36)
+    private String claimId;
+
+    @Column(name = "submitted_at", nullable = false)
+    @Builder.Default
+    private LocalDateTime submittedAt = LocalDateTime.now();
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    // Ticket ids are random UUIDs, so save() must always insert rather than look for an existing row
+    @Transient
+    @Builder.Default
+    private boolean newRecord = true;
+
+    @Override
+    public String getId() {
+        return ticketId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRecord;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newRecord = false;
+    }
+}
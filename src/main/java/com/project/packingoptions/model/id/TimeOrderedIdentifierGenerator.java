@@ -0,0 +1,63 @@
+package com.project.packingoptions.model.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.resource.beans.container.spi.BeanContainer;
+import org.hibernate.resource.beans.spi.BeanInstanceProducer;
+import org.hibernate.resource.beans.spi.ManagedBeanRegistry;
+
+/**
+ * Hibernate adapter for {@link TimeOrderedId}. Hibernate instantiates it per entity, so on first
+ * use it fetches the application's {@link TimeOrderedIdGenerator} bean through the session
+ * factory's bean container (Spring's, registered by Spring Boot). Each application context
+ * therefore uses its own generator and node id.
+ */
+public class TimeOrderedIdentifierGenerator implements IdentifierGenerator {
+
+    // Look up the existing singleton instead of letting the container create a new instance
+    private static final BeanContainer.LifecycleOptions EXISTING_BEAN = new BeanContainer.LifecycleOptions() {
+        @Override
+        public boolean canUseCachedReferences() {
+            return true;
+        }
+
+        @Override
+        public boolean useJpaCompliantCreation() {
+            return false;
+        }
+    };
+
+    private static final BeanInstanceProducer NO_FALLBACK = new BeanInstanceProducer() {
+        @Override
+        public <B> B produceBeanInstance(Class<B> beanType) {
+            throw new IllegalStateException("No " + beanType.getSimpleName() + " bean for @TimeOrderedId");
+        }
+
+        @Override
+        public <B> B produceBeanInstance(String name, Class<B> beanType) {
+            return produceBeanInstance(beanType);
+        }
+    };
+
+    private volatile TimeOrderedIdGenerator generator;
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        TimeOrderedIdGenerator current = generator;
+        if (current == null) {
+            current = lookUp(session);
+            generator = current;
+        }
+        return current.nextId();
+    }
+
+    private static TimeOrderedIdGenerator lookUp(SharedSessionContractImplementor session) {
+        BeanContainer beanContainer = session.getFactory().getServiceRegistry()
+                .requireService(ManagedBeanRegistry.class)
+                .getBeanContainer();
+        if (beanContainer == null) {
+            throw new IllegalStateException("@TimeOrderedId needs a bean container providing TimeOrderedIdGenerator");
+        }
+        return beanContainer.getBean(TimeOrderedIdGenerator.class, EXISTING_BEAN, NO_FALLBACK).getBeanInstance();
+    }
+}
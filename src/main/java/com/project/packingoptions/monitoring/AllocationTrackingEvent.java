@@ -0,0 +1,64 @@
+package com.project.packingoptions.monitoring;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Base class for custom flight recorder events that also report the bytes the
+ * current thread allocated between {@link #startTracking()} and {@link #stopTracking()}.
+ * The allocation counter is only read when the event is enabled, so disabled
+ * events cost no more than a plain {@link Event}.
+ */
+abstract class AllocationTrackingEvent extends Event {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = resolveThreadMXBean();
+
+    @Label("Allocated")
+    @Description("Bytes allocated by the recording thread while the event was open")
+    @DataAmount
+    long allocatedBytes;
+
+    private transient long allocationStart;
+
+    protected void startTracking() {
+        if (isEnabled()) {
+            allocationStart = currentThreadAllocatedBytes();
+        }
+        begin();
+    }
+
+    /**
+     * Ends the event and captures the allocation delta.
+     *
+     * @return {@code true} if the event should be committed
+     */
+    protected boolean stopTracking() {
+        end();
+        if (!shouldCommit()) {
+            return false;
+        }
+        allocatedBytes = Math.max(0L, currentThreadAllocatedBytes() - allocationStart);
+        return true;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        if (THREAD_MX_BEAN == null) {
+            return 0L;
+        }
+        return THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean resolveThreadMXBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean sunBean
+                && sunBean.isThreadAllocatedMemorySupported()) {
+            return sunBean;
+        }
+        return null;
+    }
+}
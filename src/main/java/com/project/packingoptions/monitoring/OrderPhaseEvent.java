@@ -0,0 +1,74 @@
+package com.project.packingoptions.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event emitted for each phase of order creation.
+ * Disabled by default; enable it with {@code jfr/packingoptions.jfc}.
+ */
+@Name("com.project.packingoptions.OrderPhase")
+@Label("Order Phase")
+@Category({"PackingOptions", "Orders"})
+@Description("One phase of order creation: catalog load, solve, persist or response mapping")
+@Enabled(false)
+@StackTrace(false)
+public class OrderPhaseEvent extends AllocationTrackingEvent {
+
+    public static final String CATALOG_LOAD = "catalog-load";
+    public static final String SOLVE = "solve";
+    public static final String PERSIST = "persist";
+    public static final String RESPONSE = "response";
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Order Id")
+    @Description("Order id, or 0 when the order has not been persisted yet")
+    long orderId;
+
+    @Label("Product Code")
+    @Description("Product of the line being processed, empty for order-wide phases")
+    String productCode;
+
+    @Label("Quantity")
+    int quantity;
+
+    @Label("Bundle Count")
+    int bundleCount;
+
+    public static OrderPhaseEvent start(String phase) {
+        OrderPhaseEvent event = new OrderPhaseEvent();
+        event.phase = phase;
+        event.startTracking();
+        return event;
+    }
+
+    /**
+     * Completes a per-line phase.
+     */
+    public void finish(String productCode, int quantity, int bundleCount) {
+        if (stopTracking()) {
+            this.productCode = productCode;
+            this.quantity = quantity;
+            this.bundleCount = bundleCount;
+            commit();
+        }
+    }
+
+    /**
+     * Completes an order-wide phase.
+     */
+    public void finish(Long orderId, int quantity, int bundleCount) {
+        if (stopTracking()) {
+            this.orderId = orderId != null ? orderId : 0L;
+            this.quantity = quantity;
+            this.bundleCount = bundleCount;
+            commit();
+        }
+    }
+}
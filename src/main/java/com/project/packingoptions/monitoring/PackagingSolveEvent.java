@@ -0,0 +1,56 @@
+package com.project.packingoptions.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event emitted for every optimal packaging calculation.
+ * Disabled by default; enable it with {@code jfr/packingoptions.jfc}.
+ */
+@Name("com.project.packingoptions.PackagingSolve")
+@Label("Packaging Solve")
+@Category({"PackingOptions", "Orders"})
+@Description("Optimal packaging calculation for a single product line")
+@Enabled(false)
+@StackTrace(false)
+public class PackagingSolveEvent extends AllocationTrackingEvent {
+
+    @Label("Product Code")
+    String productCode;
+
+    @Label("Quantity")
+    int quantity;
+
+    @Label("Bundle Options")
+    @Description("Number of packaging options available to the solver")
+    int bundleOptionCount;
+
+    @Label("Bundle Count")
+    @Description("Total number of packages in the solution")
+    int bundleCount;
+
+    @Label("Strategy")
+    String strategy;
+
+    public static PackagingSolveEvent start() {
+        PackagingSolveEvent event = new PackagingSolveEvent();
+        event.startTracking();
+        return event;
+    }
+
+    public void finish(String productCode, int quantity, int bundleOptionCount, int bundleCount,
+                       String strategy) {
+        if (stopTracking()) {
+            this.productCode = productCode;
+            this.quantity = quantity;
+            this.bundleOptionCount = bundleOptionCount;
+            this.bundleCount = bundleCount;
+            this.strategy = strategy;
+            commit();
+        }
+    }
+}
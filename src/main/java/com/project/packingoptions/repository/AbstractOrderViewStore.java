@@ -0,0 +1,35 @@
+package com.project.packingoptions.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.packingoptions.dto.OrderResponse;
+
+import java.io.IOException;
+
+/**
+ * JSON encoding shared by the order view stores. Documents use the application's
+ * {@link ObjectMapper}, so a stored document is byte-for-byte the body of GET /api/v1/orders/{id}.
+ */
+public abstract class AbstractOrderViewStore implements OrderViewStore {
+
+    private final ObjectMapper objectMapper;
+
+    protected AbstractOrderViewStore(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    protected byte[] toDocument(OrderResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialize order " + response.getOrderId(), e);
+        }
+    }
+
+    protected OrderResponse fromDocument(byte[] document) {
+        try {
+            return objectMapper.readValue(document, OrderResponse.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read order view document", e);
+        }
+    }
+}
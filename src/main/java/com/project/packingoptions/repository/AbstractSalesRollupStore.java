@@ -0,0 +1,54 @@
+package com.project.packingoptions.repository;
+
+import com.project.packingoptions.model.Order;
+import com.project.packingoptions.model.OrderItem;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Turns an order into rollup deltas, shared by the sales rollup stores. The deltas are taken
+ * from the order right away; each store decides how they reach the totals after the commit.
+ */
+public abstract class AbstractSalesRollupStore implements SalesRollupStore {
+
+    @Override
+    public void addOrder(Order order) {
+        record(order.getId(), deltas(order, 1));
+    }
+
+    @Override
+    public void removeOrder(Order order) {
+        record(order.getId(), deltas(order, -1));
+    }
+
+    /**
+     * Records the deltas of one order in the current transaction, to be applied once it commits.
+     */
+    protected abstract void record(Long orderId, Collection<DailySales> deltas);
+
+    /**
+     * One delta per product and bundle size in the order, negated when {@code sign} is -1.
+     */
+    static Collection<DailySales> deltas(Order order, int sign) {
+        LocalDate salesDate = order.getCreatedAt().toLocalDate();
+        Map<String, DailySales> deltas = new LinkedHashMap<>();
+        for (OrderItem item : order.getOrderItems()) {
+            long packages = (long) sign * item.getBundleCount();
+            DailySales delta = new DailySales(item.getProductCode(), salesDate, item.getBundleSize(),
+                    packages * item.getBundleSize(), packages,
+                    item.getPriceAtTime().multiply(BigDecimal.valueOf(packages)));
+            deltas.merge(item.getProductCode() + '/' + item.getBundleSize(), delta, AbstractSalesRollupStore::sum);
+        }
+        return deltas.values();
+    }
+
+    protected static DailySales sum(DailySales row, DailySales delta) {
+        return new DailySales(row.productCode(), row.salesDate(), row.bundleSize(),
+                row.units() + delta.units(), row.packages() + delta.packages(),
+                row.revenue().add(delta.revenue()));
+    }
+}
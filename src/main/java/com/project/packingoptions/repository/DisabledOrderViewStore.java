@@ -0,0 +1,43 @@
+package com.project.packingoptions.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.packingoptions.dto.OrderResponse;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Order view store that stores nothing, for order stores whose writes must not also go through
+ * the main database. Documents are still encoded for the response cache; reads and listings
+ * fall back to the order store.
+ */
+public class DisabledOrderViewStore extends AbstractOrderViewStore {
+
+    public DisabledOrderViewStore(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public byte[] save(OrderResponse response) {
+        return toDocument(response);
+    }
+
+    @Override
+    public Optional<byte[]> findDocument(long orderId) {
+        return Optional.empty();
+    }
+
+    @Override
+    public List<OrderResponse> findAfter(long afterId, int limit) {
+        return List.of();
+    }
+
+    @Override
+    public void delete(long orderId) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.project.packingoptions.repository;
+
+import com.project.packingoptions.model.IdempotencyRecord;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Idempotency key persistence. {@link #saveAndFlush} must fail with a
+ * {@link org.springframework.dao.DataIntegrityViolationException} when the key already exists.
+ */
+public interface IdempotencyRecordRepository extends Repository<IdempotencyRecord, String> {
+
+    Optional<IdempotencyRecord> findById(String idempotencyKey);
+
+    IdempotencyRecord saveAndFlush(IdempotencyRecord record);
+
+    /**
+     * Deletes the records created at or before {@code cutoff} in one statement; must run in a
+     * transaction.
+     *
+     * @return the number of deleted records
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.createdAt <= :cutoff")
+    int deleteCreatedUpTo(@Param("cutoff") LocalDateTime cutoff);
+}
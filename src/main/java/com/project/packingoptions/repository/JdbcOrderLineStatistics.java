@@ -0,0 +1,51 @@
+package com.project.packingoptions.repository;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Order line statistics aggregated by the main database. Lines are found through
+ * idx_order_items_product_order and grouped in the query, so only one row per product and
+ * quantity reaches the application, however many orders the range holds.
+ */
+@Component
+@Profile("!in-memory")
+public class JdbcOrderLineStatistics implements OrderLineStatistics {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcOrderLineStatistics(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void forEachQuantity(Collection<String> productCodes, LocalDateTime createdFrom,
+                                LocalDateTime createdTo, Consumer<QuantityCount> consumer) {
+        if (productCodes.isEmpty()) {
+            return;
+        }
+        String codes = String.join(", ", Collections.nCopies(productCodes.size(), "?"));
+        List<Object> params = new ArrayList<>(productCodes);
+        params.add(Timestamp.valueOf(createdFrom));
+        params.add(Timestamp.valueOf(createdTo));
+        jdbcTemplate.query(
+                "SELECT i.product_code, i.quantity_ordered, COUNT(DISTINCT i.order_id) AS lines "
+                        + "FROM order_items i JOIN orders o ON o.id = i.order_id "
+                        + "WHERE i.product_code IN (" + codes + ") AND o.created_at >= ? AND o.created_at < ? "
+                        + "GROUP BY i.product_code, i.quantity_ordered "
+                        + "ORDER BY i.product_code, i.quantity_ordered",
+                rs -> {
+                    consumer.accept(new QuantityCount(rs.getString("product_code"),
+                            rs.getInt("quantity_ordered"), rs.getLong("lines")));
+                }, params.toArray());
+    }
+}
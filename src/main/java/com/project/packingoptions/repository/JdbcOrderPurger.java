@@ -0,0 +1,55 @@
+package com.project.packingoptions.repository;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Set-based deletes of aged orders from the main database, one bounded chunk at a time. The
+ * caller runs {@link #findExpired} and {@link #delete} in one short transaction per chunk.
+ */
+@Component
+@Profile("!in-memory")
+public class JdbcOrderPurger {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcOrderPurger(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Ids of the oldest orders created before {@code cutoff}, at most {@code limit}. Reads
+     * idx_orders_created_at in index order, and purged rows are gone by the next chunk, so each
+     * chunk starts at the front of the index instead of skipping over deleted entries.
+     */
+    public List<Long> findExpired(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM orders WHERE created_at < ? ORDER BY created_at, id LIMIT ?",
+                Long.class, Timestamp.valueOf(cutoff), limit);
+    }
+
+    /**
+     * Deletes the orders with their items and read-model rows. Sales rollups are kept, so
+     * analytics still cover purged orders.
+     */
+    public PurgedChunk delete(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return new PurgedChunk(0, 0);
+        }
+        String ids = String.join(", ", Collections.nCopies(orderIds.size(), "?"));
+        Object[] params = orderIds.toArray();
+        int items = jdbcTemplate.update("DELETE FROM order_items WHERE order_id IN (" + ids + ")", params);
+        jdbcTemplate.update("DELETE FROM order_view WHERE order_id IN (" + ids + ")", params);
+        int orders = jdbcTemplate.update("DELETE FROM orders WHERE id IN (" + ids + ")", params);
+        return new PurgedChunk(orders, items);
+    }
+
+    public record PurgedChunk(int orders, int items) {
+    }
+}
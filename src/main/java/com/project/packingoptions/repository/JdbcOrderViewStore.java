@@ -0,0 +1,64 @@
+package com.project.packingoptions.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.packingoptions.dto.OrderResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Order view kept in the {@code order_view} table of the main database. The JdbcTemplate joins
+ * the surrounding JPA transaction, so a view row commits or rolls back with its order. Every
+ * read is a primary-key lookup or range scan.
+ */
+@Component
+@Profile("!in-memory")
+public class JdbcOrderViewStore extends AbstractOrderViewStore {
+
+    private static final String MERGE_VIEW =
+            "MERGE INTO order_view (order_id, created_at, total_price, total_packages, document, document_version) "
+                    + "KEY (order_id) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcOrderViewStore(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        super(objectMapper);
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public byte[] save(OrderResponse response) {
+        byte[] document = toDocument(response);
+        jdbcTemplate.update(MERGE_VIEW, response.getOrderId(), Timestamp.valueOf(response.getCreatedAt()),
+                response.getTotalPrice(), response.getTotalPackages(), document, DOCUMENT_VERSION);
+        return document;
+    }
+
+    @Override
+    public Optional<byte[]> findDocument(long orderId) {
+        List<byte[]> documents = jdbcTemplate.query("SELECT document FROM order_view WHERE order_id = ?",
+                (rs, rowNum) -> rs.getBytes(1), orderId);
+        return documents.stream().findFirst();
+    }
+
+    @Override
+    public boolean hasStaleDocuments() {
+        return !jdbcTemplate.queryForList("SELECT 1 FROM order_view WHERE document_version < ? LIMIT 1",
+                Integer.class, DOCUMENT_VERSION).isEmpty();
+    }
+
+    @Override
+    public List<OrderResponse> findAfter(long afterId, int limit) {
+        return jdbcTemplate.query("SELECT document FROM order_view WHERE order_id > ? ORDER BY order_id LIMIT ?",
+                (rs, rowNum) -> fromDocument(rs.getBytes(1)), afterId, limit);
+    }
+
+    @Override
+    public void delete(long orderId) {
+        jdbcTemplate.update("DELETE FROM order_view WHERE order_id = ?", orderId);
+    }
+}
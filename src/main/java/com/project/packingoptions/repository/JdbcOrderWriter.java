@@ -0,0 +1,65 @@
+package com.project.packingoptions.repository;
+
+import com.project.packingoptions.model.Order;
+import com.project.packingoptions.model.OrderItem;
+import com.project.packingoptions.model.id.TimeOrderedIdGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+/**
+ * Writes orders with plain prepared statements: one insert for the order and one JDBC batch
+ * for its items. Created orders are never modified in the same transaction, so skipping the
+ * persistence context (dirty checking, cascades) loses nothing. Ids not already assigned come
+ * from the {@link TimeOrderedIdGenerator}, so neither statement waits on a generated key.
+ */
+@Component
+@ConditionalOnProperty(name = "orders.writer", havingValue = "jdbc")
+@RequiredArgsConstructor
+public class JdbcOrderWriter implements OrderWriter {
+
+    private static final String INSERT_ORDER =
+            "INSERT INTO orders (id, created_at, total_price) VALUES (?, ?, ?)";
+
+    private static final String INSERT_ORDER_ITEM =
+            "INSERT INTO order_items (id, order_id, product_code, quantity_ordered, bundle_size, "
+                    + "bundle_count, price_at_time) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TimeOrderedIdGenerator idGenerator;
+
+    @Override
+    public Order write(Order order) {
+        if (order.getId() == null) {
+            order.setId(idGenerator.nextId());
+        }
+        for (OrderItem item : order.getOrderItems()) {
+            if (item.getId() == null) {
+                item.setId(idGenerator.nextId());
+            }
+        }
+        long orderId = order.getId();
+
+        jdbcTemplate.update(INSERT_ORDER, orderId, Timestamp.valueOf(order.getCreatedAt()), order.getTotalPrice());
+        if (!order.getOrderItems().isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ORDER_ITEM, order.getOrderItems(), order.getOrderItems().size(),
+                    (statement, item) -> bindItem(statement, orderId, item));
+        }
+        return order;
+    }
+
+    private void bindItem(PreparedStatement statement, long orderId, OrderItem item) throws SQLException {
+        statement.setLong(1, item.getId());
+        statement.setLong(2, orderId);
+        statement.setString(3, item.getProductCode());
+        statement.setInt(4, item.getQuantityOrdered());
+        statement.setInt(5, item.getBundleSize());
+        statement.setInt(6, item.getBundleCount());
+        statement.setBigDecimal(7, item.getPriceAtTime());
+    }
+}
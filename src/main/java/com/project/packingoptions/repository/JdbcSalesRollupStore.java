@@ -0,0 +1,158 @@
+package com.project.packingoptions.repository;
+
+import com.project.packingoptions.dto.SalesMetric;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sales rollup kept in the {@code product_sales_daily} table of the main database. An order's
+ * deltas are appended to {@code sales_rollup_queue} in the order's transaction, which locks no
+ * shared row and commits or rolls back with the order. Every
+ * {@code orders.rollup.apply-interval-ms} the queue is drained in batches: each batch claims its
+ * rows with {@code SKIP LOCKED}, merges them into the rollup and deletes them in one transaction,
+ * so a failed batch stays queued and is retried. Deltas commute, so nodes may drain batches in
+ * any order; a row is removed only once all its totals are back to zero. Product reports are a
+ * primary-key range scan; the top products report aggregates the date range's rows.
+ */
+@Component
+@Profile("!in-memory")
+@Slf4j
+public class JdbcSalesRollupStore extends AbstractSalesRollupStore {
+
+    private static final String INSERT_QUEUED =
+            "INSERT INTO sales_rollup_queue (product_code, sales_date, bundle_size, units, packages, revenue) "
+                    + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String CLAIM_QUEUED =
+            "SELECT id, product_code, sales_date, bundle_size, units, packages, revenue "
+                    + "FROM sales_rollup_queue ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String MERGE_DELTA =
+            "MERGE INTO product_sales_daily t "
+                    + "USING (VALUES (CAST(? AS VARCHAR(20)), CAST(? AS DATE), CAST(? AS INTEGER), "
+                    + "CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS NUMERIC(14, 2)))) "
+                    + "AS d (product_code, sales_date, bundle_size, units, packages, revenue) "
+                    + "ON t.product_code = d.product_code AND t.sales_date = d.sales_date "
+                    + "AND t.bundle_size = d.bundle_size "
+                    + "WHEN MATCHED AND t.packages + d.packages = 0 AND t.revenue + d.revenue = 0 THEN DELETE "
+                    + "WHEN MATCHED THEN UPDATE SET units = t.units + d.units, "
+                    + "packages = t.packages + d.packages, revenue = t.revenue + d.revenue "
+                    + "WHEN NOT MATCHED THEN INSERT "
+                    + "(product_code, sales_date, bundle_size, units, packages, revenue) "
+                    + "VALUES (d.product_code, d.sales_date, d.bundle_size, d.units, d.packages, d.revenue)";
+
+    static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public JdbcSalesRollupStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    protected void record(Long orderId, Collection<DailySales> deltas) {
+        jdbcTemplate.batchUpdate(INSERT_QUEUED, deltas.stream().map(JdbcSalesRollupStore::toRow).toList());
+    }
+
+    /**
+     * Drains the queue on the {@code orders.rollup.apply-interval-ms} schedule.
+     */
+    @Scheduled(fixedDelayString = "${orders.rollup.apply-interval-ms:1000}",
+            initialDelayString = "${orders.rollup.apply-interval-ms:1000}")
+    public void applyQueued() {
+        try {
+            applyPending();
+        } catch (DataAccessException ex) {
+            // The failed batch rolled back and stays queued for the next run
+            log.warn("Applying sales rollup deltas failed: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public int applyPending() {
+        int applied = 0;
+        int claimed;
+        do {
+            claimed = transactionTemplate.execute(status -> applyBatch());
+            applied += claimed;
+        } while (claimed == BATCH_SIZE);
+        return applied;
+    }
+
+    private int applyBatch() {
+        List<Long> ids = new ArrayList<>();
+        Map<String, DailySales> totals = new LinkedHashMap<>();
+        jdbcTemplate.query(CLAIM_QUEUED, rs -> {
+            ids.add(rs.getLong("id"));
+            DailySales delta = new DailySales(rs.getString("product_code"), rs.getDate("sales_date").toLocalDate(),
+                    rs.getInt("bundle_size"), rs.getLong("units"), rs.getLong("packages"),
+                    rs.getBigDecimal("revenue"));
+            totals.merge(delta.productCode() + '/' + delta.salesDate() + '/' + delta.bundleSize(), delta,
+                    AbstractSalesRollupStore::sum);
+        }, BATCH_SIZE);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        // An order created and deleted within one batch cancels out
+        List<Object[]> rows = totals.values().stream()
+                .filter(delta -> delta.packages() != 0 || delta.revenue().signum() != 0)
+                .map(JdbcSalesRollupStore::toRow)
+                .toList();
+        jdbcTemplate.batchUpdate(MERGE_DELTA, rows);
+        jdbcTemplate.batchUpdate("DELETE FROM sales_rollup_queue WHERE id = ?",
+                ids.stream().map(id -> new Object[]{id}).toList());
+        return ids.size();
+    }
+
+    private static Object[] toRow(DailySales delta) {
+        return new Object[]{delta.productCode(), Date.valueOf(delta.salesDate()), delta.bundleSize(),
+                delta.units(), delta.packages(), delta.revenue()};
+    }
+
+    @Override
+    public List<DailySales> findByProduct(String productCode, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query(
+                "SELECT product_code, sales_date, bundle_size, units, packages, revenue "
+                        + "FROM product_sales_daily WHERE product_code = ? AND sales_date BETWEEN ? AND ? "
+                        + "ORDER BY sales_date, bundle_size",
+                (rs, rowNum) -> new DailySales(rs.getString("product_code"),
+                        rs.getDate("sales_date").toLocalDate(), rs.getInt("bundle_size"),
+                        rs.getLong("units"), rs.getLong("packages"), rs.getBigDecimal("revenue")),
+                productCode, Date.valueOf(from), Date.valueOf(to));
+    }
+
+    @Override
+    public List<ProductSales> findTopProducts(LocalDate from, LocalDate to, SalesMetric metric, int limit) {
+        return jdbcTemplate.query(
+                "SELECT product_code, SUM(units) AS units, SUM(packages) AS packages, SUM(revenue) AS revenue "
+                        + "FROM product_sales_daily WHERE sales_date BETWEEN ? AND ? GROUP BY product_code "
+                        + "ORDER BY " + orderColumn(metric) + " DESC, product_code LIMIT ?",
+                (rs, rowNum) -> new ProductSales(rs.getString("product_code"), rs.getLong("units"),
+                        rs.getLong("packages"), rs.getBigDecimal("revenue")),
+                Date.valueOf(from), Date.valueOf(to), limit);
+    }
+
+    private static String orderColumn(SalesMetric metric) {
+        return switch (metric) {
+            case UNITS -> "units";
+            case PACKAGES -> "packages";
+            case REVENUE -> "revenue";
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.project.packingoptions.repository;
+
+import com.project.packingoptions.model.Order;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes orders through the JPA repository, cascading to the items.
+ */
+@Component
+@ConditionalOnProperty(name = "orders.writer", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaOrderWriter implements OrderWriter {
+
+    private final OrderRepository orderRepository;
+
+    @Override
+    public Order write(Order order) {
+        return orderRepository.save(order);
+    }
+}
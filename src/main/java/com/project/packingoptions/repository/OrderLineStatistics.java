@@ -0,0 +1,23 @@
+package com.project.packingoptions.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * How often each quantity of a product was ordered. A line is one product in one order; all
+ * items of a line carry the line's {@code quantity_ordered}, so lines are counted per order.
+ */
+public interface OrderLineStatistics {
+
+    /**
+     * Passes the number of lines per product and ordered quantity, for orders created in
+     * {@code [createdFrom, createdTo)}, to {@code consumer}, ordered by product code and quantity.
+     * Counts are aggregated before they are read, so memory does not grow with the number of lines.
+     */
+    void forEachQuantity(Collection<String> productCodes, LocalDateTime createdFrom, LocalDateTime createdTo,
+                         Consumer<QuantityCount> consumer);
+
+    record QuantityCount(String productCode, int quantity, long lines) {
+    }
+}
@@ -1,10 +1,34 @@
 package com.project.packingoptions.repository;
 
 import com.project.packingoptions.model.Order;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.repository.Repository;
 
-@Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
+import java.util.List;
+import java.util.Optional;
 
+/**
+ * Order persistence operations used by the services. Declared explicitly rather than inherited
+ * from JpaRepository so that non-JPA stores (see {@code repository.journal}) can implement it.
+ */
+public interface OrderRepository extends Repository<Order, Long>, OrderSearchRepository {
+
+    Order save(Order order);
+
+    Optional<Order> findById(Long id);
+
+    @EntityGraph(attributePaths = "orderItems")
+    List<Order> findAll();
+
+    /**
+     * Keyset page: orders with ids above {@code afterId} in ascending id order. Items are
+     * batch-loaded for the whole page (see {@link Order#getOrderItems()}), since fetch-joining a
+     * collection would make Hibernate apply the limit in memory.
+     */
+    List<Order> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    boolean existsById(Long id);
+
+    void deleteById(Long id);
 }
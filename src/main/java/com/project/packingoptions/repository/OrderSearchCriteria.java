@@ -0,0 +1,39 @@
+package com.project.packingoptions.repository;
+
+import com.project.packingoptions.model.Order;
+import com.project.packingoptions.model.OrderItem;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Order search filters; {@code null} fields are not applied. {@code createdFrom} is inclusive,
+ * {@code createdTo} exclusive, and both total bounds are inclusive.
+ */
+public record OrderSearchCriteria(String productCode,
+                                  LocalDateTime createdFrom,
+                                  LocalDateTime createdTo,
+                                  BigDecimal minTotal,
+                                  BigDecimal maxTotal) {
+
+    /**
+     * Evaluates the filters against a loaded order, for stores without a query engine.
+     */
+    public boolean matches(Order order) {
+        if (createdFrom != null && order.getCreatedAt().isBefore(createdFrom)) {
+            return false;
+        }
+        if (createdTo != null && !order.getCreatedAt().isBefore(createdTo)) {
+            return false;
+        }
+        if (minTotal != null && order.getTotalPrice().compareTo(minTotal) < 0) {
+            return false;
+        }
+        if (maxTotal != null && order.getTotalPrice().compareTo(maxTotal) > 0) {
+            return false;
+        }
+        return productCode == null || order.getOrderItems().stream()
+                .map(OrderItem::getProductCode)
+                .anyMatch(productCode::equals);
+    }
+}
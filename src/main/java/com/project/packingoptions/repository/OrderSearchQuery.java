@@ -0,0 +1,50 @@
+package com.project.packingoptions.repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Native SQL for a keyset page of order search, shared by the main database and the order
+ * shards. Every filter is an index range: the product filter is an EXISTS subquery on
+ * idx_order_items_product_order, the date range uses idx_orders_created_at and the total range
+ * idx_orders_total_price, each ending in id so the keyset condition narrows the same range.
+ *
+ * @param sql        the query, with positional parameters
+ * @param parameters values for the parameters, in order
+ */
+public record OrderSearchQuery(String sql, List<Object> parameters) {
+
+    /**
+     * Builds the query selecting {@code columns} of {@code orders o} for orders matching
+     * {@code criteria} with ids above {@code afterId}, ascending, at most {@code limit}.
+     */
+    public static OrderSearchQuery of(String columns, OrderSearchCriteria criteria, long afterId, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(columns).append(" FROM orders o WHERE o.id > ?");
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(afterId);
+        if (criteria.createdFrom() != null) {
+            sql.append(" AND o.created_at >= ?");
+            parameters.add(Timestamp.valueOf(criteria.createdFrom()));
+        }
+        if (criteria.createdTo() != null) {
+            sql.append(" AND o.created_at < ?");
+            parameters.add(Timestamp.valueOf(criteria.createdTo()));
+        }
+        if (criteria.minTotal() != null) {
+            sql.append(" AND o.total_price >= ?");
+            parameters.add(criteria.minTotal());
+        }
+        if (criteria.maxTotal() != null) {
+            sql.append(" AND o.total_price <= ?");
+            parameters.add(criteria.maxTotal());
+        }
+        if (criteria.productCode() != null) {
+            sql.append(" AND EXISTS (SELECT 1 FROM order_items i WHERE i.order_id = o.id AND i.product_code = ?)");
+            parameters.add(criteria.productCode());
+        }
+        sql.append(" ORDER BY o.id LIMIT ?");
+        parameters.add(limit);
+        return new OrderSearchQuery(sql.toString(), List.copyOf(parameters));
+    }
+}
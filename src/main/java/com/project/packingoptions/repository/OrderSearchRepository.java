@@ -0,0 +1,18 @@
+package com.project.packingoptions.repository;
+
+import com.project.packingoptions.model.Order;
+
+import java.util.List;
+
+/**
+ * Order search, a fragment of {@link OrderRepository}. The JPA implementation is
+ * {@link OrderSearchRepositoryImpl}; the other order stores implement it themselves.
+ */
+public interface OrderSearchRepository {
+
+    /**
+     * Keyset page of orders matching {@code criteria}: ids above {@code afterId}, ascending, at
+     * most {@code limit}, with their items loaded.
+     */
+    List<Order> search(OrderSearchCriteria criteria, long afterId, int limit);
+}
@@ -0,0 +1,38 @@
+package com.project.packingoptions.repository;
+
+import com.project.packingoptions.model.Order;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.util.List;
+
+/**
+ * JPA search in two steps: the indexed {@link OrderSearchQuery} selects one page of ids, then
+ * the orders are fetch-joined with their items. Limiting the id query instead of the fetch join
+ * keeps Hibernate from paging the joined rows in memory.
+ */
+public class OrderSearchRepositoryImpl implements OrderSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Order> search(OrderSearchCriteria criteria, long afterId, int limit) {
+        OrderSearchQuery search = OrderSearchQuery.of("o.id", criteria, afterId, limit);
+        Query query = entityManager.createNativeQuery(search.sql());
+        for (int i = 0; i < search.parameters().size(); i++) {
+            query.setParameter(i + 1, search.parameters().get(i));
+        }
+        List<Long> ids = ((List<?>) query.getResultList()).stream()
+                .map(id -> ((Number) id).longValue())
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery(
+                        "SELECT o FROM Order o LEFT JOIN FETCH o.orderItems WHERE o.id IN :ids ORDER BY o.id", Order.class)
+                .setParameter("ids", ids)
+                .getResultList();
+    }
+}
@@ -0,0 +1,83 @@
+package com.project.packingoptions.repository;
+
+import com.project.packingoptions.dto.OrderTicketStatus;
+import com.project.packingoptions.model.OrderSubmission;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Order submission tickets. The modifying queries change a ticket only from the state they
+ * expect, so nodes sharing the table cannot process the same ticket twice; they must run in a
+ * transaction.
+ */
+public interface OrderSubmissionRepository extends Repository<OrderSubmission, String> {
+
+    Optional<OrderSubmission> findById(String ticketId);
+
+    OrderSubmission saveAndFlush(OrderSubmission submission);
+
+    void deleteById(String ticketId);
+
+    /**
+     * Ids of tickets still queued that were submitted at or before {@code cutoff}, oldest first.
+     */
+    @Query("SELECT s.ticketId FROM OrderSubmission s"
+            + " WHERE s.status = com.project.packingoptions.dto.OrderTicketStatus.QUEUED"
+            + " AND s.submittedAt <= :cutoff ORDER BY s.submittedAt")
+    List<String> findQueuedUpTo(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * Moves a queued ticket to {@code PROCESSING} under {@code claimId}.
+     *
+     * @return 1 if claimed, 0 if the ticket is gone or another worker claimed it first
+     */
+    @Modifying
+    @Query("UPDATE OrderSubmission s SET s.status = com.project.packingoptions.dto.OrderTicketStatus.PROCESSING,"
+            + " s.claimId = :claimId, s.startedAt = :startedAt"
+            + " WHERE s.ticketId = :ticketId AND s.status = com.project.packingoptions.dto.OrderTicketStatus.QUEUED")
+    int claim(@Param("ticketId") String ticketId, @Param("claimId") String claimId,
+              @Param("startedAt") LocalDateTime startedAt);
+
+    /**
+     * Records the outcome of a claimed ticket.
+     *
+     * @return 1 if recorded, 0 if the claim was lost because the ticket was re-queued
+     */
+    @Modifying
+    @Query("UPDATE OrderSubmission s SET s.status = :status, s.responseBody = :responseBody,"
+            + " s.error = :error, s.completedAt = :completedAt"
+            + " WHERE s.ticketId = :ticketId AND s.claimId = :claimId"
+            + " AND s.status = com.project.packingoptions.dto.OrderTicketStatus.PROCESSING")
+    int finish(@Param("ticketId") String ticketId, @Param("claimId") String claimId,
+               @Param("status") OrderTicketStatus status, @Param("responseBody") String responseBody,
+               @Param("error") String error, @Param("completedAt") LocalDateTime completedAt);
+
+    /**
+     * Puts tickets that started processing at or before {@code cutoff} back in the queue,
+     * dropping their claims.
+     *
+     * @return the number of re-queued tickets
+     */
+    @Modifying
+    @Query("UPDATE OrderSubmission s SET s.status = com.project.packingoptions.dto.OrderTicketStatus.QUEUED,"
+            + " s.claimId = NULL, s.startedAt = NULL"
+            + " WHERE s.status = com.project.packingoptions.dto.OrderTicketStatus.PROCESSING"
+            + " AND s.startedAt <= :cutoff")
+    int requeueStartedUpTo(@Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Deletes the tickets completed at or before {@code cutoff} in one statement.
+     *
+     * @return the number of deleted tickets
+     */
+    @Modifying
+    @Query("DELETE FROM OrderSubmission s WHERE s.completedAt <= :cutoff")
+    int deleteCompletedUpTo(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,50 @@
+package com.project.packingoptions.repository;
+
+import com.project.packingoptions.dto.OrderResponse;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Denormalized read model of orders: each order's response is stored as one JSON document, so
+ * reads and listings need neither the items nor the catalog. Writes go through
+ * {@link com.project.packingoptions.service.OrderService} in the same transaction as the order.
+ */
+public interface OrderViewStore {
+
+    /**
+     * Version of the document format written by {@link #save}. Increase it when the JSON of
+     * {@link OrderResponse} changes, so views written in the old format are rebuilt at startup.
+     */
+    int DOCUMENT_VERSION = 2;
+
+    /**
+     * Whether views are stored at all; when not, listings are read from the order store.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Stores or replaces the view of the order.
+     *
+     * @return the stored JSON document
+     */
+    byte[] save(OrderResponse response);
+
+    Optional<byte[]> findDocument(long orderId);
+
+    /**
+     * Whether any view was stored with a document version below {@link #DOCUMENT_VERSION}.
+     */
+    default boolean hasStaleDocuments() {
+        return false;
+    }
+
+    /**
+     * Views of orders with ids above {@code afterId}, in ascending id order.
+     */
+    List<OrderResponse> findAfter(long afterId, int limit);
+
+    void delete(long orderId);
+}
@@ -0,0 +1,18 @@
+package com.project.packingoptions.repository;
+
+import com.project.packingoptions.model.Order;
+
+/**
+ * Persists newly created orders together with their items.
+ * The implementation is chosen with {@code orders.writer}: {@code jpa} (default) or {@code jdbc}.
+ */
+public interface OrderWriter {
+
+    /**
+     * Inserts the order and its items within the caller's transaction.
+     *
+     * @param order a new order whose items reference it
+     * @return the order with its generated id assigned
+     */
+    Order write(Order order);
+}
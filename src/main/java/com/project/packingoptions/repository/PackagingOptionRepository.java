@@ -1,14 +1,26 @@
 package com.project.packingoptions.repository;
 
-
 import com.project.packingoptions.model.PackagingOption;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
+import org.springframework.data.repository.Repository;
 
 import java.util.List;
+import java.util.Optional;
+
+/**
+ * Packaging option persistence operations. Declared explicitly (see {@link OrderRepository}) so
+ * the in-memory backend can implement them.
+ */
+public interface PackagingOptionRepository extends Repository<PackagingOption, Long> {
+
+    PackagingOption save(PackagingOption packagingOption);
+
+    List<PackagingOption> findAll();
+
+    Optional<PackagingOption> findById(Long id);
+
+    boolean existsById(Long id);
 
-@Repository
-public interface PackagingOptionRepository extends JpaRepository<PackagingOption, Long> {
+    void deleteById(Long id);
 
     List<PackagingOption> findByProductCode(String productCode);
 
@@ -1,15 +1,26 @@
 package com.project.packingoptions.repository;
 
 import com.project.packingoptions.model.Product;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
+import org.springframework.data.repository.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
-@Repository
-public interface ProductRepository extends JpaRepository<Product,String> {
+/**
+ * Product persistence operations. Declared explicitly (see {@link OrderRepository}) so the
+ * in-memory backend can implement them.
+ */
+public interface ProductRepository extends Repository<Product, String> {
+
+    Product save(Product product);
+
+    List<Product> findAll();
+
+    List<Product> findAllById(Iterable<String> codes);
+
     Optional<Product> findByCode(String code);
+
     boolean existsByCode(String code);
-    void deleteByCode(String code);
 
+    void deleteByCode(String code);
 }
@@ -0,0 +1,41 @@
+package com.project.packingoptions.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Undo actions for order stores that commit a write on their own instead of joining the
+ * caller's transaction (the journal and the shards). The undo runs if the caller's transaction
+ * rolls back, so an order does not outlive the transaction that wrote its idempotency record
+ * and view.
+ */
+@Slf4j
+public final class RollbackCompensation {
+
+    private RollbackCompensation() {
+    }
+
+    /**
+     * Runs {@code undo} if the current transaction rolls back; does nothing when none is active.
+     */
+    public static void onRollback(Long orderId, Runnable undo) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                try {
+                    undo.run();
+                    log.info("Removed order {} after its transaction rolled back", orderId);
+                } catch (RuntimeException ex) {
+                    log.error("Failed to remove order {} after its transaction rolled back", orderId, ex);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,54 @@
+package com.project.packingoptions.repository;
+
+import com.project.packingoptions.dto.SalesMetric;
+import com.project.packingoptions.model.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Sales totals per product, day and bundle size. An order's create or delete is recorded as
+ * deltas in the order's transaction and added to the totals after it commits, so the totals
+ * follow the stored orders without holding the order transaction on shared rows, and
+ * analytics never read order items.
+ */
+public interface SalesRollupStore {
+
+    /**
+     * Adds the order's items to the totals of the day it was created, once the current
+     * transaction commits.
+     */
+    void addOrder(Order order);
+
+    /**
+     * Subtracts the order's items again; rows that drop to zero are removed.
+     */
+    void removeOrder(Order order);
+
+    /**
+     * Adds committed deltas that are still waiting to the totals.
+     *
+     * @return the number of deltas applied, 0 for stores that apply them on commit
+     */
+    int applyPending();
+
+    /**
+     * Rollup rows of one product between {@code from} and {@code to} inclusive, ordered by day
+     * and bundle size.
+     */
+    List<DailySales> findByProduct(String productCode, LocalDate from, LocalDate to);
+
+    /**
+     * Per-product totals between {@code from} and {@code to} inclusive, highest {@code metric}
+     * first, ties broken by product code.
+     */
+    List<ProductSales> findTopProducts(LocalDate from, LocalDate to, SalesMetric metric, int limit);
+
+    record DailySales(String productCode, LocalDate salesDate, int bundleSize,
+                      long units, long packages, BigDecimal revenue) {
+    }
+
+    record ProductSales(String productCode, long units, long packages, BigDecimal revenue) {
+    }
+}
@@ -0,0 +1,105 @@
+package com.project.packingoptions.repository.journal;
+
+import com.project.packingoptions.model.Order;
+import com.project.packingoptions.repository.OrderRepository;
+import com.project.packingoptions.repository.OrderSearchCriteria;
+import com.project.packingoptions.repository.OrderWriter;
+import com.project.packingoptions.repository.RollbackCompensation;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Order store backed by an {@link OrderJournal} instead of the orders/order_items tables.
+ * Enabled with {@code orders.store=journal}; it then replaces both the JPA repository and the
+ * configured {@link OrderWriter}. Records are forced to disk every
+ * {@code orders.journal.sync-interval-ms}, so a crash can lose at most that window of orders.
+ * An appended order is deleted again if the caller's transaction rolls back.
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "orders.store", havingValue = "journal")
+public class JournalOrderRepository implements OrderRepository, OrderWriter {
+
+    private final OrderJournal journal;
+
+    public JournalOrderRepository(@Value("${orders.journal.directory:./data/order-journal}") Path directory,
+                                  @Value("${orders.journal.segment-size-mb:64}") int segmentSizeMb) {
+        this(new OrderJournal(directory, segmentSizeMb * 1024 * 1024));
+    }
+
+    JournalOrderRepository(OrderJournal journal) {
+        this.journal = journal;
+        log.info("Using order journal store with {} live orders", journal.size());
+    }
+
+    @Override
+    public Order write(Order order) {
+        return save(order);
+    }
+
+    @Override
+    public Order save(Order order) {
+        if (order.getId() != null) {
+            throw new UnsupportedOperationException("Order journal is append-only; orders cannot be updated");
+        }
+        Order appended = journal.append(order);
+        // The append is not part of the caller's transaction; delete the order if that rolls back
+        long id = appended.getId();
+        RollbackCompensation.onRollback(id, () -> journal.delete(id));
+        return appended;
+    }
+
+    @Override
+    public Optional<Order> findById(Long id) {
+        return journal.find(id);
+    }
+
+    @Override
+    public List<Order> findAll() {
+        List<Order> orders = new ArrayList<>(journal.size());
+        journal.scan(orders::add);
+        return orders;
+    }
+
+    @Override
+    public List<Order> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit) {
+        return journal.findAfter(afterId, limit.isLimited() ? limit.max() : Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Order> search(OrderSearchCriteria criteria, long afterId, int limit) {
+        return journal.findAfter(afterId, limit, criteria::matches);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return journal.contains(id);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        journal.delete(id);
+    }
+
+    @Scheduled(fixedDelayString = "${orders.journal.sync-interval-ms:1000}")
+    public void sync() {
+        journal.sync();
+    }
+
+    @PreDestroy
+    public void close() {
+        journal.close();
+    }
+}
@@ -0,0 +1,351 @@
+package com.project.packingoptions.repository.journal;
+
+import com.project.packingoptions.model.Order;
+import com.project.packingoptions.model.OrderItem;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only order journal stored in memory-mapped segment files.
+ *
+ * <p>Each record is {@code length(4) crc32c(4) payload(length)} (payload layout in
+ * {@link OrderRecordCodec}); a zero length marks the end of a segment's data. Deletes append a
+ * tombstone. An in-memory index maps live order ids to record locations; listing scans segments
+ * sequentially. Appends are serialized, reads are lock-free.
+ *
+ * <p>On open, segments are replayed to rebuild the index. A record in the last segment that is
+ * truncated or fails its CRC is treated as a torn write from a crash: it and everything after it
+ * is zeroed. The same damage in an earlier segment is reported as corruption.
+ */
+@Slf4j
+public class OrderJournal implements Closeable {
+
+    static final int HEADER_BYTES = 8;
+
+    private static final String SEGMENT_PREFIX = "orders-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final int ZERO_CHUNK = 64 * 1024;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    private final Map<Long, Location> index = new ConcurrentHashMap<>();
+
+    private long nextOrderId = 1;
+    private long nextItemId = 1;
+    private int writeOffset;
+    private boolean dirty;
+
+    public OrderJournal(Path directory, int segmentSize) {
+        int minimumSize = HEADER_BYTES + OrderRecordCodec.ORDER_FIXED_BYTES
+                + OrderRecordCodec.MAX_ITEMS * OrderRecordCodec.ITEM_BYTES;
+        if (segmentSize < minimumSize) {
+            throw new IllegalArgumentException("Segment size must be at least " + minimumSize + " bytes");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open order journal in " + directory, e);
+        }
+    }
+
+    /**
+     * Assigns ids to the order and its items and appends it.
+     */
+    public synchronized Order append(Order order) {
+        order.setId(nextOrderId++);
+        for (OrderItem item : order.getOrderItems()) {
+            item.setId(nextItemId++);
+        }
+        Location location = write(OrderRecordCodec.encodeOrder(order));
+        index.put(order.getId(), location);
+        return order;
+    }
+
+    /**
+     * Appends a tombstone for the order.
+     *
+     * @return false if the order was not live
+     */
+    public synchronized boolean delete(long orderId) {
+        if (!index.containsKey(orderId)) {
+            return false;
+        }
+        write(OrderRecordCodec.encodeDelete(orderId));
+        index.remove(orderId);
+        return true;
+    }
+
+    public boolean contains(long orderId) {
+        return index.containsKey(orderId);
+    }
+
+    public Optional<Order> find(long orderId) {
+        Location location = index.get(orderId);
+        if (location == null) {
+            return Optional.empty();
+        }
+        return Optional.of(OrderRecordCodec.decodeOrder(payloadAt(location)));
+    }
+
+    /**
+     * Live orders with ids above {@code afterId}, ascending, at most {@code limit}. Ids are dense,
+     * so this walks the index instead of scanning the segments.
+     */
+    public List<Order> findAfter(long afterId, int limit) {
+        return findAfter(afterId, limit, order -> true);
+    }
+
+    /**
+     * Like {@link #findAfter(long, int)}, keeping only orders accepted by {@code filter}. Every
+     * order after {@code afterId} is decoded until the page is full.
+     */
+    public List<Order> findAfter(long afterId, int limit, Predicate<Order> filter) {
+        long lastId;
+        synchronized (this) {
+            lastId = nextOrderId - 1;
+        }
+        List<Order> orders = new ArrayList<>();
+        for (long id = Math.max(afterId, 0) + 1; id <= lastId && orders.size() < limit; id++) {
+            find(id).filter(filter).ifPresent(orders::add);
+        }
+        return orders;
+    }
+
+    /**
+     * Visits live orders in append order by scanning the segments.
+     */
+    public void scan(Consumer<Order> consumer) {
+        for (Segment segment : segments) {
+            int offset = 0;
+            int end = scanLimit(segment);
+            while (offset + HEADER_BYTES <= end) {
+                int length = segment.buffer.getInt(offset);
+                if (length == 0) {
+                    break;
+                }
+                Location location = new Location(segment.number, offset, length);
+                ByteBuffer payload = payloadAt(location);
+                if (OrderRecordCodec.peekType(payload) == OrderRecordCodec.TYPE_ORDER
+                        && location.equals(index.get(OrderRecordCodec.peekOrderId(payload)))) {
+                    consumer.accept(OrderRecordCodec.decodeOrder(payload));
+                }
+                offset += HEADER_BYTES + length;
+            }
+        }
+    }
+
+    /**
+     * Number of live orders.
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Forces written records to storage. Called periodically rather than per append.
+     */
+    public synchronized void sync() {
+        if (dirty) {
+            currentSegment().buffer.force();
+            dirty = false;
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        sync();
+        for (Segment segment : segments) {
+            try {
+                segment.channel.close();
+            } catch (IOException e) {
+                log.warn("Failed to close journal segment {}", segment.path, e);
+            }
+        }
+    }
+
+    synchronized int currentWriteOffset() {
+        return writeOffset;
+    }
+
+    private synchronized int scanLimit(Segment segment) {
+        return segment == currentSegment() ? writeOffset : segmentSize;
+    }
+
+    List<Path> segmentPaths() {
+        return segments.stream().map(Segment::path).toList();
+    }
+
+    Path segmentPath(int number) {
+        return directory.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+
+    private Location write(ByteBuffer payload) {
+        int length = payload.remaining();
+        if (writeOffset + HEADER_BYTES + length > segmentSize) {
+            sync();
+            segments.add(openSegment(currentSegment().number + 1));
+            writeOffset = 0;
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+
+        Segment segment = currentSegment();
+        segment.buffer.put(writeOffset + HEADER_BYTES, payload, payload.position(), length);
+        segment.buffer.putInt(writeOffset + 4, (int) crc.getValue());
+        segment.buffer.putInt(writeOffset, length);
+
+        Location location = new Location(segment.number, writeOffset, length);
+        writeOffset += HEADER_BYTES + length;
+        dirty = true;
+        return location;
+    }
+
+    private ByteBuffer payloadAt(Location location) {
+        return segments.get(location.segment).buffer.slice(location.offset + HEADER_BYTES, location.length);
+    }
+
+    private Segment currentSegment() {
+        return segments.get(segments.size() - 1);
+    }
+
+    private void recover() throws IOException {
+        List<Path> paths;
+        try (Stream<Path> files = Files.list(directory)) {
+            paths = files.filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                    .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        for (int number = 0; number < paths.size(); number++) {
+            if (!paths.get(number).equals(segmentPath(number))) {
+                throw new IllegalStateException("Order journal segment missing: " + segmentPath(number));
+            }
+        }
+
+        if (paths.isEmpty()) {
+            segments.add(openSegment(0));
+            return;
+        }
+
+        for (int number = 0; number < paths.size(); number++) {
+            Segment segment = openSegment(number);
+            segments.add(segment);
+            writeOffset = replay(segment, number == paths.size() - 1);
+        }
+        log.info("Order journal recovered {} live orders from {} segment(s) in {}",
+                index.size(), segments.size(), directory);
+    }
+
+    /**
+     * Replays one segment into the index and returns the offset after its last valid record.
+     */
+    private int replay(Segment segment, boolean last) {
+        int offset = 0;
+        while (offset + HEADER_BYTES <= segmentSize) {
+            int length = segment.buffer.getInt(offset);
+            if (length == 0) {
+                return offset;
+            }
+
+            ByteBuffer payload = validPayload(segment, offset, length);
+            if (payload == null) {
+                if (!last) {
+                    throw new IllegalStateException("Corrupt order journal record in " + segment.path
+                            + " at offset " + offset);
+                }
+                log.warn("Truncating torn order journal record in {} at offset {}", segment.path, offset);
+                truncate(segment, offset);
+                return offset;
+            }
+
+            Location location = new Location(segment.number, offset, length);
+            if (OrderRecordCodec.peekType(payload) == OrderRecordCodec.TYPE_ORDER) {
+                Order order = OrderRecordCodec.decodeOrder(payload);
+                index.put(order.getId(), location);
+                nextOrderId = Math.max(nextOrderId, order.getId() + 1);
+                for (OrderItem item : order.getOrderItems()) {
+                    nextItemId = Math.max(nextItemId, item.getId() + 1);
+                }
+            } else {
+                long orderId = OrderRecordCodec.decodeDelete(payload);
+                index.remove(orderId);
+                nextOrderId = Math.max(nextOrderId, orderId + 1);
+            }
+            offset += HEADER_BYTES + length;
+        }
+        return offset;
+    }
+
+    private ByteBuffer validPayload(Segment segment, int offset, int length) {
+        if (length < 0 || length > segmentSize - offset - HEADER_BYTES) {
+            return null;
+        }
+        ByteBuffer payload = segment.buffer.slice(offset + HEADER_BYTES, length);
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != segment.buffer.getInt(offset + 4)) {
+            return null;
+        }
+
+        byte type = OrderRecordCodec.peekType(payload);
+        int expectedLength = switch (type) {
+            case OrderRecordCodec.TYPE_ORDER -> length >= OrderRecordCodec.ORDER_FIXED_BYTES
+                    ? OrderRecordCodec.ORDER_FIXED_BYTES
+                    + payload.getShort(OrderRecordCodec.ORDER_FIXED_BYTES - 2) * OrderRecordCodec.ITEM_BYTES
+                    : -1;
+            case OrderRecordCodec.TYPE_DELETE -> OrderRecordCodec.DELETE_BYTES;
+            default -> -1;
+        };
+        return expectedLength == length ? payload : null;
+    }
+
+    private void truncate(Segment segment, int offset) {
+        byte[] zeros = new byte[ZERO_CHUNK];
+        for (int position = offset; position < segmentSize; position += ZERO_CHUNK) {
+            segment.buffer.put(position, zeros, 0, Math.min(ZERO_CHUNK, segmentSize - position));
+        }
+        segment.buffer.force();
+    }
+
+    private Segment openSegment(int number) {
+        Path path = segmentPath(number);
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+            return new Segment(number, path, channel, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map order journal segment " + path, e);
+        }
+    }
+
+    private record Segment(int number, Path path, FileChannel channel, MappedByteBuffer buffer) {
+    }
+
+    private record Location(int segment, int offset, int length) {
+    }
+}
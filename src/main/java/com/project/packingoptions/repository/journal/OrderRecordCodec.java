@@ -0,0 +1,138 @@
+package com.project.packingoptions.repository.journal;
+
+import com.project.packingoptions.model.Order;
+import com.project.packingoptions.model.OrderItem;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-layout binary encoding of journal payloads. All integers are big-endian; prices are
+ * stored as long cents (the schema's scale of 2) and product codes as 10 zero-padded chars.
+ *
+ * <pre>
+ * ORDER  : type(1) orderId(8) createdAtEpochSecond(8) createdAtNano(4) totalCents(8) itemCount(2)
+ *          itemCount x [ itemId(8) productCode(20) quantityOrdered(4) bundleSize(4) bundleCount(4) priceCents(8) ]
+ * DELETE : type(1) orderId(8)
+ * </pre>
+ */
+final class OrderRecordCodec {
+
+    static final byte TYPE_ORDER = 1;
+    static final byte TYPE_DELETE = 2;
+
+    static final int PRODUCT_CODE_CHARS = 10;
+    static final int ORDER_FIXED_BYTES = 1 + 8 + 8 + 4 + 8 + 2;
+    static final int ITEM_BYTES = 8 + PRODUCT_CODE_CHARS * 2 + 4 + 4 + 4 + 8;
+    static final int DELETE_BYTES = 1 + 8;
+    static final int MAX_ITEMS = Short.MAX_VALUE;
+
+    private static final int PRICE_SCALE = 2;
+
+    private OrderRecordCodec() {
+    }
+
+    static ByteBuffer encodeOrder(Order order) {
+        List<OrderItem> items = order.getOrderItems();
+        if (items.size() > MAX_ITEMS) {
+            throw new IllegalArgumentException("Order has " + items.size() + " items; journal limit is " + MAX_ITEMS);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(ORDER_FIXED_BYTES + items.size() * ITEM_BYTES);
+        buffer.put(TYPE_ORDER);
+        buffer.putLong(order.getId());
+        buffer.putLong(order.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(order.getCreatedAt().getNano());
+        buffer.putLong(toCents(order.getTotalPrice()));
+        buffer.putShort((short) items.size());
+        for (OrderItem item : items) {
+            buffer.putLong(item.getId());
+            putProductCode(buffer, item.getProductCode());
+            buffer.putInt(item.getQuantityOrdered());
+            buffer.putInt(item.getBundleSize());
+            buffer.putInt(item.getBundleCount());
+            buffer.putLong(toCents(item.getPriceAtTime()));
+        }
+        return buffer.flip();
+    }
+
+    static ByteBuffer encodeDelete(long orderId) {
+        return ByteBuffer.allocate(DELETE_BYTES)
+                .put(TYPE_DELETE)
+                .putLong(orderId)
+                .flip();
+    }
+
+    /**
+     * Decodes an ORDER payload positioned at its type byte.
+     */
+    static Order decodeOrder(ByteBuffer payload) {
+        expectType(payload, TYPE_ORDER);
+        long orderId = payload.getLong();
+        LocalDateTime createdAt = LocalDateTime.ofEpochSecond(payload.getLong(), payload.getInt(), ZoneOffset.UTC);
+        BigDecimal totalPrice = BigDecimal.valueOf(payload.getLong(), PRICE_SCALE);
+        int itemCount = payload.getShort();
+
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            long itemId = payload.getLong();
+            OrderItem item = OrderItem.of(getProductCode(payload), payload.getInt(), payload.getInt(),
+                    payload.getInt(), BigDecimal.valueOf(payload.getLong(), PRICE_SCALE));
+            item.setId(itemId);
+            items.add(item);
+        }
+
+        Order order = Order.of(totalPrice, items);
+        order.setId(orderId);
+        order.setCreatedAt(createdAt);
+        return order;
+    }
+
+    static long decodeDelete(ByteBuffer payload) {
+        expectType(payload, TYPE_DELETE);
+        return payload.getLong();
+    }
+
+    static byte peekType(ByteBuffer payload) {
+        return payload.get(payload.position());
+    }
+
+    static long peekOrderId(ByteBuffer payload) {
+        return payload.getLong(payload.position() + 1);
+    }
+
+    private static void expectType(ByteBuffer payload, byte type) {
+        byte actual = payload.get();
+        if (actual != type) {
+            throw new IllegalStateException("Expected journal record type " + type + " but found " + actual);
+        }
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.setScale(PRICE_SCALE).unscaledValue().longValueExact();
+    }
+
+    private static void putProductCode(ByteBuffer buffer, String productCode) {
+        if (productCode.length() > PRODUCT_CODE_CHARS) {
+            throw new IllegalArgumentException("Product code longer than " + PRODUCT_CODE_CHARS + ": " + productCode);
+        }
+        for (int i = 0; i < PRODUCT_CODE_CHARS; i++) {
+            buffer.putChar(i < productCode.length() ? productCode.charAt(i) : '\0');
+        }
+    }
+
+    private static String getProductCode(ByteBuffer buffer) {
+        StringBuilder code = new StringBuilder(PRODUCT_CODE_CHARS);
+        for (int i = 0; i < PRODUCT_CODE_CHARS; i++) {
+            char c = buffer.getChar();
+            if (c != '\0') {
+                code.append(c);
+            }
+        }
+        return code.toString();
+    }
+}
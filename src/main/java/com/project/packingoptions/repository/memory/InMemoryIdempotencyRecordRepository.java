@@ -0,0 +1,38 @@
+package com.project.packingoptions.repository.memory;
+
+import com.project.packingoptions.model.IdempotencyRecord;
+import com.project.packingoptions.repository.IdempotencyRecordRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Idempotency records held in memory. Inserting an existing key fails like the primary key would.
+ */
+public class InMemoryIdempotencyRecordRepository implements IdempotencyRecordRepository {
+
+    private final Map<String, IdempotencyRecord> records = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<IdempotencyRecord> findById(String idempotencyKey) {
+        return Optional.ofNullable(records.get(idempotencyKey));
+    }
+
+    @Override
+    public IdempotencyRecord saveAndFlush(IdempotencyRecord record) {
+        if (records.putIfAbsent(record.getIdempotencyKey(), record) != null) {
+            throw new DataIntegrityViolationException("Duplicate idempotency key: " + record.getIdempotencyKey());
+        }
+        return record;
+    }
+
+    @Override
+    public int deleteCreatedUpTo(LocalDateTime cutoff) {
+        int before = records.size();
+        records.values().removeIf(record -> !record.getCreatedAt().isAfter(cutoff));
+        return before - records.size();
+    }
+}
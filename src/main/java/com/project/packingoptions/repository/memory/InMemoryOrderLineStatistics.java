@@ -0,0 +1,61 @@
+package com.project.packingoptions.repository.memory;
+
+import com.project.packingoptions.model.Order;
+import com.project.packingoptions.model.OrderItem;
+import com.project.packingoptions.repository.OrderLineStatistics;
+import com.project.packingoptions.repository.OrderRepository;
+import com.project.packingoptions.repository.OrderSearchCriteria;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Order line statistics counted by paging through the in-memory orders.
+ */
+public class InMemoryOrderLineStatistics implements OrderLineStatistics {
+
+    private static final int PAGE_SIZE = 500;
+
+    private static final Comparator<Line> LINE_ORDER =
+            Comparator.comparing(Line::productCode).thenComparingInt(Line::quantity);
+
+    private final OrderRepository orderRepository;
+
+    public InMemoryOrderLineStatistics(OrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+
+    @Override
+    public void forEachQuantity(Collection<String> productCodes, LocalDateTime createdFrom,
+                                LocalDateTime createdTo, Consumer<QuantityCount> consumer) {
+        Set<String> codes = Set.copyOf(productCodes);
+        OrderSearchCriteria criteria = new OrderSearchCriteria(null, createdFrom, createdTo, null, null);
+        Map<Line, Long> counts = new TreeMap<>(LINE_ORDER);
+        long afterId = 0;
+        List<Order> page;
+        do {
+            page = orderRepository.search(criteria, afterId, PAGE_SIZE);
+            for (Order order : page) {
+                Set<Line> lines = new HashSet<>();
+                for (OrderItem item : order.getOrderItems()) {
+                    if (codes.contains(item.getProductCode())) {
+                        lines.add(new Line(item.getProductCode(), item.getQuantityOrdered()));
+                    }
+                }
+                lines.forEach(line -> counts.merge(line, 1L, Long::sum));
+                afterId = order.getId();
+            }
+        } while (page.size() == PAGE_SIZE);
+        counts.forEach((line, count) -> consumer.accept(new QuantityCount(line.productCode(), line.quantity(), count)));
+    }
+
+    private record Line(String productCode, int quantity) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.project.packingoptions.repository.memory;
+
+import com.project.packingoptions.model.Order;
+import com.project.packingoptions.model.OrderItem;
+import com.project.packingoptions.repository.OrderRepository;
+import com.project.packingoptions.repository.OrderSearchCriteria;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Order repository held entirely in memory, keyed by the sequential order id.
+ */
+public class InMemoryOrderRepository implements OrderRepository {
+
+    private final SequentialIdStore<Order> orders = new SequentialIdStore<>();
+    private final AtomicLong itemIds = new AtomicLong();
+
+    @Override
+    public Order save(Order order) {
+        if (order.getId() == null) {
+            order.setId(orders.nextId());
+        }
+        for (OrderItem item : order.getOrderItems()) {
+            if (item.getId() == null) {
+                item.setId(itemIds.incrementAndGet());
+            }
+        }
+        orders.put(order.getId(), order);
+        return order;
+    }
+
+    @Override
+    public Optional<Order> findById(Long id) {
+        return Optional.ofNullable(orders.get(id));
+    }
+
+    @Override
+    public List<Order> findAll() {
+        List<Order> result = new ArrayList<>(orders.size());
+        orders.forEach(result::add);
+        return result;
+    }
+
+    @Override
+    public List<Order> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit) {
+        List<Order> result = new ArrayList<>();
+        orders.forEachAfter(afterId, limit.isLimited() ? limit.max() : Integer.MAX_VALUE, result::add);
+        return result;
+    }
+
+    @Override
+    public List<Order> search(OrderSearchCriteria criteria, long afterId, int limit) {
+        List<Order> result = new ArrayList<>();
+        orders.forEachAfter(afterId, limit, criteria::matches, result::add);
+        return result;
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return orders.get(id) != null;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        orders.remove(id);
+    }
+}
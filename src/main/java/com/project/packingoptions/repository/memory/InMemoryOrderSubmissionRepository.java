@@ -0,0 +1,111 @@
+package com.project.packingoptions.repository.memory;
+
+import com.project.packingoptions.dto.OrderTicketStatus;
+import com.project.packingoptions.model.OrderSubmission;
+import com.project.packingoptions.repository.OrderSubmissionRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Order submission tickets held in memory. State changes happen under the map's per-key lock,
+ * so claims behave like the conditional updates of the JPA repository.
+ */
+public class InMemoryOrderSubmissionRepository implements OrderSubmissionRepository {
+
+    private final Map<String, OrderSubmission> submissions = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<OrderSubmission> findById(String ticketId) {
+        return Optional.ofNullable(submissions.get(ticketId));
+    }
+
+    @Override
+    public OrderSubmission saveAndFlush(OrderSubmission submission) {
+        if (submissions.putIfAbsent(submission.getTicketId(), submission) != null) {
+            throw new DataIntegrityViolationException("Duplicate ticket id: " + submission.getTicketId());
+        }
+        return submission;
+    }
+
+    @Override
+    public void deleteById(String ticketId) {
+        submissions.remove(ticketId);
+    }
+
+    @Override
+    public List<String> findQueuedUpTo(LocalDateTime cutoff, Pageable pageable) {
+        return submissions.values().stream()
+                .filter(submission -> submission.getStatus() == OrderTicketStatus.QUEUED)
+                .filter(submission -> !submission.getSubmittedAt().isAfter(cutoff))
+                .sorted(Comparator.comparing(OrderSubmission::getSubmittedAt))
+                .limit(pageable.getPageSize())
+                .map(OrderSubmission::getTicketId)
+                .toList();
+    }
+
+    @Override
+    public int claim(String ticketId, String claimId, LocalDateTime startedAt) {
+        return update(ticketId, OrderTicketStatus.QUEUED, null, submission -> {
+            submission.setStatus(OrderTicketStatus.PROCESSING);
+            submission.setClaimId(claimId);
+            submission.setStartedAt(startedAt);
+        });
+    }
+
+    @Override
+    public int finish(String ticketId, String claimId, OrderTicketStatus status, String responseBody,
+                      String error, LocalDateTime completedAt) {
+        return update(ticketId, OrderTicketStatus.PROCESSING, claimId, submission -> {
+            submission.setStatus(status);
+            submission.setResponseBody(responseBody);
+            submission.setError(error);
+            submission.setCompletedAt(completedAt);
+        });
+    }
+
+    @Override
+    public int requeueStartedUpTo(LocalDateTime cutoff) {
+        int requeued = 0;
+        for (OrderSubmission candidate : submissions.values()) {
+            if (candidate.getStartedAt() == null || candidate.getStartedAt().isAfter(cutoff)) {
+                continue;
+            }
+            requeued += update(candidate.getTicketId(), OrderTicketStatus.PROCESSING, null, submission -> {
+                submission.setStatus(OrderTicketStatus.QUEUED);
+                submission.setClaimId(null);
+                submission.setStartedAt(null);
+            });
+        }
+        return requeued;
+    }
+
+    @Override
+    public int deleteCompletedUpTo(LocalDateTime cutoff) {
+        int before = submissions.size();
+        submissions.values().removeIf(submission ->
+                submission.getCompletedAt() != null && !submission.getCompletedAt().isAfter(cutoff));
+        return before - submissions.size();
+    }
+
+    private int update(String ticketId, OrderTicketStatus expectedStatus, String expectedClaimId,
+                       Consumer<OrderSubmission> change) {
+        int[] updated = {0};
+        submissions.computeIfPresent(ticketId, (id, submission) -> {
+            if (submission.getStatus() == expectedStatus
+                    && (expectedClaimId == null || expectedClaimId.equals(submission.getClaimId()))) {
+                change.accept(submission);
+                updated[0] = 1;
+            }
+            return submission;
+        });
+        return updated[0];
+    }
+}
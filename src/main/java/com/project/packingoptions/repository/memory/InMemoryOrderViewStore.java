@@ -0,0 +1,47 @@
+package com.project.packingoptions.repository.memory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.packingoptions.dto.OrderResponse;
+import com.project.packingoptions.repository.AbstractOrderViewStore;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Order view held in memory, ordered by order id for keyset listing.
+ */
+public class InMemoryOrderViewStore extends AbstractOrderViewStore {
+
+    private final ConcurrentNavigableMap<Long, byte[]> documents = new ConcurrentSkipListMap<>();
+
+    public InMemoryOrderViewStore(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    public byte[] save(OrderResponse response) {
+        byte[] document = toDocument(response);
+        documents.put(response.getOrderId(), document);
+        return document;
+    }
+
+    @Override
+    public Optional<byte[]> findDocument(long orderId) {
+        return Optional.ofNullable(documents.get(orderId));
+    }
+
+    @Override
+    public List<OrderResponse> findAfter(long afterId, int limit) {
+        return documents.tailMap(afterId, false).values().stream()
+                .limit(limit)
+                .map(this::fromDocument)
+                .toList();
+    }
+
+    @Override
+    public void delete(long orderId) {
+        documents.remove(orderId);
+    }
+}
@@ -0,0 +1,91 @@
+package com.project.packingoptions.repository.memory;
+
+import com.project.packingoptions.model.PackagingOption;
+import com.project.packingoptions.repository.PackagingOptionRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Packaging option repository held in memory: options by sequential id, plus a copy-on-write
+ * list per product so {@link #findByProductCode} (once per order line) is a single map lookup.
+ * Writes are serialized; reads take no locks.
+ */
+public class InMemoryPackagingOptionRepository implements PackagingOptionRepository {
+
+    private final SequentialIdStore<IndexedOption> options = new SequentialIdStore<>();
+    private final Map<String, List<PackagingOption>> optionsByProduct = new ConcurrentHashMap<>();
+
+    @Override
+    public synchronized PackagingOption save(PackagingOption option) {
+        if (option.getProduct() != null) {
+            option.setProductCode(option.getProduct().getCode());
+        }
+        if (option.getId() == null) {
+            option.setId(options.nextId());
+        }
+
+        IndexedOption previous = options.put(option.getId(), new IndexedOption(option, option.getProductCode()));
+        if (previous != null) {
+            unlist(previous);
+        }
+        optionsByProduct.computeIfAbsent(option.getProductCode(), code -> new CopyOnWriteArrayList<>()).add(option);
+        return option;
+    }
+
+    @Override
+    public List<PackagingOption> findAll() {
+        List<PackagingOption> result = new ArrayList<>(options.size());
+        options.forEach(indexed -> result.add(indexed.option()));
+        return result;
+    }
+
+    @Override
+    public Optional<PackagingOption> findById(Long id) {
+        return Optional.ofNullable(options.get(id)).map(IndexedOption::option);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return options.get(id) != null;
+    }
+
+    @Override
+    public synchronized void deleteById(Long id) {
+        IndexedOption removed = options.remove(id);
+        if (removed != null) {
+            unlist(removed);
+        }
+    }
+
+    @Override
+    public List<PackagingOption> findByProductCode(String productCode) {
+        return new ArrayList<>(optionsByProduct.getOrDefault(productCode, List.of()));
+    }
+
+    @Override
+    public synchronized void deleteByProductCode(String productCode) {
+        List<PackagingOption> removed = optionsByProduct.remove(productCode);
+        if (removed != null) {
+            removed.forEach(option -> options.remove(option.getId()));
+        }
+    }
+
+    private void unlist(IndexedOption indexed) {
+        List<PackagingOption> productOptions = optionsByProduct.get(indexed.productCode());
+        if (productOptions != null) {
+            productOptions.remove(indexed.option());
+        }
+    }
+
+    /**
+     * An option together with the product code it is currently listed under, so a save that
+     * moves it to another product can unlist it from the old one.
+     */
+    private record IndexedOption(PackagingOption option, String productCode) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.project.packingoptions.repository.memory;
+
+import com.project.packingoptions.model.Product;
+import com.project.packingoptions.repository.ProductRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Product repository held in memory, sorted by code like the primary-key order of the table.
+ */
+public class InMemoryProductRepository implements ProductRepository {
+
+    private final ConcurrentNavigableMap<String, Product> products = new ConcurrentSkipListMap<>();
+
+    @Override
+    public Product save(Product product) {
+        products.put(product.getCode(), product);
+        return product;
+    }
+
+    @Override
+    public List<Product> findAll() {
+        return new ArrayList<>(products.values());
+    }
+
+    @Override
+    public List<Product> findAllById(Iterable<String> codes) {
+        List<Product> result = new ArrayList<>();
+        for (String code : codes) {
+            Product product = products.get(code);
+            if (product != null) {
+                result.add(product);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<Product> findByCode(String code) {
+        return Optional.ofNullable(products.get(code));
+    }
+
+    @Override
+    public boolean existsByCode(String code) {
+        return products.containsKey(code);
+    }
+
+    @Override
+    public void deleteByCode(String code) {
+        products.remove(code);
+    }
+}
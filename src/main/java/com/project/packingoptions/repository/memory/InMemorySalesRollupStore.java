@@ -0,0 +1,102 @@
+package com.project.packingoptions.repository.memory;
+
+import com.project.packingoptions.dto.SalesMetric;
+import com.project.packingoptions.repository.AbstractSalesRollupStore;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Sales rollup held in memory, ordered by product, day and bundle size like the table's
+ * primary key. Deltas are applied when the order's in-memory transaction commits, or right
+ * away outside a transaction.
+ */
+public class InMemorySalesRollupStore extends AbstractSalesRollupStore {
+
+    private final NavigableMap<RowKey, DailySales> rows = new TreeMap<>();
+
+    @Override
+    protected void record(Long orderId, Collection<DailySales> deltas) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(deltas);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(deltas);
+            }
+        });
+    }
+
+    @Override
+    public int applyPending() {
+        return 0;
+    }
+
+    private synchronized void apply(Collection<DailySales> deltas) {
+        for (DailySales delta : deltas) {
+            RowKey key = new RowKey(delta.productCode(), delta.salesDate(), delta.bundleSize());
+            DailySales row = rows.containsKey(key) ? sum(rows.get(key), delta) : delta;
+            if (row.packages() > 0) {
+                rows.put(key, row);
+            } else {
+                rows.remove(key);
+            }
+        }
+    }
+
+    @Override
+    public synchronized List<DailySales> findByProduct(String productCode, LocalDate from, LocalDate to) {
+        return new ArrayList<>(rows.subMap(new RowKey(productCode, from, Integer.MIN_VALUE), true,
+                new RowKey(productCode, to, Integer.MAX_VALUE), true).values());
+    }
+
+    @Override
+    public synchronized List<ProductSales> findTopProducts(LocalDate from, LocalDate to, SalesMetric metric,
+                                                           int limit) {
+        Map<String, ProductSales> totals = new LinkedHashMap<>();
+        for (DailySales row : rows.values()) {
+            if (!row.salesDate().isBefore(from) && !row.salesDate().isAfter(to)) {
+                totals.merge(row.productCode(),
+                        new ProductSales(row.productCode(), row.units(), row.packages(), row.revenue()),
+                        (total, next) -> new ProductSales(total.productCode(), total.units() + next.units(),
+                                total.packages() + next.packages(), total.revenue().add(next.revenue())));
+            }
+        }
+        return totals.values().stream()
+                .sorted(comparator(metric).reversed().thenComparing(ProductSales::productCode))
+                .limit(limit)
+                .toList();
+    }
+
+    private static Comparator<ProductSales> comparator(SalesMetric metric) {
+        return switch (metric) {
+            case UNITS -> Comparator.comparingLong(ProductSales::units);
+            case PACKAGES -> Comparator.comparingLong(ProductSales::packages);
+            case REVENUE -> Comparator.comparing(ProductSales::revenue, BigDecimal::compareTo);
+        };
+    }
+
+    private record RowKey(String productCode, LocalDate salesDate, int bundleSize) implements Comparable<RowKey> {
+
+        private static final Comparator<RowKey> ORDER = Comparator.comparing(RowKey::productCode)
+                .thenComparing(RowKey::salesDate)
+                .thenComparingInt(RowKey::bundleSize);
+
+        @Override
+        public int compareTo(RowKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.project.packingoptions.repository.memory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Concurrent store for entities with dense, sequentially assigned {@code long} ids. Values live
+ * in fixed-size chunks indexed directly by id, so lookups neither box the key nor hash it.
+ * Reads are lock-free; only growing the chunk directory takes a lock.
+ */
+final class SequentialIdStore<T> {
+
+    private static final int CHUNK_BITS = 12;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final AtomicLong lastId = new AtomicLong();
+    private final AtomicInteger size = new AtomicInteger();
+    private volatile AtomicReferenceArray<AtomicReferenceArray<T>> chunks = new AtomicReferenceArray<>(0);
+
+    long nextId() {
+        return lastId.incrementAndGet();
+    }
+
+    /**
+     * Stores the value under the id, which may also be an externally assigned (seeded) id.
+     *
+     * @return the previous value, or null
+     */
+    T put(long id, T value) {
+        lastId.accumulateAndGet(id, Math::max);
+        T previous = chunkFor(id, true).getAndSet(slot(id), value);
+        if (previous == null) {
+            size.incrementAndGet();
+        }
+        return previous;
+    }
+
+    T get(long id) {
+        AtomicReferenceArray<T> chunk = chunkFor(id, false);
+        return chunk == null ? null : chunk.get(slot(id));
+    }
+
+    T remove(long id) {
+        AtomicReferenceArray<T> chunk = chunkFor(id, false);
+        if (chunk == null) {
+            return null;
+        }
+        T previous = chunk.getAndSet(slot(id), null);
+        if (previous != null) {
+            size.decrementAndGet();
+        }
+        return previous;
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    /**
+     * Visits stored values in ascending id order.
+     */
+    void forEach(Consumer<T> consumer) {
+        forEachAfter(0, Integer.MAX_VALUE, consumer);
+    }
+
+    /**
+     * Visits at most {@code limit} stored values with ids above {@code afterId}, in ascending id order.
+     */
+    void forEachAfter(long afterId, int limit, Consumer<T> consumer) {
+        forEachAfter(afterId, limit, value -> true, consumer);
+    }
+
+    /**
+     * Visits at most {@code limit} stored values accepted by {@code filter} with ids above
+     * {@code afterId}, in ascending id order.
+     */
+    void forEachAfter(long afterId, int limit, Predicate<T> filter, Consumer<T> consumer) {
+        long last = lastId.get();
+        int visited = 0;
+        for (long id = Math.max(afterId, 0) + 1; id <= last && visited < limit; id++) {
+            T value = get(id);
+            if (value != null && filter.test(value)) {
+                consumer.accept(value);
+                visited++;
+            }
+        }
+    }
+
+    private AtomicReferenceArray<T> chunkFor(long id, boolean create) {
+        if (id <= 0) {
+            if (create) {
+                throw new IllegalArgumentException("Ids must be positive: " + id);
+            }
+            return null;
+        }
+        long chunkIndex = id >>> CHUNK_BITS;
+        AtomicReferenceArray<AtomicReferenceArray<T>> current = chunks;
+        if (chunkIndex < current.length() && current.get((int) chunkIndex) != null) {
+            return current.get((int) chunkIndex);
+        }
+        return create ? createChunk((int) chunkIndex) : null;
+    }
+
+    private synchronized AtomicReferenceArray<T> createChunk(int chunkIndex) {
+        AtomicReferenceArray<AtomicReferenceArray<T>> current = chunks;
+        if (chunkIndex >= current.length()) {
+            AtomicReferenceArray<AtomicReferenceArray<T>> grown =
+                    new AtomicReferenceArray<>(Math.max(chunkIndex + 1, current.length() * 2));
+            for (int i = 0; i < current.length(); i++) {
+                grown.set(i, current.get(i));
+            }
+            chunks = grown;
+            current = grown;
+        }
+        if (current.get(chunkIndex) == null) {
+            current.set(chunkIndex, new AtomicReferenceArray<>(CHUNK_SIZE));
+        }
+        return current.get(chunkIndex);
+    }
+
+    private static int slot(long id) {
+        return (int) (id & CHUNK_MASK);
+    }
+}
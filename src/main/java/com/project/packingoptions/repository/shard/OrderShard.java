@@ -0,0 +1,183 @@
+package com.project.packingoptions.repository.shard;
+
+import com.project.packingoptions.model.Order;
+import com.project.packingoptions.model.OrderItem;
+import com.project.packingoptions.model.id.TimeOrderedIdGenerator;
+import com.project.packingoptions.repository.JdbcOrderWriter;
+import com.project.packingoptions.repository.OrderSearchCriteria;
+import com.project.packingoptions.repository.OrderSearchQuery;
+import org.flywaydb.core.Flyway;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * One database holding a slice of the orders. Writes and deletes run in the shard's own
+ * transaction, independent of the caller's (catalog) transaction, so a later failure in the
+ * caller does not roll a committed write back. {@link ShardedOrderRepository} deletes the order
+ * again in that case.
+ */
+public class OrderShard implements AutoCloseable {
+
+    private static final String SELECT_ORDERS = "SELECT id, created_at, total_price FROM orders ";
+
+    private static final String SELECT_ITEMS =
+            "SELECT id, order_id, product_code, quantity_ordered, bundle_size, bundle_count, price_at_time "
+                    + "FROM order_items ";
+
+    private final String name;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcOrderWriter writer;
+
+    public OrderShard(String name, DataSource dataSource, TimeOrderedIdGenerator idGenerator) {
+        this.name = name;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.writer = new JdbcOrderWriter(jdbcTemplate, idGenerator);
+    }
+
+    /**
+     * Creates or upgrades the shard's order tables from {@code db/shard}.
+     */
+    public void migrate() {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/shard")
+                .load()
+                .migrate();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Inserts an order whose id and item ids are already assigned.
+     */
+    void write(Order order) {
+        transactionTemplate.executeWithoutResult(status -> writer.write(order));
+    }
+
+    Optional<Order> find(long id) {
+        List<Order> orders = jdbcTemplate.query(SELECT_ORDERS + "WHERE id = ?", OrderShard::mapOrder, id);
+        if (orders.isEmpty()) {
+            return Optional.empty();
+        }
+        attachItems(orders, id - 1, id);
+        return Optional.of(orders.get(0));
+    }
+
+    /**
+     * Orders with ids above {@code afterId}, ascending, at most {@code limit}. Because the page is
+     * a contiguous id range on this shard, its items are loaded with one range query.
+     */
+    List<Order> findAfter(long afterId, int limit) {
+        List<Order> orders = jdbcTemplate.query(SELECT_ORDERS + "WHERE id > ? ORDER BY id LIMIT ?",
+                OrderShard::mapOrder, afterId, limit);
+        if (!orders.isEmpty()) {
+            attachItems(orders, afterId, orders.get(orders.size() - 1).getId());
+        }
+        return orders;
+    }
+
+    /**
+     * Orders matching {@code criteria} with ids above {@code afterId}, ascending, at most
+     * {@code limit}. Matches can be sparse, so items are loaded for the matched ids only.
+     */
+    List<Order> search(OrderSearchCriteria criteria, long afterId, int limit) {
+        OrderSearchQuery search = OrderSearchQuery.of("o.id, o.created_at, o.total_price", criteria, afterId, limit);
+        List<Order> orders = jdbcTemplate.query(search.sql(), OrderShard::mapOrder, search.parameters().toArray());
+        if (!orders.isEmpty()) {
+            Map<Long, Order> ordersById = new HashMap<>();
+            orders.forEach(order -> ordersById.put(order.getId(), order));
+            String placeholders = String.join(", ", Collections.nCopies(orders.size(), "?"));
+            jdbcTemplate.query(SELECT_ITEMS + "WHERE order_id IN (" + placeholders + ") ORDER BY order_id, id",
+                    rs -> {
+                        ordersById.get(rs.getLong("order_id")).addOrderItem(mapItem(rs));
+                    }, ordersById.keySet().toArray());
+        }
+        return orders;
+    }
+
+    boolean exists(long id) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM orders WHERE id = ?)", Boolean.class, id));
+    }
+
+    boolean delete(long id) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            jdbcTemplate.update("DELETE FROM order_items WHERE order_id = ?", id);
+            return jdbcTemplate.update("DELETE FROM orders WHERE id = ?", id) > 0;
+        }));
+    }
+
+    /**
+     * Highest order or item id stored, or 0 when the shard is empty.
+     */
+    long maxId() {
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT GREATEST(COALESCE((SELECT MAX(id) FROM orders), 0), "
+                        + "COALESCE((SELECT MAX(id) FROM order_items), 0))", Long.class);
+        return maxId == null ? 0 : maxId;
+    }
+
+    int countOrders() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Integer.class);
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * Loads the items of orders with ids in {@code (fromExclusive, toInclusive]} and attaches
+     * them to the given orders.
+     */
+    private void attachItems(List<Order> orders, long fromExclusive, long toInclusive) {
+        Map<Long, Order> ordersById = new HashMap<>();
+        orders.forEach(order -> ordersById.put(order.getId(), order));
+        jdbcTemplate.query(SELECT_ITEMS + "WHERE order_id > ? AND order_id <= ? ORDER BY order_id, id",
+                rs -> {
+                    // Skips items of orders committed in the range after the orders were read
+                    Order order = ordersById.get(rs.getLong("order_id"));
+                    if (order != null) {
+                        order.addOrderItem(mapItem(rs));
+                    }
+                }, fromExclusive, toInclusive);
+    }
+
+    private static Order mapOrder(ResultSet rs, int rowNum) throws SQLException {
+        return Order.builder()
+                .id(rs.getLong("id"))
+                .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                .totalPrice(rs.getBigDecimal("total_price"))
+                .build();
+    }
+
+    private static OrderItem mapItem(ResultSet rs) throws SQLException {
+        return OrderItem.builder()
+                .id(rs.getLong("id"))
+                .productCode(rs.getString("product_code"))
+                .quantityOrdered(rs.getInt("quantity_ordered"))
+                .bundleSize(rs.getInt("bundle_size"))
+                .bundleCount(rs.getInt("bundle_count"))
+                .priceAtTime(rs.getBigDecimal("price_at_time"))
+                .build();
+    }
+}
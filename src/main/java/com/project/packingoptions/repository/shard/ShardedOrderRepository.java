@@ -0,0 +1,184 @@
+package com.project.packingoptions.repository.shard;
+
+import com.project.packingoptions.model.Order;
+import com.project.packingoptions.model.OrderItem;
+import com.project.packingoptions.model.id.TimeOrderedIdGenerator;
+import com.project.packingoptions.repository.OrderRepository;
+import com.project.packingoptions.repository.OrderSearchCriteria;
+import com.project.packingoptions.repository.OrderWriter;
+import com.project.packingoptions.repository.RollbackCompensation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Order store partitioned across several databases ({@code orders.store=sharded}). An order
+ * lives on the shard picked by hashing its id, so lookups and deletes go to exactly one shard.
+ * Listing queries every shard in parallel and merges their id-ordered results; a keyset page
+ * needs at most {@code limit} rows from each shard.
+ *
+ * <p>Each write commits in its shard's own transaction. If the caller's transaction rolls back
+ * afterwards, the order is deleted from the shard again.
+ *
+ * <p>The shard list must not change once orders exist: adding or reordering shards moves the
+ * home of existing ids.
+ */
+@Slf4j
+public class ShardedOrderRepository implements OrderRepository, OrderWriter, AutoCloseable {
+
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final List<OrderShard> shards;
+    private final TimeOrderedIdGenerator idGenerator;
+    private final ExecutorService executor;
+
+    public ShardedOrderRepository(List<OrderShard> shards, TimeOrderedIdGenerator idGenerator) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one order shard is required");
+        }
+        this.shards = List.copyOf(shards);
+        this.idGenerator = idGenerator;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(shards.size(), runnable -> {
+            Thread thread = new Thread(runnable, "order-shard-query-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (OrderShard shard : this.shards) {
+            idGenerator.advancePast(shard.maxId());
+        }
+        log.info("Using sharded order store with {} shards", shards.size());
+    }
+
+    @Override
+    public Order write(Order order) {
+        return save(order);
+    }
+
+    @Override
+    public Order save(Order order) {
+        if (order.getId() != null) {
+            throw new UnsupportedOperationException("Sharded orders are immutable; orders cannot be updated");
+        }
+        // The id decides the shard, so it is assigned here rather than by the shard's writer
+        order.setId(idGenerator.nextId());
+        for (OrderItem item : order.getOrderItems()) {
+            item.setId(idGenerator.nextId());
+        }
+        OrderShard shard = shardFor(order.getId());
+        shard.write(order);
+        // The shard committed on its own; take the order back out if the caller's transaction fails
+        long id = order.getId();
+        RollbackCompensation.onRollback(id, () -> shard.delete(id));
+        return order;
+    }
+
+    @Override
+    public Optional<Order> findById(Long id) {
+        return shardFor(id).find(id);
+    }
+
+    @Override
+    public List<Order> findAll() {
+        return findByIdGreaterThanOrderByIdAsc(0L, Limit.unlimited());
+    }
+
+    @Override
+    public List<Order> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit) {
+        int max = limit.isLimited() ? limit.max() : Integer.MAX_VALUE;
+        return gather(shard -> shard.findAfter(afterId, max), max);
+    }
+
+    @Override
+    public List<Order> search(OrderSearchCriteria criteria, long afterId, int limit) {
+        return gather(shard -> shard.search(criteria, afterId, limit), limit);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return shardFor(id).exists(id);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        shardFor(id).delete(id);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        for (OrderShard shard : shards) {
+            try {
+                shard.close();
+            } catch (Exception e) {
+                log.warn("Failed to close order shard {}", shard.name(), e);
+            }
+        }
+    }
+
+    OrderShard shardFor(long id) {
+        // Spreads consecutive ids, whose low bits are mostly the per-millisecond sequence
+        return shards.get(Math.floorMod(Long.hashCode(id * HASH_MULTIPLIER), shards.size()));
+    }
+
+    /**
+     * Runs an id-ordered page query on every shard in parallel and merges the first
+     * {@code limit} orders.
+     */
+    private List<Order> gather(Function<OrderShard, List<Order>> pageQuery, int limit) {
+        List<CompletableFuture<List<Order>>> pages = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> pageQuery.apply(shard), executor))
+                .toList();
+        List<List<Order>> results = new ArrayList<>(pages.size());
+        try {
+            pages.forEach(page -> results.add(page.join()));
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return merge(results, limit);
+    }
+
+    /**
+     * K-way merge of per-shard pages that are each ascending by id.
+     */
+    static List<Order> merge(List<List<Order>> pages, int limit) {
+        PriorityQueue<Cursor> heads = new PriorityQueue<>(Comparator.comparingLong(Cursor::id));
+        int total = 0;
+        for (List<Order> page : pages) {
+            total += page.size();
+            if (!page.isEmpty()) {
+                heads.add(new Cursor(page, 0));
+            }
+        }
+        List<Order> merged = new ArrayList<>(Math.min(total, limit));
+        while (merged.size() < limit && !heads.isEmpty()) {
+            Cursor head = heads.poll();
+            merged.add(head.page().get(head.index()));
+            if (head.index() + 1 < head.page().size()) {
+                heads.add(new Cursor(head.page(), head.index() + 1));
+            }
+        }
+        return merged;
+    }
+
+    private record Cursor(List<Order> page, int index) {
+
+        long id() {
+            return page.get(index).getId();
+        }
+    }
+}
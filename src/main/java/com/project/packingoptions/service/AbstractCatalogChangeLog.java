@@ -0,0 +1,94 @@
+package com.project.packingoptions.service;
+
+import com.project.packingoptions.dto.CatalogChangeResponse;
+import com.project.packingoptions.dto.CatalogChangeType;
+import com.project.packingoptions.dto.CatalogChangesResponse;
+import com.project.packingoptions.dto.PackagingOptionResponse;
+import com.project.packingoptions.dto.ProductResponse;
+import com.project.packingoptions.model.PackagingOption;
+import com.project.packingoptions.model.Product;
+import jakarta.annotation.PreDestroy;
+
+import java.time.LocalDateTime;
+
+/**
+ * Builds change records from the catalog services' writes and serves reads from a
+ * {@link CatalogChangeFeed}. Subclasses decide how a recorded change reaches the feed.
+ */
+abstract class AbstractCatalogChangeLog implements CatalogChangeLog {
+
+    protected final CatalogChangeFeed feed;
+
+    protected AbstractCatalogChangeLog(CatalogChangeFeed feed) {
+        this.feed = feed;
+    }
+
+    /**
+     * Called inside the writing transaction; the change has no version yet.
+     */
+    protected abstract void record(CatalogChangeResponse change);
+
+    @Override
+    public long latestVersion() {
+        return feed.latestVersion();
+    }
+
+    @Override
+    public void productSaved(Product product) {
+        record(CatalogChangeResponse.builder()
+                .type(CatalogChangeType.PRODUCT_UPSERTED)
+                .changedAt(LocalDateTime.now())
+                .productCode(product.getCode())
+                .product(ProductResponse.fromProduct(product))
+                .build());
+    }
+
+    @Override
+    public void productDeleted(String productCode) {
+        record(CatalogChangeResponse.builder()
+                .type(CatalogChangeType.PRODUCT_DELETED)
+                .changedAt(LocalDateTime.now())
+                .productCode(productCode)
+                .build());
+    }
+
+    @Override
+    public void packagingOptionSaved(PackagingOption packagingOption) {
+        PackagingOptionResponse state = PackagingOptionResponse.fromPackagingOption(packagingOption);
+        // product_code is read-only on the entity, so after a move only the association is current
+        if (packagingOption.getProduct() != null) {
+            state.setProductCode(packagingOption.getProduct().getCode());
+        }
+        record(CatalogChangeResponse.builder()
+                .type(CatalogChangeType.PACKAGING_OPTION_UPSERTED)
+                .changedAt(LocalDateTime.now())
+                .productCode(state.getProductCode())
+                .packagingOptionId(packagingOption.getId())
+                .packagingOption(state)
+                .build());
+    }
+
+    @Override
+    public void packagingOptionDeleted(Long packagingOptionId) {
+        record(CatalogChangeResponse.builder()
+                .type(CatalogChangeType.PACKAGING_OPTION_DELETED)
+                .changedAt(LocalDateTime.now())
+                .packagingOptionId(packagingOptionId)
+                .build());
+    }
+
+    @Override
+    public CatalogChangesResponse changesSince(long sinceVersion) {
+        return feed.changesSince(sinceVersion);
+    }
+
+    @Override
+    public Runnable subscribe(long sinceVersion, Listener listener) {
+        return feed.subscribe(sinceVersion, listener);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        feed.shutdown();
+    }
+}
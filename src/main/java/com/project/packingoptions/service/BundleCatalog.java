@@ -0,0 +1,77 @@
+package com.project.packingoptions.service;
+
+import com.project.packingoptions.model.PackagingOption;
+import com.project.packingoptions.model.Product;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A product's packaging options reduced to arrays, for solving many quantities off the order
+ * path. Packs exactly like {@link PackagingCalculatorServiceImpl}: largest bundles first, the
+ * remainder as single items at the base price, but without solve events or logging.
+ */
+public final class BundleCatalog {
+
+    private final int[] bundleSizes;
+    private final BigDecimal[] bundlePrices;
+    private final BigDecimal basePrice;
+
+    private BundleCatalog(int[] bundleSizes, BigDecimal[] bundlePrices, BigDecimal basePrice) {
+        this.bundleSizes = bundleSizes;
+        this.bundlePrices = bundlePrices;
+        this.basePrice = basePrice;
+    }
+
+    public static BundleCatalog of(Product product, List<PackagingOption> packagingOptions) {
+        List<PackagingOption> sortedOptions = new ArrayList<>(packagingOptions);
+        sortedOptions.sort(Comparator.comparingInt(PackagingOption::getBundleSize).reversed());
+        int[] sizes = new int[sortedOptions.size()];
+        BigDecimal[] prices = new BigDecimal[sortedOptions.size()];
+        for (int i = 0; i < sizes.length; i++) {
+            sizes[i] = sortedOptions.get(i).getBundleSize();
+            prices[i] = sortedOptions.get(i).getBundlePrice();
+        }
+        return new BundleCatalog(sizes, prices, product.getBasePrice());
+    }
+
+    /**
+     * Bundle sizes, largest first.
+     */
+    public int[] bundleSizes() {
+        return bundleSizes.clone();
+    }
+
+    public int packages(int quantity) {
+        return packages(quantity, bundleSizes);
+    }
+
+    public BigDecimal price(int quantity) {
+        BigDecimal price = BigDecimal.ZERO;
+        int remaining = Math.max(quantity, 0);
+        for (int i = 0; i < bundleSizes.length; i++) {
+            int count = remaining / bundleSizes[i];
+            if (count > 0) {
+                price = price.add(bundlePrices[i].multiply(BigDecimal.valueOf(count)));
+                remaining %= bundleSizes[i];
+            }
+        }
+        return price.add(basePrice.multiply(BigDecimal.valueOf(remaining)));
+    }
+
+    /**
+     * Packages needed for {@code quantity} with the given bundle sizes, which must be sorted
+     * largest first.
+     */
+    public static int packages(int quantity, int[] bundleSizes) {
+        int packages = 0;
+        int remaining = Math.max(quantity, 0);
+        for (int size : bundleSizes) {
+            packages += remaining / size;
+            remaining %= size;
+        }
+        return packages + remaining;
+    }
+}
@@ -0,0 +1,24 @@
+package com.project.packingoptions.service;
+
+import com.project.packingoptions.dto.BundleRecommendationResponse;
+
+import java.time.LocalDate;
+
+/**
+ * Recommends bundle sizes for a product from the quantities its orders asked for. Date ranges
+ * are inclusive and limited to {@link SalesAnalyticsService#MAX_RANGE_DAYS} days; the search
+ * bounds keep a search within seconds.
+ */
+public interface BundleRecommendationService {
+    int MAX_BUNDLE_SIZES = 4;
+    int MAX_BUNDLE_SIZE = 100;
+    int MAX_RECOMMENDATIONS = 20;
+
+    /**
+     * The {@code limit} sets of at most {@code maxSizes} bundle sizes between
+     * {@code minBundleSize} and {@code maxBundleSize} that would have packed the product's
+     * order lines in the fewest packages.
+     */
+    BundleRecommendationResponse recommend(String productCode, LocalDate from, LocalDate to, int maxSizes,
+                                           int minBundleSize, int maxBundleSize, int limit);
+}
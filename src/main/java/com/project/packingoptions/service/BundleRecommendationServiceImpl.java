@@ -0,0 +1,117 @@
+package com.project.packingoptions.service;
+
+import com.project.packingoptions.dto.BundleRecommendationResponse;
+import com.project.packingoptions.dto.BundleRecommendationResponse.BundleSet;
+import com.project.packingoptions.exception.ResourceNotFoundException;
+import com.project.packingoptions.repository.OrderLineStatistics;
+import com.project.packingoptions.repository.OrderLineStatistics.QuantityCount;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Scores bundle-size sets against the product's demand, read as order lines per ordered
+ * quantity, with a parallel {@link BundleSizeSearch} on a dedicated fork-join pool.
+ */
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class BundleRecommendationServiceImpl implements BundleRecommendationService {
+
+    private static final int SCALE = 4;
+
+    private final OrderLineStatistics orderLineStatistics;
+    private final ProductCatalogCache productCatalogCache;
+    private final ForkJoinPool pool;
+
+    public BundleRecommendationServiceImpl(OrderLineStatistics orderLineStatistics,
+                                           ProductCatalogCache productCatalogCache,
+                                           @Value("${analytics.parallelism:0}") int parallelism) {
+        this.orderLineStatistics = orderLineStatistics;
+        this.productCatalogCache = productCatalogCache;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    public BundleRecommendationResponse recommend(String productCode, LocalDate from, LocalDate to, int maxSizes,
+                                                  int minBundleSize, int maxBundleSize, int limit) {
+        SalesAnalyticsServiceImpl.validateRange(from, to);
+        if (maxSizes < 1 || maxSizes > MAX_BUNDLE_SIZES) {
+            throw new IllegalArgumentException("maxSizes must be between 1 and " + MAX_BUNDLE_SIZES);
+        }
+        if (minBundleSize < 2 || maxBundleSize > MAX_BUNDLE_SIZE || minBundleSize > maxBundleSize) {
+            throw new IllegalArgumentException("Bundle sizes must be between 2 and " + MAX_BUNDLE_SIZE
+                    + ", with minBundleSize not above maxBundleSize");
+        }
+        if (limit < 1 || limit > MAX_RECOMMENDATIONS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_RECOMMENDATIONS);
+        }
+        ProductCatalogCache.CatalogEntry entry = productCatalogCache.find(productCode)
+                .orElseThrow(() -> new ResourceNotFoundException("Product", "code", productCode));
+
+        List<QuantityCount> demand = new ArrayList<>();
+        orderLineStatistics.forEachQuantity(Set.of(productCode), from.atStartOfDay(), to.plusDays(1).atStartOfDay(),
+                demand::add);
+        int[] quantities = new int[demand.size()];
+        long[] lines = new long[demand.size()];
+        long orderLines = 0;
+        for (int i = 0; i < quantities.length; i++) {
+            quantities[i] = demand.get(i).quantity();
+            lines[i] = demand.get(i).lines();
+            orderLines += lines[i];
+        }
+        log.info("Searching up to {} bundle sizes between {} and {} for product {} over {} order lines",
+                maxSizes, minBundleSize, maxBundleSize, productCode, orderLines);
+
+        int[] currentSizes = BundleCatalog.of(entry.product(), entry.packagingOptions()).bundleSizes();
+        long currentPackages = 0;
+        for (int i = 0; i < quantities.length; i++) {
+            currentPackages += lines[i] * BundleCatalog.packages(quantities[i], currentSizes);
+        }
+
+        List<BundleSet> recommendations = List.of();
+        if (orderLines > 0) {
+            long start = System.nanoTime();
+            List<BundleSizeSearch.Candidate> candidates = BundleSizeSearch.search(pool, quantities, lines, maxSizes,
+                    minBundleSize, maxBundleSize, limit);
+            log.info("Bundle size search for product {} took {} ms", productCode,
+                    (System.nanoTime() - start) / 1_000_000);
+            long totalLines = orderLines;
+            recommendations = candidates.stream()
+                    .map(candidate -> bundleSet(candidate.bundleSizes(), candidate.packages(), totalLines))
+                    .toList();
+        }
+
+        List<Integer> current = Arrays.stream(currentSizes).sorted().boxed().toList();
+        return BundleRecommendationResponse.builder()
+                .productCode(productCode)
+                .from(from)
+                .to(to)
+                .orderLines(orderLines)
+                .current(bundleSet(current, currentPackages, orderLines))
+                .recommendations(recommendations)
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private static BundleSet bundleSet(List<Integer> bundleSizes, long packages, long orderLines) {
+        BigDecimal packagesPerLine = orderLines == 0 ? BigDecimal.ZERO.setScale(SCALE)
+                : BigDecimal.valueOf(packages).divide(BigDecimal.valueOf(orderLines), SCALE, RoundingMode.HALF_UP);
+        return new BundleSet(bundleSizes, packages, packagesPerLine);
+    }
+}
@@ -0,0 +1,180 @@
+package com.project.packingoptions.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Branch-and-bound search for the bundle-size sets that need the fewest packages for a demand
+ * distribution, packed like orders are: largest bundles first, the rest as single items.
+ *
+ * <p>Sets are built largest size first, so adding a size only splits the remainders the larger
+ * sizes left. Below the largest size, demand is kept as line counts per remainder, so a search
+ * node costs one step per possible remainder, however many quantities were ordered. A branch is
+ * cut when even ideal packing of its remainders, with bundles just below its smallest size,
+ * needs more packages than the worst of the best sets found so far.
+ * The subtrees of each largest size are searched in parallel.
+ */
+final class BundleSizeSearch {
+
+    private static final Comparator<List<Integer>> SIZES_ORDER = (a, b) -> {
+        for (int i = 0; i < Math.min(a.size(), b.size()); i++) {
+            int compare = Integer.compare(a.get(i), b.get(i));
+            if (compare != 0) {
+                return compare;
+            }
+        }
+        return Integer.compare(a.size(), b.size());
+    };
+
+    /**
+     * Fewest packages first, then fewer sizes, then smaller sizes, so results do not depend on
+     * the order in which parallel branches finish.
+     */
+    static final Comparator<Candidate> CANDIDATE_ORDER = Comparator.comparingLong(Candidate::packages)
+            .thenComparingInt(candidate -> candidate.bundleSizes().size())
+            .thenComparing(Candidate::bundleSizes, SIZES_ORDER);
+
+    private final int[] quantities;
+    private final long[] lines;
+    private final int maxSizes;
+    private final int minBundleSize;
+    private final int limit;
+    private final TreeSet<Candidate> best = new TreeSet<>(CANDIDATE_ORDER);
+    private volatile long threshold = Long.MAX_VALUE;
+
+    private BundleSizeSearch(int[] quantities, long[] lines, int maxSizes, int minBundleSize, int limit) {
+        this.quantities = quantities;
+        this.lines = lines;
+        this.maxSizes = maxSizes;
+        this.minBundleSize = minBundleSize;
+        this.limit = limit;
+    }
+
+    /**
+     * The {@code limit} best sets of up to {@code maxSizes} sizes between {@code minBundleSize}
+     * and {@code maxBundleSize}, for {@code lines[i]} order lines of {@code quantities[i]} units.
+     */
+    static List<Candidate> search(ForkJoinPool pool, int[] quantities, long[] lines, int maxSizes,
+                                  int minBundleSize, int maxBundleSize, int limit) {
+        BundleSizeSearch search = new BundleSizeSearch(quantities, lines, maxSizes, minBundleSize, limit);
+        List<ForkJoinTask<?>> branches = new ArrayList<>();
+        for (int largest = maxBundleSize; largest >= minBundleSize; largest--) {
+            int size = largest;
+            branches.add(ForkJoinTask.adapt(() -> search.searchBranch(size)));
+        }
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(branches)));
+        synchronized (search) {
+            return List.copyOf(search.best);
+        }
+    }
+
+    private void searchBranch(int largest) {
+        Level[] levels = new Level[maxSizes];
+        for (int level = 0; level < maxSizes; level++) {
+            levels[level] = new Level(largest);
+        }
+        visit(levels, new int[maxSizes], 0, largest, quantities, lines, quantities.length, 0);
+    }
+
+    /**
+     * Adds {@code size} below the sizes chosen at lower levels and searches its subtree. The
+     * parent's remainders come as distinct values with their line counts.
+     *
+     * @return false when no set at this level with {@code size} or a smaller size can qualify,
+     * so the caller stops trying smaller sizes
+     */
+    private boolean visit(Level[] levels, int[] sizes, int level, int size, int[] parentValues, long[] parentLines,
+                          int parentCount, long parentPackages) {
+        Level state = levels[level];
+        Arrays.fill(state.linesByRemainder, 0, size, 0);
+        long floor = parentPackages;
+        long packages = parentPackages;
+        for (int i = 0; i < parentCount; i++) {
+            int value = parentValues[i];
+            int bundles = value / size;
+            floor += parentLines[i] * ((value + size - 1) / size);
+            packages += parentLines[i] * bundles;
+            state.linesByRemainder[value - bundles * size] += parentLines[i];
+        }
+        if (floor > threshold) {
+            // Smaller sizes need at least as many bundles for the same remainders
+            return false;
+        }
+
+        int next = size - 1;
+        boolean extensible = level + 1 < maxSizes && next >= minBundleSize;
+        int count = 0;
+        long singles = 0;
+        long extensionFloor = 0;
+        for (int remainder = 1; remainder < size; remainder++) {
+            long remainderLines = state.linesByRemainder[remainder];
+            if (remainderLines > 0) {
+                state.values[count] = remainder;
+                state.lines[count] = remainderLines;
+                count++;
+                singles += remainderLines * remainder;
+                if (extensible) {
+                    extensionFloor += remainderLines * ((remainder + next - 1) / next);
+                }
+            }
+        }
+        sizes[level] = size;
+        offer(sizes, level + 1, packages + singles);
+        if (extensible && packages + extensionFloor <= threshold) {
+            for (int smaller = next; smaller >= minBundleSize; smaller--) {
+                if (!visit(levels, sizes, level + 1, smaller, state.values, state.lines, count, packages)) {
+                    break;
+                }
+            }
+        }
+        return true;
+    }
+
+    private void offer(int[] sizes, int count, long packages) {
+        if (packages > threshold) {
+            return;
+        }
+        Integer[] ascending = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            ascending[i] = sizes[count - 1 - i];
+        }
+        Candidate candidate = new Candidate(Arrays.asList(ascending), packages);
+        synchronized (this) {
+            best.add(candidate);
+            if (best.size() > limit) {
+                best.pollLast();
+            }
+            if (best.size() == limit) {
+                threshold = best.last().packages();
+            }
+        }
+    }
+
+    /**
+     * Per-level scratch arrays of one branch: line counts by remainder, and the nonzero ones
+     * as parallel arrays for the next level.
+     */
+    private static final class Level {
+
+        private final long[] linesByRemainder;
+        private final int[] values;
+        private final long[] lines;
+
+        Level(int largest) {
+            linesByRemainder = new long[largest];
+            values = new int[largest];
+            lines = new long[largest];
+        }
+    }
+
+    /**
+     * A bundle-size set, smallest size first, and the packages it needs for all lines.
+     */
+    record Candidate(List<Integer> bundleSizes, long packages) {
+    }
+}
@@ -0,0 +1,162 @@
+package com.project.packingoptions.service;
+
+import com.project.packingoptions.dto.CatalogChangeResponse;
+import com.project.packingoptions.dto.CatalogChangesResponse;
+import com.project.packingoptions.exception.CatalogChangesExpiredException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Retains the most recent committed catalog changes in version order and fans them out. The
+ * {@code applier} runs synchronously on append, before the change is visible to readers of the
+ * feed; subscribers are fed from one thread so each sees changes in version order.
+ */
+@Slf4j
+final class CatalogChangeFeed {
+
+    private final int retention;
+    private final Consumer<CatalogChangeResponse> applier;
+    private final ArrayDeque<CatalogChangeResponse> changes = new ArrayDeque<>();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-change-feed");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Guarded by this
+    private long latestVersion;
+
+    CatalogChangeFeed(long initialVersion, int retention, Consumer<CatalogChangeResponse> applier) {
+        this.latestVersion = initialVersion;
+        this.retention = retention;
+        this.applier = applier;
+    }
+
+    synchronized long latestVersion() {
+        return latestVersion;
+    }
+
+    /**
+     * Appends a change with the next version.
+     */
+    synchronized void appendNext(CatalogChangeResponse change) {
+        change.setVersion(latestVersion + 1);
+        append(change);
+    }
+
+    /**
+     * Appends a change that already carries its version, which must follow the latest one.
+     */
+    synchronized void append(CatalogChangeResponse change) {
+        if (change.getVersion() <= latestVersion) {
+            throw new IllegalStateException("Catalog change version " + change.getVersion()
+                    + " does not follow " + latestVersion);
+        }
+        applier.accept(change);
+        latestVersion = change.getVersion();
+        changes.addLast(change);
+        if (changes.size() > retention) {
+            changes.removeFirst();
+        }
+        executor.execute(() -> subscribers.forEach(subscriber -> subscriber.deliver(change)));
+    }
+
+    synchronized CatalogChangesResponse changesSince(long sinceVersion) {
+        if (!isRetained(sinceVersion)) {
+            throw new CatalogChangesExpiredException(sinceVersion, latestVersion);
+        }
+        return CatalogChangesResponse.builder()
+                .latestVersion(latestVersion)
+                .changes(retainedSince(sinceVersion))
+                .build();
+    }
+
+    synchronized Runnable subscribe(long sinceVersion, CatalogChangeLog.Listener listener) {
+        Subscriber subscriber = new Subscriber(listener);
+        long resetVersion = latestVersion;
+        boolean retained = isRetained(sinceVersion);
+        List<CatalogChangeResponse> backlog = retained ? retainedSince(sinceVersion) : List.of();
+
+        // Queued while holding the lock, so the backlog is delivered before any change appended later
+        executor.execute(() -> {
+            if (!retained) {
+                subscriber.reset(resetVersion);
+            }
+            backlog.forEach(subscriber::deliver);
+            subscribers.add(subscriber);
+            if (!subscriber.active) {
+                subscribers.remove(subscriber);
+            }
+        });
+        return subscriber::cancel;
+    }
+
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private boolean isRetained(long sinceVersion) {
+        long oldestAvailable = changes.isEmpty() ? latestVersion : changes.peekFirst().getVersion() - 1;
+        return sinceVersion >= oldestAvailable && sinceVersion <= latestVersion;
+    }
+
+    private List<CatalogChangeResponse> retainedSince(long sinceVersion) {
+        List<CatalogChangeResponse> result = new ArrayList<>();
+        Iterator<CatalogChangeResponse> newestFirst = changes.descendingIterator();
+        while (newestFirst.hasNext()) {
+            CatalogChangeResponse change = newestFirst.next();
+            if (change.getVersion() <= sinceVersion) {
+                break;
+            }
+            result.add(change);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private final class Subscriber {
+
+        private final CatalogChangeLog.Listener listener;
+        private volatile boolean active = true;
+
+        private Subscriber(CatalogChangeLog.Listener listener) {
+            this.listener = listener;
+        }
+
+        void deliver(CatalogChangeResponse change) {
+            if (active) {
+                safely(() -> listener.onChange(change));
+            }
+        }
+
+        void reset(long version) {
+            if (active) {
+                safely(() -> listener.onReset(version));
+            }
+        }
+
+        void cancel() {
+            active = false;
+            subscribers.remove(this);
+        }
+
+        private void safely(Runnable notification) {
+            try {
+                notification.run();
+            } catch (RuntimeException ex) {
+                log.debug("Catalog change subscriber failed, unsubscribing: {}", ex.getMessage());
+                cancel();
+            }
+        }
+    }
+}
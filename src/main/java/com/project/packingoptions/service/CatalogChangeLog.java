@@ -0,0 +1,56 @@
+package com.project.packingoptions.service;
+
+import com.project.packingoptions.dto.CatalogChangeResponse;
+import com.project.packingoptions.dto.CatalogChangesResponse;
+import com.project.packingoptions.model.PackagingOption;
+import com.project.packingoptions.model.Product;
+
+/**
+ * Versioned log of product and packaging-option mutations. Every committed change gets the next
+ * version, so consumers can mirror the catalog by applying changes since the last version they saw.
+ */
+public interface CatalogChangeLog {
+
+    /**
+     * Version of the most recent committed change; also the catalog's ETag version.
+     */
+    long latestVersion();
+
+    void productSaved(Product product);
+
+    /**
+     * Records the deletion of the product together with its packaging options.
+     */
+    void productDeleted(String productCode);
+
+    void packagingOptionSaved(PackagingOption packagingOption);
+
+    void packagingOptionDeleted(Long packagingOptionId);
+
+    /**
+     * Returns the changes after {@code sinceVersion}, oldest first.
+     *
+     * @throws com.project.packingoptions.exception.CatalogChangesExpiredException if changes after
+     *         {@code sinceVersion} are no longer retained, or the version is from another log
+     */
+    CatalogChangesResponse changesSince(long sinceVersion);
+
+    /**
+     * Delivers the changes after {@code sinceVersion} followed by every new change, in version order,
+     * on a single feed thread. If the backlog is no longer retained the listener is reset to the latest
+     * version first. A listener that throws is unsubscribed.
+     *
+     * @return action that unsubscribes the listener
+     */
+    Runnable subscribe(long sinceVersion, Listener listener);
+
+    interface Listener {
+
+        void onChange(CatalogChangeResponse change);
+
+        /**
+         * Changes were missed; reload the full catalog, which is current as of {@code latestVersion}.
+         */
+        void onReset(long latestVersion);
+    }
+}
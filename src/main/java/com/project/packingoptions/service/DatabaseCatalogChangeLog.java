@@ -0,0 +1,165 @@
+package com.project.packingoptions.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.packingoptions.dto.CatalogChangeResponse;
+import com.project.packingoptions.dto.CatalogChangeType;
+import com.project.packingoptions.dto.PackagingOptionResponse;
+import com.project.packingoptions.dto.ProductResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Change log shared by every node through the {@code catalog_changes} table. Writes insert their
+ * change in the same transaction as the catalog update, and each node tails the table on a short
+ * interval, evicting the affected {@link ProductCatalogCache} entries as changes arrive.
+ * <p>
+ * Versions come from the single-row {@code catalog_change_sequence} table. Its row lock is held
+ * until the writing transaction ends, so catalog writers are serialized and a version can never
+ * become visible before a lower one; a tailer that has seen version N has seen everything below it.
+ * <p>
+ * Rows older than the last {@code catalog.changes.retention} versions are deleted every
+ * {@code catalog.changes.trim-interval-ms}. Tailers only read versions above the latest they have
+ * seen, so trimming never hides a change from a node that is less than the retention behind.
+ */
+@Service
+@ConditionalOnProperty(name = "catalog.changes.transport", havingValue = "database", matchIfMissing = true)
+@Slf4j
+public class DatabaseCatalogChangeLog extends AbstractCatalogChangeLog {
+
+    private static final int POLL_BATCH_SIZE = 500;
+
+    private static final String NEXT_VERSION =
+            "UPDATE catalog_change_sequence SET last_version = last_version + 1 WHERE id = 1";
+
+    private static final String CURRENT_VERSION =
+            "SELECT last_version FROM catalog_change_sequence WHERE id = 1";
+
+    private static final String INSERT_CHANGE =
+            "INSERT INTO catalog_changes (version, change_type, product_code, packaging_option_id, payload, "
+                    + "changed_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_CHANGES =
+            "SELECT version, change_type, product_code, packaging_option_id, payload, changed_at "
+                    + "FROM catalog_changes WHERE version > ? ORDER BY version LIMIT " + POLL_BATCH_SIZE;
+
+    private static final String DELETE_CHANGES_UP_TO = "DELETE FROM catalog_changes WHERE version <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int retention;
+
+    public DatabaseCatalogChangeLog(JdbcTemplate jdbcTemplate,
+                                    ObjectMapper objectMapper,
+                                    ProductCatalogCache productCatalogCache,
+                                    @Value("${catalog.changes.retention:10000}") int retention) {
+        // Changes committed before startup are already reflected in what this node will load
+        super(new CatalogChangeFeed(
+                jdbcTemplate.queryForObject(CURRENT_VERSION, Long.class), retention, productCatalogCache::invalidate));
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.retention = retention;
+    }
+
+    @Override
+    protected void record(CatalogChangeResponse change) {
+        jdbcTemplate.update(NEXT_VERSION);
+        long version = jdbcTemplate.queryForObject(CURRENT_VERSION, Long.class);
+        jdbcTemplate.update(INSERT_CHANGE,
+                version,
+                change.getType().name(),
+                change.getProductCode(),
+                change.getPackagingOptionId(),
+                payloadOf(change),
+                Timestamp.valueOf(change.getChangedAt()));
+
+        // Apply our own write right away instead of waiting for the next scheduled poll
+        TransactionCallbacks.afterCommit(this::poll);
+    }
+
+    /**
+     * Appends changes committed by any node since the last one this node has seen.
+     */
+    @Scheduled(fixedDelayString = "${catalog.changes.poll-interval-ms:500}",
+            initialDelayString = "${catalog.changes.poll-interval-ms:500}")
+    public synchronized void poll() {
+        try {
+            List<CatalogChangeResponse> changes;
+            do {
+                changes = jdbcTemplate.query(SELECT_CHANGES, this::mapChange, feed.latestVersion());
+                changes.forEach(feed::append);
+            } while (changes.size() == POLL_BATCH_SIZE);
+        } catch (DataAccessException ex) {
+            // Caches stay as they are until the next poll succeeds
+            log.warn("Polling catalog changes failed: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Deletes the changes that have fallen out of the retention window.
+     */
+    @Scheduled(fixedDelayString = "${catalog.changes.trim-interval-ms:60000}",
+            initialDelayString = "${catalog.changes.trim-interval-ms:60000}")
+    public void trim() {
+        long newestExpired = feed.latestVersion() - retention;
+        if (newestExpired <= 0) {
+            return;
+        }
+        try {
+            int deleted = jdbcTemplate.update(DELETE_CHANGES_UP_TO, newestExpired);
+            if (deleted > 0) {
+                log.info("Deleted {} catalog changes up to version {}", deleted, newestExpired);
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Trimming catalog changes failed: {}", ex.getMessage());
+        }
+    }
+
+    private CatalogChangeResponse mapChange(ResultSet rs, int rowNum) throws SQLException {
+        CatalogChangeType type = CatalogChangeType.valueOf(rs.getString("change_type"));
+        CatalogChangeResponse change = CatalogChangeResponse.builder()
+                .version(rs.getLong("version"))
+                .type(type)
+                .changedAt(rs.getTimestamp("changed_at").toLocalDateTime())
+                .productCode(rs.getString("product_code"))
+                .packagingOptionId(rs.getObject("packaging_option_id", Long.class))
+                .build();
+
+        String payload = rs.getString("payload");
+        if (payload != null) {
+            try {
+                if (type == CatalogChangeType.PRODUCT_UPSERTED) {
+                    change.setProduct(objectMapper.readValue(payload, ProductResponse.class));
+                } else if (type == CatalogChangeType.PACKAGING_OPTION_UPSERTED) {
+                    change.setPackagingOption(objectMapper.readValue(payload, PackagingOptionResponse.class));
+                }
+            } catch (JsonProcessingException ex) {
+                throw new UncheckedIOException("Unreadable payload for catalog change " + change.getVersion(), ex);
+            }
+        }
+        return change;
+    }
+
+    private String payloadOf(CatalogChangeResponse change) {
+        Object state = change.getProduct() != null ? change.getProduct() : change.getPackagingOption();
+        if (state == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(state);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException("Could not serialize catalog change", ex);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.project.packingoptions.service;
+
+import com.project.packingoptions.dto.OrderRequest;
+import com.project.packingoptions.dto.OrderResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+public interface IdempotencyService {
+
+    /**
+     * Creates an order at most once per idempotency key. Retries with the same key
+     * return the first response without re-solving packaging or reading the catalog.
+     */
+    IdempotentResult createOrder(String idempotencyKey, OrderRequest request);
+
+    @Getter
+    @AllArgsConstructor
+    class IdempotentResult {
+        private final OrderResponse response;
+        private final boolean replayed;
+    }
+}
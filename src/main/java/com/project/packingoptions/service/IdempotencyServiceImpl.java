@@ -0,0 +1,221 @@
+package com.project.packingoptions.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.packingoptions.dto.OrderRequest;
+import com.project.packingoptions.dto.OrderResponse;
+import com.project.packingoptions.exception.IdempotencyConflictException;
+import com.project.packingoptions.model.IdempotencyRecord;
+import com.project.packingoptions.repository.IdempotencyRecordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotent order creation.
+ * Completed responses are kept in a bounded LRU index in front of the
+ * {@code idempotency_keys} table; concurrent requests with the same key wait on
+ * the in-flight computation instead of creating a second order. Keys are honoured for
+ * {@code orders.idempotency.retention} and deleted by a periodic purge after that, so the
+ * table does not grow without bound and deleted orders stop being replayed.
+ */
+@Service
+@Slf4j
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    static final int MAX_KEY_LENGTH = 100;
+
+    private final OrderService orderService;
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final long waitTimeoutSeconds;
+    private final Duration retention;
+
+    private final Map<String, StoredOrder> completed;
+    private final ConcurrentMap<String, CompletableFuture<StoredOrder>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyServiceImpl(OrderService orderService,
+                                  IdempotencyRecordRepository idempotencyRecordRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  ObjectMapper objectMapper,
+                                  @Value("${orders.idempotency.cache-size:10000}") int cacheSize,
+                                  @Value("${orders.idempotency.wait-timeout-seconds:30}") long waitTimeoutSeconds,
+                                  @Value("${orders.idempotency.retention:24h}") Duration retention) {
+        this.orderService = orderService;
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.waitTimeoutSeconds = waitTimeoutSeconds;
+        this.retention = retention;
+        this.completed = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredOrder> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    @Override
+    public IdempotentResult createOrder(String idempotencyKey, OrderRequest request) {
+        validateKey(idempotencyKey);
+        String requestHash = hash(request);
+
+        StoredOrder cached = completed.get(idempotencyKey);
+        if (cached != null) {
+            return replay(idempotencyKey, requestHash, cached);
+        }
+
+        CompletableFuture<StoredOrder> pending = new CompletableFuture<>();
+        CompletableFuture<StoredOrder> existing = inFlight.putIfAbsent(idempotencyKey, pending);
+        if (existing != null) {
+            log.info("Waiting on in-flight order for idempotency key: {}", idempotencyKey);
+            return replay(idempotencyKey, requestHash, await(idempotencyKey, existing));
+        }
+
+        try {
+            Optional<StoredOrder> persisted = findPersisted(idempotencyKey);
+            if (persisted.isPresent()) {
+                completed.put(idempotencyKey, persisted.get());
+                pending.complete(persisted.get());
+                return replay(idempotencyKey, requestHash, persisted.get());
+            }
+
+            StoredOrder created = createAndRecord(idempotencyKey, requestHash, request);
+            completed.put(idempotencyKey, created);
+            pending.complete(created);
+            return new IdempotentResult(created.response(), false);
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(idempotencyKey, pending);
+        }
+    }
+
+    /**
+     * Deletes keys recorded more than {@code orders.idempotency.retention} ago, from the table
+     * and from this node's index. A request reusing such a key creates a new order.
+     */
+    @Scheduled(fixedDelayString = "${orders.idempotency.purge-interval-ms:3600000}",
+            initialDelayString = "${orders.idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        synchronized (completed) {
+            completed.values().removeIf(stored -> !stored.recordedAt().isAfter(cutoff));
+        }
+        try {
+            Integer deleted = transactionTemplate.execute(status ->
+                    idempotencyRecordRepository.deleteCreatedUpTo(cutoff));
+            log.info("Deleted {} idempotency keys recorded up to {}", deleted, cutoff);
+        } catch (DataAccessException ex) {
+            log.warn("Purging idempotency keys failed: {}", ex.getMessage());
+        }
+    }
+
+    private StoredOrder createAndRecord(String idempotencyKey, String requestHash, OrderRequest request) {
+        try {
+            return transactionTemplate.execute(status -> {
+                OrderResponse response = orderService.createOrder(request);
+                IdempotencyRecord record = IdempotencyRecord.builder()
+                        .idempotencyKey(idempotencyKey)
+                        .requestHash(requestHash)
+                        .orderId(response.getOrderId())
+                        .responseBody(serialize(response))
+                        .build();
+                idempotencyRecordRepository.saveAndFlush(record);
+                return new StoredOrder(requestHash, response, record.getCreatedAt());
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Another instance committed this key first. Our order was rolled back with the record,
+            // or removed again by an order store that commits on its own
+            log.info("Idempotency key {} was recorded concurrently, returning stored response", idempotencyKey);
+            return findPersisted(idempotencyKey).orElseThrow(() -> e);
+        }
+    }
+
+    private Optional<StoredOrder> findPersisted(String idempotencyKey) {
+        return idempotencyRecordRepository.findById(idempotencyKey)
+                .map(record -> new StoredOrder(record.getRequestHash(), deserialize(record.getResponseBody()),
+                        record.getCreatedAt()));
+    }
+
+    private StoredOrder await(String idempotencyKey, CompletableFuture<StoredOrder> future) {
+        try {
+            return future.get(waitTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotencyConflictException(idempotencyKey, "a request with this key is still being processed");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyConflictException(idempotencyKey, "interrupted while waiting for the original request");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private IdempotentResult replay(String idempotencyKey, String requestHash, StoredOrder stored) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new IdempotencyConflictException(idempotencyKey, "key was already used with a different request");
+        }
+        log.info("Replaying order {} for idempotency key: {}", stored.response().getOrderId(), idempotencyKey);
+        return new IdempotentResult(stored.response(), true);
+    }
+
+    private void validateKey(String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+    }
+
+    private String hash(OrderRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Unable to fingerprint order request", e);
+        }
+    }
+
+    private String serialize(OrderResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize order response", e);
+        }
+    }
+
+    private OrderResponse deserialize(String responseBody) {
+        try {
+            return objectMapper.readValue(responseBody, OrderResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to read stored order response", e);
+        }
+    }
+
+    private record StoredOrder(String requestHash, OrderResponse response, LocalDateTime recordedAt) {
+    }
+}
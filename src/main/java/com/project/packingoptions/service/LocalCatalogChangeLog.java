@@ -0,0 +1,28 @@
+package com.project.packingoptions.service;
+
+import com.project.packingoptions.dto.CatalogChangeResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Single-node change log: a change is appended to the in-memory feed when its transaction
+ * commits, so versions follow commit order and rolled-back writes never appear. Used when
+ * there is no shared database to carry changes between nodes (e.g. the in-memory profile).
+ */
+@Service
+@ConditionalOnProperty(name = "catalog.changes.transport", havingValue = "local")
+public class LocalCatalogChangeLog extends AbstractCatalogChangeLog {
+
+    public LocalCatalogChangeLog(ProductCatalogCache productCatalogCache,
+                                 @Value("${catalog.changes.retention:10000}") int retention) {
+        // Seeded from the clock so versions keep increasing across restarts and a consumer's version
+        // from before a restart is detected as expired instead of silently skipping changes
+        super(new CatalogChangeFeed(System.currentTimeMillis() * 1000, retention, productCatalogCache::invalidate));
+    }
+
+    @Override
+    protected void record(CatalogChangeResponse change) {
+        TransactionCallbacks.afterCommit(() -> feed.appendNext(change));
+    }
+}
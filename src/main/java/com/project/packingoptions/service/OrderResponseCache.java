@@ -0,0 +1,32 @@
+package com.project.packingoptions.service;
+
+import com.project.packingoptions.dto.OrderResponse;
+
+import java.util.Optional;
+
+/**
+ * Serialized JSON of order responses, keyed by order id. Orders are immutable once created,
+ * so an entry stays valid until the order is deleted. Deletes evict only on the node that ran
+ * them; other nodes drop the entry when it expires.
+ */
+public interface OrderResponseCache {
+
+    /**
+     * @return the cached JSON body, counting a hit or a miss
+     */
+    Optional<byte[]> get(Long orderId);
+
+    /**
+     * Serializes and caches the response.
+     *
+     * @return the serialized JSON body
+     */
+    byte[] put(OrderResponse response);
+
+    /**
+     * Caches an already serialized response body.
+     */
+    void put(Long orderId, byte[] body);
+
+    void evict(Long orderId);
+}
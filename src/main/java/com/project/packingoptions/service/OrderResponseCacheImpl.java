@@ -0,0 +1,152 @@
+package com.project.packingoptions.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.packingoptions.dto.OrderResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * LRU cache of serialized order responses bounded by total JSON bytes
+ * ({@code orders.response-cache.max-size-kb}). Publishes hit/miss counts, the hit ratio,
+ * entry count, cached bytes and evictions under {@code orders.response.cache.*}.
+ * <p>
+ * The cache is local to each node and deletes only evict on the node that ran them, so entries
+ * also expire {@code orders.response-cache.ttl} after they were cached: other nodes stop serving
+ * a deleted order within that time.
+ */
+@Service
+public class OrderResponseCacheImpl implements OrderResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final long maxBytes;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedBytes;
+    private long evictionCount;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    @Autowired
+    public OrderResponseCacheImpl(ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${orders.response-cache.max-size-kb:65536}") long maxSizeKb,
+                                  @Value("${orders.response-cache.ttl:60s}") Duration ttl) {
+        this(objectMapper, meterRegistry, maxSizeKb, ttl, System::nanoTime);
+    }
+
+    OrderResponseCacheImpl(ObjectMapper objectMapper, MeterRegistry meterRegistry, long maxSizeKb, Duration ttl,
+                           LongSupplier nanoClock) {
+        this.objectMapper = objectMapper;
+        this.maxBytes = maxSizeKb * 1024;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+
+        this.hits = Counter.builder("orders.response.cache.hits")
+                .description("Order reads served from the serialized response cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("orders.response.cache.misses")
+                .description("Order reads that had to load and serialize the order")
+                .register(meterRegistry);
+        Gauge.builder("orders.response.cache.hit.ratio", this, OrderResponseCacheImpl::hitRatio)
+                .description("Share of order reads served from the cache")
+                .register(meterRegistry);
+        Gauge.builder("orders.response.cache.size", this, OrderResponseCacheImpl::size)
+                .description("Cached order responses")
+                .register(meterRegistry);
+        Gauge.builder("orders.response.cache.bytes", this, OrderResponseCacheImpl::bytes)
+                .description("Total size of cached order responses")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        FunctionCounter.builder("orders.response.cache.evictions", this, OrderResponseCacheImpl::evictions)
+                .description("Responses evicted to stay within the size limit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<byte[]> get(Long orderId) {
+        byte[] body = null;
+        synchronized (this) {
+            Entry entry = entries.get(orderId);
+            if (entry != null && nanoClock.getAsLong() - entry.cachedAt() >= ttlNanos) {
+                evict(orderId);
+            } else if (entry != null) {
+                body = entry.body();
+            }
+        }
+        (body != null ? hits : misses).increment();
+        return Optional.ofNullable(body);
+    }
+
+    @Override
+    public byte[] put(OrderResponse response) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize order " + response.getOrderId(), e);
+        }
+        put(response.getOrderId(), body);
+        return body;
+    }
+
+    @Override
+    public void put(Long orderId, byte[] body) {
+        if (body.length > maxBytes) {
+            return;
+        }
+
+        synchronized (this) {
+            Entry previous = entries.put(orderId, new Entry(body, nanoClock.getAsLong()));
+            cachedBytes += body.length - (previous != null ? previous.body().length : 0);
+            Iterator<Map.Entry<Long, Entry>> eldest = entries.entrySet().iterator();
+            while (cachedBytes > maxBytes && eldest.hasNext()) {
+                cachedBytes -= eldest.next().getValue().body().length;
+                eldest.remove();
+                evictionCount++;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void evict(Long orderId) {
+        Entry removed = entries.remove(orderId);
+        if (removed != null) {
+            cachedBytes -= removed.body().length;
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized long bytes() {
+        return cachedBytes;
+    }
+
+    synchronized long evictions() {
+        return evictionCount;
+    }
+
+    double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0 : hits.count() / total;
+    }
+
+    private record Entry(byte[] body, long cachedAt) {
+    }
+}
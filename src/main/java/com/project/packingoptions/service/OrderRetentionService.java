@@ -0,0 +1,33 @@
+package com.project.packingoptions.service;
+
+import com.project.packingoptions.dto.OrderPurgeResponse;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Purges orders older than a retention age from the main database. At most one purge runs at a
+ * time per node; starting another while one runs throws
+ * {@link com.project.packingoptions.exception.OrderPurgeInProgressException}.
+ */
+public interface OrderRetentionService {
+
+    /**
+     * Starts purging orders older than {@code maxAge} in the background.
+     *
+     * @return the progress of the started purge
+     */
+    OrderPurgeResponse startPurge(Duration maxAge);
+
+    /**
+     * Purges orders older than {@code maxAge} on the calling thread.
+     *
+     * @return the finished purge
+     */
+    OrderPurgeResponse purge(Duration maxAge);
+
+    /**
+     * Progress of the running purge, or the result of the last one since startup.
+     */
+    Optional<OrderPurgeResponse> getLastPurge();
+}
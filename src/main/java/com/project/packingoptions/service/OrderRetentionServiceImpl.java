@@ -0,0 +1,232 @@
+package com.project.packingoptions.service;
+
+import com.project.packingoptions.dto.OrderPurgeResponse;
+import com.project.packingoptions.dto.OrderPurgeStatus;
+import com.project.packingoptions.exception.OrderPurgeInProgressException;
+import com.project.packingoptions.repository.JdbcOrderPurger;
+import com.project.packingoptions.repository.JdbcOrderPurger.PurgedChunk;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Deletes aged orders in chunks of {@code orders.retention.chunk-size}. Each chunk is one short
+ * transaction of set-based deletes, so row locks are held for milliseconds and live order
+ * traffic interleaves between chunks; {@code orders.retention.pause-ms} throttles the purge
+ * further. Progress is published under {@code orders.purge.*}.
+ *
+ * <p>Only the {@code orders.store=database} tables are purged. Nodes do not coordinate, but
+ * concurrent purges on several nodes only repeat deletes of the same chunks.
+ */
+@Service
+@Profile("!in-memory")
+@ConditionalOnProperty(name = "orders.store", havingValue = "database", matchIfMissing = true)
+@Slf4j
+public class OrderRetentionServiceImpl implements OrderRetentionService {
+
+    private final JdbcOrderPurger orderPurger;
+    private final OrderResponseCache orderResponseCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration maxAge;
+    private final int chunkSize;
+    private final long pauseMs;
+    private final ExecutorService executor;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile PurgeRun lastRun;
+
+    private final Counter ordersDeleted;
+    private final Counter itemsDeleted;
+    private final Timer chunkTime;
+
+    public OrderRetentionServiceImpl(JdbcOrderPurger orderPurger,
+                                     OrderResponseCache orderResponseCache,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${orders.retention.max-age:365d}") Duration maxAge,
+                                     @Value("${orders.retention.chunk-size:1000}") int chunkSize,
+                                     @Value("${orders.retention.pause-ms:100}") long pauseMs,
+                                     @Value("${orders.retention.chunk-timeout-seconds:30}") int chunkTimeoutSeconds) {
+        this.orderPurger = orderPurger;
+        this.orderResponseCache = orderResponseCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setTimeout(chunkTimeoutSeconds);
+        this.maxAge = maxAge;
+        this.chunkSize = chunkSize;
+        this.pauseMs = pauseMs;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.ordersDeleted = Counter.builder("orders.purge.orders")
+                .description("Orders deleted by the retention purge")
+                .register(meterRegistry);
+        this.itemsDeleted = Counter.builder("orders.purge.items")
+                .description("Order items deleted by the retention purge")
+                .register(meterRegistry);
+        this.chunkTime = Timer.builder("orders.purge.chunk")
+                .description("Duration of one purge chunk transaction")
+                .register(meterRegistry);
+        Gauge.builder("orders.purge.running", running, flag -> flag.get() ? 1 : 0)
+                .description("Whether a purge is running on this node")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Purges orders older than {@code orders.retention.max-age} on the
+     * {@code orders.retention.cron} schedule, which is disabled ({@code -}) by default. The purge
+     * runs on the {@code order-purge} thread: a long purge would otherwise hold the single
+     * scheduler thread and delay journal syncs, catalog change polling and the other jobs.
+     */
+    @Scheduled(cron = "${orders.retention.cron:-}")
+    public void purgeExpiredOrders() {
+        try {
+            startPurge(maxAge);
+        } catch (OrderPurgeInProgressException ex) {
+            log.info("Skipping scheduled order purge: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public OrderPurgeResponse startPurge(Duration maxAge) {
+        PurgeRun run = begin(maxAge);
+        executor.execute(() -> execute(run));
+        return run.toResponse();
+    }
+
+    @Override
+    public OrderPurgeResponse purge(Duration maxAge) {
+        PurgeRun run = begin(maxAge);
+        execute(run);
+        return run.toResponse();
+    }
+
+    @Override
+    public Optional<OrderPurgeResponse> getLastPurge() {
+        PurgeRun run = lastRun;
+        return run == null ? Optional.empty() : Optional.of(run.toResponse());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // Interrupts the pause between chunks; the current chunk's transaction still completes
+        executor.shutdownNow();
+    }
+
+    private PurgeRun begin(Duration maxAge) {
+        if (maxAge.compareTo(Duration.ofDays(1)) < 0) {
+            throw new IllegalArgumentException("Retention age must be at least one day");
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new OrderPurgeInProgressException();
+        }
+        PurgeRun run = new PurgeRun(LocalDateTime.now().minus(maxAge));
+        lastRun = run;
+        return run;
+    }
+
+    private void execute(PurgeRun run) {
+        log.info("Purging orders created before {}", run.cutoff);
+        try {
+            List<Long> purged;
+            do {
+                purged = purgeChunk(run);
+                if (purged.size() == chunkSize && pauseMs > 0) {
+                    Thread.sleep(pauseMs);
+                }
+            } while (purged.size() == chunkSize);
+            run.finish(OrderPurgeStatus.COMPLETED, null);
+            log.info("Purged {} orders created before {} in {} chunks", run.ordersDeleted, run.cutoff, run.chunks);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            run.finish(OrderPurgeStatus.FAILED, "Interrupted");
+            log.warn("Order purge interrupted after {} orders", run.ordersDeleted);
+        } catch (RuntimeException ex) {
+            run.finish(OrderPurgeStatus.FAILED, ex.getMessage());
+            log.error("Order purge failed after {} orders", run.ordersDeleted, ex);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private List<Long> purgeChunk(PurgeRun run) {
+        Timer.Sample sample = Timer.start();
+        ChunkResult result = transactionTemplate.execute(status -> {
+            List<Long> ids = orderPurger.findExpired(run.cutoff, chunkSize);
+            return new ChunkResult(ids, orderPurger.delete(ids));
+        });
+        sample.stop(chunkTime);
+        if (!result.orderIds().isEmpty()) {
+            run.record(result.purged());
+            ordersDeleted.increment(result.purged().orders());
+            itemsDeleted.increment(result.purged().items());
+            // Committed by now, so no reader can re-cache a purged order
+            result.orderIds().forEach(orderResponseCache::evict);
+        }
+        return result.orderIds();
+    }
+
+    private record ChunkResult(List<Long> orderIds, PurgedChunk purged) {
+    }
+
+    private static final class PurgeRun {
+
+        private final LocalDateTime cutoff;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile LocalDateTime finishedAt;
+        private volatile OrderPurgeStatus status = OrderPurgeStatus.RUNNING;
+        private volatile String error;
+        private volatile long chunks;
+        private volatile long ordersDeleted;
+        private volatile long itemsDeleted;
+
+        private PurgeRun(LocalDateTime cutoff) {
+            this.cutoff = cutoff;
+        }
+
+        // Only the purging thread writes, so the volatile increments do not race
+        private void record(PurgedChunk chunk) {
+            chunks++;
+            ordersDeleted += chunk.orders();
+            itemsDeleted += chunk.items();
+        }
+
+        private void finish(OrderPurgeStatus status, String error) {
+            this.error = error;
+            this.finishedAt = LocalDateTime.now();
+            this.status = status;
+        }
+
+        private OrderPurgeResponse toResponse() {
+            return OrderPurgeResponse.builder()
+                    .status(status)
+                    .cutoff(cutoff)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .chunks(chunks)
+                    .ordersDeleted(ordersDeleted)
+                    .itemsDeleted(itemsDeleted)
+                    .error(error)
+                    .build();
+        }
+    }
+}
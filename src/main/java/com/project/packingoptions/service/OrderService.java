@@ -2,15 +2,37 @@ package com.project.packingoptions.service;
 
 import com.project.packingoptions.dto.OrderRequest;
 import com.project.packingoptions.dto.OrderResponse;
+import com.project.packingoptions.repository.OrderSearchCriteria;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface OrderService {
+    int MAX_PAGE_SIZE = 1000;
+
     List<OrderResponse> getAllOrders();
 
+    /**
+     * Keyset page of orders with ids above {@code afterId}, in ascending id order. The last
+     * order's id is the {@code afterId} of the next page.
+     */
+    List<OrderResponse> getOrders(long afterId, int limit);
+
+    /**
+     * Keyset page of orders matching {@code criteria}, in ascending id order, rendered from the
+     * order tables. The last order's id is the {@code afterId} of the next page.
+     */
+    List<OrderResponse> searchOrders(OrderSearchCriteria criteria, long afterId, int limit);
+
     Optional<OrderResponse> getOrderById(Long id);
 
+    /**
+     * Returns the order serialized as JSON, served from {@link OrderResponseCache} when possible.
+     */
+    Optional<byte[]> getOrderJson(Long id);
+
+    boolean orderExists(Long id);
+
     OrderResponse createOrder(OrderRequest request);
 
     void deleteOrder(Long id);
@@ -15,17 +15,23 @@ import com.project.packingoptions.model.Order;
 import com.project.packingoptions.model.OrderItem;
 import com.project.packingoptions.model.PackagingOption;
 import com.project.packingoptions.model.Product;
+import com.project.packingoptions.monitoring.OrderPhaseEvent;
 import com.project.packingoptions.repository.OrderRepository;
-import com.project.packingoptions.repository.PackagingOptionRepository;
-import com.project.packingoptions.repository.ProductRepository;
+import com.project.packingoptions.repository.OrderSearchCriteria;
+import com.project.packingoptions.repository.OrderViewStore;
+import com.project.packingoptions.repository.OrderWriter;
+import com.project.packingoptions.repository.SalesRollupStore;
 import com.project.packingoptions.service.PackagingCalculatorService.PackagingBreakdown;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Service
 @Transactional
@@ -34,45 +40,110 @@ import java.util.ArrayList;
 public class OrderServiceImpl implements OrderService {
 
     private final OrderRepository orderRepository;
-    private final ProductRepository productRepository;
-    private final PackagingOptionRepository packagingOptionRepository;
+    private final OrderWriter orderWriter;
+    private final ProductCatalogCache productCatalogCache;
     private final PackagingCalculatorService packagingCalculatorService;
     private final OrderMapper orderMapper;
+    private final OrderResponseCache orderResponseCache;
+    private final OrderViewStore orderViewStore;
+    private final SalesRollupStore salesRollupStore;
 
     @Override
     @Transactional(readOnly = true)
     public List<OrderResponse> getAllOrders() {
         log.info("Retrieving all orders");
-        return orderRepository.findAll().stream()
-                .map(orderMapper::toResponse)
-                .toList();
+        if (!orderViewStore.isEnabled()) {
+            return orderMapper.toResponses(orderRepository.findAll());
+        }
+        return orderViewStore.findAfter(0, Integer.MAX_VALUE);
     }
 
     @Override
     @Transactional(readOnly = true)
+    public List<OrderResponse> getOrders(long afterId, int limit) {
+        validateLimit(limit);
+        log.info("Retrieving up to {} orders after ID: {}", limit, afterId);
+        if (!orderViewStore.isEnabled()) {
+            return orderMapper.toResponses(orderRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit)));
+        }
+        return orderViewStore.findAfter(afterId, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrderResponse> searchOrders(OrderSearchCriteria criteria, long afterId, int limit) {
+        validateLimit(limit);
+        if (criteria.createdFrom() != null && criteria.createdTo() != null
+                && !criteria.createdFrom().isBefore(criteria.createdTo())) {
+            throw new IllegalArgumentException("createdFrom must be before createdTo");
+        }
+        if (criteria.minTotal() != null && criteria.maxTotal() != null
+                && criteria.minTotal().compareTo(criteria.maxTotal()) > 0) {
+            throw new IllegalArgumentException("minTotal must not exceed maxTotal");
+        }
+        log.info("Searching up to {} orders after ID {} matching {}", limit, afterId, criteria);
+        return orderMapper.toResponses(orderRepository.search(criteria, afterId, limit));
+    }
+
+    // Reads by id stay read-write so they use the primary, where an order a client has just
+    // created is visible even while a read replica lags. Listings and analytics use the read pool.
+    @Override
     public Optional<OrderResponse> getOrderById(Long id) {
         log.info("Retrieving order with ID: {}", id);
         return orderRepository.findById(id).map(orderMapper::toResponse);
     }
 
+    @Override
+    public Optional<byte[]> getOrderJson(Long id) {
+        Optional<byte[]> cached = orderResponseCache.get(id);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        Optional<byte[]> document = orderViewStore.findDocument(id);
+        if (document.isPresent()) {
+            orderResponseCache.put(id, document.get());
+            return document;
+        }
+        // Orders stored before the read model existed have no view until it is rebuilt
+        return getOrderById(id).map(orderResponseCache::put);
+    }
+
+    private static void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    @Override
+    public boolean orderExists(Long id) {
+        return orderRepository.existsById(id);
+    }
+
     @Override
     public OrderResponse createOrder(OrderRequest request) {
         log.info("Creating new order with {} items", request.getItems().size());
         List<OrderItem> orderItems = new ArrayList<>();
         List<ProductBreakdown> productBreakdowns = new ArrayList<>();
+        Map<String, Product> products = new LinkedHashMap<>();
         BigDecimal totalPrice = BigDecimal.ZERO;
+        int totalQuantity = 0;
+        int totalBundles = 0;
 
-        for (OrderItemRequest itemRequest : request.getItems()) {
-            String productCode = itemRequest.getProductCode();
-            int quantity = itemRequest.getQuantity();
+        for (OrderLine line : coalesceLines(request.getItems())) {
+            String productCode = line.productCode();
+            int quantity = line.quantity();
 
-            Product product = productRepository.findByCode(productCode)
+            OrderPhaseEvent catalogPhase = OrderPhaseEvent.start(OrderPhaseEvent.CATALOG_LOAD);
+            ProductCatalogCache.CatalogEntry catalogEntry = productCatalogCache.find(productCode)
                     .orElseThrow(() -> new ResourceNotFoundException("Product", "code",
                             productCode));
+            Product product = catalogEntry.product();
+            products.put(product.getCode(), product);
 
-            List<PackagingOption> packagingOptions = packagingOptionRepository
-                    .findByProductCode(productCode);
+            List<PackagingOption> packagingOptions = catalogEntry.packagingOptions();
+            catalogPhase.finish(productCode, quantity, 0);
 
+            OrderPhaseEvent solvePhase = OrderPhaseEvent.start(OrderPhaseEvent.SOLVE);
             PackagingBreakdown packaging = packagingCalculatorService.calculateOptimalPackaging(
                     quantity, product, packagingOptions);
 
@@ -89,27 +160,83 @@ public class OrderServiceImpl implements OrderService {
 
             ProductBreakdown productBreakdown = orderMapper.toProductBreakdown(product, quantity,
                     packaging);
+            productBreakdown.setSourceLines(line.sourceLines());
             productBreakdowns.add(productBreakdown);
 
             totalPrice = totalPrice.add(packaging.getTotalPrice());
+            solvePhase.finish(productCode, quantity, packaging.getTotalPackageCount());
+            totalQuantity += quantity;
+            totalBundles += packaging.getTotalPackageCount();
         }
 
+        OrderPhaseEvent persistPhase = OrderPhaseEvent.start(OrderPhaseEvent.PERSIST);
         Order order = Order.of(totalPrice, orderItems);
-        Order savedOrder = orderRepository.save(order);
+        Order savedOrder = orderWriter.write(order);
+        salesRollupStore.addOrder(savedOrder);
+        persistPhase.finish(savedOrder.getId(), totalQuantity, totalBundles);
 
         log.info("Order created with ID: {}, total: ${}", savedOrder.getId(), totalPrice);
 
-        return orderMapper.toResponse(savedOrder, productBreakdowns);
+        OrderPhaseEvent responsePhase = OrderPhaseEvent.start(OrderPhaseEvent.RESPONSE);
+        OrderResponse response = orderMapper.toResponse(savedOrder, productBreakdowns);
+        responsePhase.finish(savedOrder.getId(), totalQuantity, totalBundles);
+
+        // Store and cache the representation GET /orders/{id} returns (no source lines, stored grouping)
+        OrderResponse storedResponse = orderMapper.toResponse(savedOrder, products);
+        byte[] document = orderViewStore.save(storedResponse);
+        TransactionCallbacks.afterCommit(() -> orderResponseCache.put(savedOrder.getId(), document));
+
+        return response;
+    }
+
+    /**
+     * Merges request lines that share a product code, so each product is loaded, solved
+     * and persisted once for its total quantity. Lines keep first-occurrence order and
+     * remember the zero-based request line indexes they were built from. A product's total
+     * is held to the same limit as a single line.
+     */
+    static List<OrderLine> coalesceLines(List<OrderItemRequest> items) {
+        Map<String, OrderLine> lines = new LinkedHashMap<>();
+        for (int index = 0; index < items.size(); index++) {
+            OrderItemRequest item = items.get(index);
+            int lineIndex = index;
+            lines.merge(item.getProductCode(),
+                    new OrderLine(item.getProductCode(), item.getQuantity(), List.of(lineIndex)),
+                    OrderLine::merge);
+        }
+
+        if (lines.size() < items.size()) {
+            log.info("Coalesced {} order lines into {} products", items.size(), lines.size());
+        }
+        return new ArrayList<>(lines.values());
+    }
+
+    record OrderLine(String productCode, int quantity, List<Integer> sourceLines) {
+
+        OrderLine merge(OrderLine other) {
+            int total = Math.addExact(quantity, other.quantity);
+            if (total > OrderItemRequest.MAX_QUANTITY) {
+                throw new IllegalArgumentException("Total quantity of product " + productCode
+                        + " cannot exceed " + OrderItemRequest.MAX_QUANTITY);
+            }
+            List<Integer> merged = new ArrayList<>(sourceLines);
+            merged.addAll(other.sourceLines);
+            return new OrderLine(productCode, total, merged);
+        }
     }
 
     @Override
     public void deleteOrder(Long id) {
         log.info("Deleting order with ID: {}", id);
 
-        if (!orderRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Order", "id", id);
-        }
+        Order order = orderRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Order", "id", id));
 
+        salesRollupStore.removeOrder(order);
         orderRepository.deleteById(id);
+        orderViewStore.delete(id);
+        orderResponseCache.evict(id);
+        // Again once committed, in case a concurrent read re-cached the order before the delete was visible
+        TransactionCallbacks.afterCommit(() -> orderResponseCache.evict(id));
     }
 }
@@ -0,0 +1,19 @@
+package com.project.packingoptions.service;
+
+import com.project.packingoptions.dto.OrderRequest;
+import com.project.packingoptions.dto.OrderTicketResponse;
+
+import java.util.Optional;
+
+public interface OrderSubmissionService {
+
+    /**
+     * Queues an order for background processing.
+     *
+     * @return the ticket in {@code QUEUED} state
+     * @throws com.project.packingoptions.exception.SubmissionRejectedException when the queue is full
+     */
+    OrderTicketResponse submitOrder(OrderRequest request);
+
+    Optional<OrderTicketResponse> getTicket(String ticketId);
+}
@@ -0,0 +1,306 @@
+package com.project.packingoptions.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.packingoptions.dto.OrderRequest;
+import com.project.packingoptions.dto.OrderResponse;
+import com.project.packingoptions.dto.OrderTicketResponse;
+import com.project.packingoptions.dto.OrderTicketStatus;
+import com.project.packingoptions.exception.ResourceNotFoundException;
+import com.project.packingoptions.exception.SubmissionRejectedException;
+import com.project.packingoptions.model.OrderSubmission;
+import com.project.packingoptions.repository.OrderSubmissionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Processes asynchronously submitted orders on a bounded worker pool.
+ * The queue is bounded so a burst is rejected with a retry hint instead of
+ * growing memory without limit. Tickets live in the {@code order_submissions} table, so any
+ * node can answer a poll and a ticket left queued by a node that stopped is picked up by the
+ * recovery sweep of another node, or of the same node after a restart. Finished tickets are kept
+ * for a retention window so clients can poll for the result. With
+ * {@code spring.threads.virtual.enabled} on Java 21 the workers are virtual threads; their number
+ * still bounds concurrent order creation.
+ */
+@Service
+@Slf4j
+public class OrderSubmissionServiceImpl implements OrderSubmissionService {
+
+    private static final int RETRY_AFTER_SECONDS = 1;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OrderService orderService;
+    private final OrderSubmissionRepository submissionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor executor;
+    private final Duration ticketRetention;
+    private final Duration recoveryDelay;
+    private final Duration processingTimeout;
+    private final Duration shutdownTimeout;
+
+    private final Timer queueLag;
+    private final Timer processingTime;
+    private final Counter rejected;
+    private final Counter failed;
+
+    public OrderSubmissionServiceImpl(OrderService orderService,
+                                      OrderSubmissionRepository submissionRepository,
+                                      TransactionTemplate transactionTemplate,
+                                      ObjectMapper objectMapper,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${orders.async.workers:4}") int workers,
+                                      @Value("${orders.async.queue-capacity:500}") int queueCapacity,
+                                      @Value("${orders.async.ticket-retention-minutes:15}") long ticketRetentionMinutes,
+                                      @Value("${orders.async.recovery-delay:30s}") Duration recoveryDelay,
+                                      @Value("${orders.async.processing-timeout:5m}") Duration processingTimeout,
+                                      @Value("${orders.async.shutdown-timeout:30s}") Duration shutdownTimeout,
+                                      Environment environment) {
+        this.orderService = orderService;
+        this.submissionRepository = submissionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.ticketRetention = Duration.ofMinutes(ticketRetentionMinutes);
+        this.recoveryDelay = recoveryDelay;
+        this.processingTimeout = processingTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), workerThreadFactory(Threading.VIRTUAL.isActive(environment)),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("orders.async.queue.depth", executor, e -> e.getQueue().size())
+                .description("Order submissions waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("orders.async.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Order submissions currently being processed")
+                .register(meterRegistry);
+        this.queueLag = Timer.builder("orders.async.lag")
+                .description("Time from submission until a worker starts processing")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.processingTime = Timer.builder("orders.async.processing")
+                .description("Time a worker spends creating the order")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("orders.async.rejected")
+                .description("Submissions rejected because the queue was full")
+                .register(meterRegistry);
+        this.failed = Counter.builder("orders.async.failed")
+                .description("Submissions that failed during processing")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public OrderTicketResponse submitOrder(OrderRequest request) {
+        if (executor.getQueue().remainingCapacity() == 0) {
+            throw reject();
+        }
+        OrderSubmission submission = submissionRepository.saveAndFlush(OrderSubmission.builder()
+                .ticketId(UUID.randomUUID().toString())
+                .status(OrderTicketStatus.QUEUED)
+                .requestBody(serialize(request))
+                .build());
+        // Taken before the hand-off, as a worker may already be processing the ticket when execute returns
+        OrderTicketResponse queued = toResponse(submission);
+
+        try {
+            executor.execute(() -> process(submission.getTicketId()));
+        } catch (RejectedExecutionException e) {
+            submissionRepository.deleteById(submission.getTicketId());
+            throw reject();
+        }
+
+        log.info("Queued order submission with ticket: {}", submission.getTicketId());
+        return queued;
+    }
+
+    @Override
+    public Optional<OrderTicketResponse> getTicket(String ticketId) {
+        // Read-write, so the poll reads the primary and sees a ticket submitted a moment ago on another node
+        return transactionTemplate.execute(status ->
+                submissionRepository.findById(ticketId).map(this::toResponse));
+    }
+
+    /**
+     * Re-queues tickets whose worker has not finished within {@code orders.async.processing-timeout},
+     * then hands tickets queued for longer than {@code orders.async.recovery-delay} to this node's
+     * workers, up to the free queue capacity. Tickets still waiting in another node's queue may be
+     * taken over; the claim makes sure only one worker processes each.
+     */
+    @Scheduled(fixedDelayString = "${orders.async.recovery-interval-ms:30000}")
+    public void resumeStalledSubmissions() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            Integer requeued = transactionTemplate.execute(status ->
+                    submissionRepository.requeueStartedUpTo(now.minus(processingTimeout)));
+            if (requeued != null && requeued > 0) {
+                log.warn("Re-queued {} order submissions whose worker did not finish within {}",
+                        requeued, processingTimeout);
+            }
+
+            int capacity = executor.getQueue().remainingCapacity();
+            if (capacity == 0) {
+                return;
+            }
+            List<String> ticketIds = transactionTemplate.execute(status ->
+                    submissionRepository.findQueuedUpTo(now.minus(recoveryDelay), PageRequest.of(0, capacity)));
+            for (String ticketId : ticketIds) {
+                executor.execute(() -> process(ticketId));
+            }
+            if (!ticketIds.isEmpty()) {
+                log.info("Resumed {} queued order submissions", ticketIds.size());
+            }
+        } catch (RejectedExecutionException e) {
+            log.info("Order submission queue filled up, remaining queued submissions wait for the next sweep");
+        } catch (DataAccessException e) {
+            log.warn("Resuming queued order submissions failed: {}", e.getMessage());
+        }
+    }
+
+    private void process(String ticketId) {
+        String claimId = UUID.randomUUID().toString();
+        LocalDateTime startedAt = LocalDateTime.now();
+        Optional<OrderSubmission> claimed = transactionTemplate.execute(status ->
+                submissionRepository.claim(ticketId, claimId, startedAt) == 1
+                        ? submissionRepository.findById(ticketId) : Optional.empty());
+        if (claimed == null || claimed.isEmpty()) {
+            // Another worker, possibly on another node, took the ticket first
+            return;
+        }
+        OrderSubmission submission = claimed.get();
+        queueLag.record(Duration.between(submission.getSubmittedAt(), startedAt));
+
+        long start = System.nanoTime();
+        try {
+            OrderRequest request = deserialize(submission.getRequestBody(), OrderRequest.class);
+            // The outcome is recorded in the order's transaction, so a lost claim rolls the order back
+            transactionTemplate.executeWithoutResult(status -> {
+                OrderResponse order = orderService.createOrder(request);
+                if (submissionRepository.finish(ticketId, claimId, OrderTicketStatus.COMPLETED,
+                        serialize(order), null, LocalDateTime.now()) == 0) {
+                    throw new ClaimLostException();
+                }
+            });
+        } catch (ClaimLostException e) {
+            log.warn("Order submission {} was re-queued while processing, its order was rolled back", ticketId);
+        } catch (ResourceNotFoundException | IllegalArgumentException e) {
+            fail(ticketId, claimId, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Order submission {} failed", ticketId, e);
+            fail(ticketId, claimId, "An unexpected error occurred while creating the order");
+        } finally {
+            processingTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void fail(String ticketId, String claimId, String error) {
+        failed.increment();
+        String truncated = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        transactionTemplate.execute(status -> submissionRepository.finish(ticketId, claimId,
+                OrderTicketStatus.FAILED, null, truncated, LocalDateTime.now()));
+    }
+
+    @Scheduled(fixedDelayString = "${orders.async.ticket-cleanup-interval-ms:60000}")
+    public void evictExpiredTickets() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(ticketRetention);
+        try {
+            transactionTemplate.execute(status -> submissionRepository.deleteCompletedUpTo(cutoff));
+        } catch (DataAccessException e) {
+            log.warn("Deleting expired order submission tickets failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Lets running and queued submissions finish for up to {@code orders.async.shutdown-timeout}.
+     * Submissions still queued after that stay queued in the database for the recovery sweep.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Order submission workers did not finish within {}, {} queued submissions left for recovery",
+                    shutdownTimeout, executor.shutdownNow().size());
+        }
+    }
+
+    private SubmissionRejectedException reject() {
+        rejected.increment();
+        return new SubmissionRejectedException(
+                "Order submission queue is full, please retry later", RETRY_AFTER_SECONDS);
+    }
+
+    private OrderTicketResponse toResponse(OrderSubmission submission) {
+        return OrderTicketResponse.builder()
+                .ticketId(submission.getTicketId())
+                .status(submission.getStatus())
+                .submittedAt(submission.getSubmittedAt())
+                .startedAt(submission.getStartedAt())
+                .completedAt(submission.getCompletedAt())
+                .order(submission.getResponseBody() == null
+                        ? null : deserialize(submission.getResponseBody(), OrderResponse.class))
+                .error(submission.getError())
+                .build();
+    }
+
+    private String serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize order submission", e);
+        }
+    }
+
+    private <T> T deserialize(String body, Class<T> type) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to read stored order submission", e);
+        }
+    }
+
+    private static ThreadFactory workerThreadFactory(boolean virtualThreads) {
+        if (virtualThreads) {
+            // A worker blocked on JDBC then parks instead of holding a platform thread
+            return new VirtualThreadTaskExecutor("order-submission-").getVirtualThreadFactory();
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "order-submission-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class ClaimLostException extends RuntimeException {
+
+        private ClaimLostException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.project.packingoptions.service;
+
+/**
+ * Maintenance of the order read model ({@link com.project.packingoptions.repository.OrderViewStore}).
+ */
+public interface OrderViewService {
+
+    /**
+     * Regenerates the view of every stored order from the orders and their items, e.g. for
+     * orders created before the read model existed. Views are replaced batch by batch, so reads
+     * keep working while it runs.
+     *
+     * @return the number of orders whose view was written
+     */
+    int rebuild();
+
+    /**
+     * Rebuilds the view when the oldest stored order has none, as on the first start after the
+     * read model was added to a database that already held orders, or when documents were stored
+     * in an older format.
+     *
+     * @return the number of orders whose view was written, 0 when nothing was missing or stale
+     */
+    int rebuildIfMissing();
+}
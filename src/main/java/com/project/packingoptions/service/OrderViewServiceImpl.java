@@ -0,0 +1,82 @@
+package com.project.packingoptions.service;
+
+import com.project.packingoptions.mapper.OrderMapper;
+import com.project.packingoptions.model.Order;
+import com.project.packingoptions.repository.OrderRepository;
+import com.project.packingoptions.repository.OrderViewStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Service
+@Slf4j
+public class OrderViewServiceImpl implements OrderViewService {
+
+    static final int REBUILD_BATCH_SIZE = 500;
+
+    private final OrderRepository orderRepository;
+    private final OrderMapper orderMapper;
+    private final OrderViewStore orderViewStore;
+    private final TransactionTemplate transactionTemplate;
+
+    public OrderViewServiceImpl(OrderRepository orderRepository,
+                                OrderMapper orderMapper,
+                                OrderViewStore orderViewStore,
+                                PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.orderMapper = orderMapper;
+        this.orderViewStore = orderViewStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public int rebuild() {
+        if (!orderViewStore.isEnabled()) {
+            log.info("Order view is disabled for this order store, nothing to rebuild");
+            return 0;
+        }
+        log.info("Rebuilding order view");
+        long afterId = 0;
+        int rebuilt = 0;
+        while (true) {
+            long batchAfterId = afterId;
+            // One transaction per batch keeps locks and the persistence context small
+            List<Order> batch = transactionTemplate.execute(status -> {
+                List<Order> orders = orderRepository.findByIdGreaterThanOrderByIdAsc(batchAfterId,
+                        Limit.of(REBUILD_BATCH_SIZE));
+                orderMapper.toResponses(orders).forEach(orderViewStore::save);
+                return orders;
+            });
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            rebuilt += batch.size();
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+        log.info("Rebuilt order view for {} orders", rebuilt);
+        return rebuilt;
+    }
+
+    @Override
+    public int rebuildIfMissing() {
+        if (!orderViewStore.isEnabled()) {
+            return 0;
+        }
+        if (orderViewStore.hasStaleDocuments()) {
+            log.info("Order view holds documents older than version {}", OrderViewStore.DOCUMENT_VERSION);
+            return rebuild();
+        }
+        // Views are only ever missing from the oldest orders: those stored before the view existed
+        List<Order> oldest = transactionTemplate.execute(status ->
+                orderRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(1)));
+        if (oldest == null || oldest.isEmpty() || orderViewStore.findDocument(oldest.get(0).getId()).isPresent()) {
+            return 0;
+        }
+        log.info("Order {} has no view", oldest.get(0).getId());
+        return rebuild();
+    }
+}
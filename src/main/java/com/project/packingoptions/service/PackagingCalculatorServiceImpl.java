@@ -2,6 +2,7 @@ package com.project.packingoptions.service;
 
 import com.project.packingoptions.model.PackagingOption;
 import com.project.packingoptions.model.Product;
+import com.project.packingoptions.monitoring.PackagingSolveEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -13,8 +14,19 @@ import java.util.List;
 @Service
 @Slf4j
 public class PackagingCalculatorServiceImpl implements PackagingCalculatorService {
+
+    static final String STRATEGY = "greedy-largest-first";
+
     @Override
     public PackagingBreakdown calculateOptimalPackaging(int quantity, Product product, List<PackagingOption> packagingOptions) {
+        PackagingSolveEvent event = PackagingSolveEvent.start();
+        PackagingBreakdown breakdown = solve(quantity, product, packagingOptions);
+        event.finish(product.getCode(), quantity, packagingOptions.size(),
+                breakdown.getTotalPackageCount(), STRATEGY);
+        return breakdown;
+    }
+
+    private PackagingBreakdown solve(int quantity, Product product, List<PackagingOption> packagingOptions) {
         log.debug("Calculating optimal packaging for {} units of {}", quantity, product.getCode());
 
         if (quantity <= 0) {
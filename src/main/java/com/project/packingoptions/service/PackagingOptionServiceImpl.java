@@ -22,6 +22,7 @@ public class PackagingOptionServiceImpl implements PackagingOptionService {
 
     private final PackagingOptionRepository packagingOptionRepository;
     private final ProductRepository productRepository;
+    private final CatalogChangeLog catalogChangeLog;
 
     @Override
     @Transactional(readOnly = true)
@@ -63,7 +64,9 @@ public class PackagingOptionServiceImpl implements PackagingOptionService {
                 .bundlePrice(request.getBundlePrice())
                 .build();
 
-        return packagingOptionRepository.save(packagingOption);
+        PackagingOption saved = packagingOptionRepository.save(packagingOption);
+        catalogChangeLog.packagingOptionSaved(saved);
+        return saved;
     }
 
     @Override
@@ -80,7 +83,9 @@ public class PackagingOptionServiceImpl implements PackagingOptionService {
         existingOption.setBundleSize(request.getBundleSize());
         existingOption.setBundlePrice(request.getBundlePrice());
 
-        return packagingOptionRepository.save(existingOption);
+        PackagingOption saved = packagingOptionRepository.save(existingOption);
+        catalogChangeLog.packagingOptionSaved(saved);
+        return saved;
     }
 
     @Override
@@ -92,6 +97,7 @@ public class PackagingOptionServiceImpl implements PackagingOptionService {
         }
 
         packagingOptionRepository.deleteById(id);
+        catalogChangeLog.packagingOptionDeleted(id);
     }
 }
 
@@ -0,0 +1,37 @@
+package com.project.packingoptions.service;
+
+import com.project.packingoptions.dto.CatalogChangeResponse;
+import com.project.packingoptions.model.PackagingOption;
+import com.project.packingoptions.model.Product;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Node-local cache of each product with its packaging options, as order pricing reads them.
+ * Entries are evicted from the {@link CatalogChangeLog}, which on the database transport also
+ * carries writes made by other nodes.
+ */
+public interface ProductCatalogCache {
+
+    /**
+     * Returns the product and its packaging options, loading them on a miss.
+     */
+    Optional<CatalogEntry> find(String productCode);
+
+    /**
+     * Evicts the entries the change affects: its product, and any product holding the changed option.
+     */
+    void invalidate(CatalogChangeResponse change);
+
+    record CatalogEntry(Product product, List<PackagingOption> packagingOptions) {
+
+        public CatalogEntry {
+            packagingOptions = List.copyOf(packagingOptions);
+        }
+
+        boolean containsPackagingOption(Long packagingOptionId) {
+            return packagingOptions.stream().anyMatch(option -> packagingOptionId.equals(option.getId()));
+        }
+    }
+}
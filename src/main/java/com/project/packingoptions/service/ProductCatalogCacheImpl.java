@@ -0,0 +1,55 @@
+package com.project.packingoptions.service;
+
+import com.project.packingoptions.dto.CatalogChangeResponse;
+import com.project.packingoptions.repository.PackagingOptionRepository;
+import com.project.packingoptions.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductCatalogCacheImpl implements ProductCatalogCache {
+
+    private final ProductRepository productRepository;
+    private final PackagingOptionRepository packagingOptionRepository;
+
+    private final Map<String, CatalogEntry> entries = new ConcurrentHashMap<>();
+    // Bumped by every invalidation; a load that overlapped one may have read stale rows and is not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    @Override
+    public Optional<CatalogEntry> find(String productCode) {
+        CatalogEntry cached = entries.get(productCode);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long loadGeneration = generation.get();
+        Optional<CatalogEntry> loaded = productRepository.findByCode(productCode)
+                .map(product -> new CatalogEntry(product,
+                        packagingOptionRepository.findByProductCode(productCode)));
+        loaded.ifPresent(entry -> entries.compute(productCode,
+                (code, current) -> generation.get() == loadGeneration ? entry : current));
+        return loaded;
+    }
+
+    @Override
+    public void invalidate(CatalogChangeResponse change) {
+        generation.incrementAndGet();
+        if (change.getProductCode() != null) {
+            entries.remove(change.getProductCode());
+        }
+        if (change.getPackagingOptionId() != null) {
+            // Deletes and moves between products only name the option, not the product that held it
+            entries.values().removeIf(entry -> entry.containsPackagingOption(change.getPackagingOptionId()));
+        }
+        log.debug("Catalog cache invalidated for change {} ({})", change.getVersion(), change.getType());
+    }
+}
@@ -23,6 +23,7 @@ import java.util.Optional;
 public class ProductServiceImpl implements ProductService {
     private final ProductRepository productRepository;
     private final PackagingOptionRepository packagingOptionRepository;
+    private final CatalogChangeLog catalogChangeLog;
 
     @Override
     @Transactional(readOnly = true)
@@ -52,7 +53,9 @@ public class ProductServiceImpl implements ProductService {
                 .basePrice(request.getBasePrice())
                 .build();
 
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        catalogChangeLog.productSaved(saved);
+        return saved;
     }
 
     @Override
@@ -66,7 +69,9 @@ public class ProductServiceImpl implements ProductService {
         existingProduct.setName(request.getName());
         existingProduct.setBasePrice(request.getBasePrice());
 
-        return productRepository.save(existingProduct);
+        Product saved = productRepository.save(existingProduct);
+        catalogChangeLog.productSaved(saved);
+        return saved;
     }
 
     @Override
@@ -81,5 +86,6 @@ public class ProductServiceImpl implements ProductService {
         packagingOptionRepository.deleteByProductCode(code);
 
         productRepository.deleteByCode(code);
+        catalogChangeLog.productDeleted(code);
     }
 }
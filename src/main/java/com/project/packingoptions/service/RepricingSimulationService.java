@@ -0,0 +1,17 @@
+package com.project.packingoptions.service;
+
+import com.project.packingoptions.dto.PackagingOptionChange;
+import com.project.packingoptions.dto.RepricingSimulationResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * What-if repricing: packs the order lines of a date range with the current catalog and with a
+ * proposed one, and reports the difference. Nothing is persisted. Date ranges are inclusive and
+ * limited to {@link SalesAnalyticsService#MAX_RANGE_DAYS} days.
+ */
+public interface RepricingSimulationService {
+
+    RepricingSimulationResponse simulate(LocalDate from, LocalDate to, List<PackagingOptionChange> changes);
+}
@@ -0,0 +1,279 @@
+package com.project.packingoptions.service;
+
+import com.project.packingoptions.dto.PackagingOptionChange;
+import com.project.packingoptions.dto.RepricingSimulationResponse;
+import com.project.packingoptions.dto.RepricingSimulationResponse.ProductSimulation;
+import com.project.packingoptions.dto.RepricingSimulationResponse.SimulatedTotals;
+import com.project.packingoptions.exception.ResourceNotFoundException;
+import com.project.packingoptions.model.PackagingOption;
+import com.project.packingoptions.repository.OrderLineStatistics;
+import com.project.packingoptions.repository.OrderLineStatistics.QuantityCount;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Replays order lines as counts per product and quantity, so each distinct quantity is solved
+ * once however many lines ordered it. Counts are solved in batches on a dedicated fork-join pool
+ * while the next ones are read; at most two batches per worker are in flight, which bounds
+ * memory. Changed options are new, unsaved instances and the cached catalog is only read.
+ */
+@Service
+@Transactional(readOnly = true)
+@Slf4j
+public class RepricingSimulationServiceImpl implements RepricingSimulationService {
+
+    static final int BATCH_SIZE = 256;
+    private static final int SCALE = 4;
+
+    private final OrderLineStatistics orderLineStatistics;
+    private final ProductCatalogCache productCatalogCache;
+    private final ForkJoinPool pool;
+    private final int maxBatchesInFlight;
+
+    public RepricingSimulationServiceImpl(OrderLineStatistics orderLineStatistics,
+                                          ProductCatalogCache productCatalogCache,
+                                          @Value("${analytics.parallelism:0}") int parallelism) {
+        this.orderLineStatistics = orderLineStatistics;
+        this.productCatalogCache = productCatalogCache;
+        int workers = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(workers);
+        this.maxBatchesInFlight = 2 * workers;
+    }
+
+    @Override
+    public RepricingSimulationResponse simulate(LocalDate from, LocalDate to, List<PackagingOptionChange> changes) {
+        SalesAnalyticsServiceImpl.validateRange(from, to);
+        Map<String, Catalogs> catalogs = catalogs(changes);
+        log.info("Simulating {} packaging option changes of {} products from {} to {}",
+                changes.size(), catalogs.size(), from, to);
+
+        long start = System.nanoTime();
+        Replay replay = new Replay(catalogs);
+        orderLineStatistics.forEachQuantity(catalogs.keySet(), from.atStartOfDay(), to.plusDays(1).atStartOfDay(),
+                replay);
+        Map<String, Tally> tallies = replay.finish();
+
+        Tally total = new Tally();
+        List<ProductSimulation> products = new ArrayList<>(catalogs.size());
+        for (String productCode : catalogs.keySet()) {
+            Tally tally = tallies.getOrDefault(productCode, new Tally());
+            total.add(tally);
+            products.add(ProductSimulation.builder()
+                    .productCode(productCode)
+                    .orderLines(tally.lines)
+                    .current(tally.current())
+                    .proposed(tally.proposed())
+                    .delta(tally.delta())
+                    .build());
+        }
+        log.info("Simulated {} order lines in {} ms", total.lines, (System.nanoTime() - start) / 1_000_000);
+
+        return RepricingSimulationResponse.builder()
+                .from(from)
+                .to(to)
+                .orderLines(total.lines)
+                .current(total.current())
+                .proposed(total.proposed())
+                .delta(total.delta())
+                .products(products)
+                .build();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Current and proposed catalogs of every changed product, by product code.
+     */
+    private Map<String, Catalogs> catalogs(List<PackagingOptionChange> changes) {
+        Map<String, Map<Integer, PackagingOptionChange>> changesByProduct = new TreeMap<>();
+        for (PackagingOptionChange change : changes) {
+            PackagingOptionChange previous = changesByProduct
+                    .computeIfAbsent(change.getProductCode(), code -> new HashMap<>())
+                    .put(change.getBundleSize(), change);
+            if (previous != null) {
+                throw new IllegalArgumentException("Bundle size " + change.getBundleSize() + " of product "
+                        + change.getProductCode() + " is changed more than once");
+            }
+        }
+
+        Map<String, Catalogs> catalogs = new TreeMap<>();
+        changesByProduct.forEach((productCode, productChanges) -> {
+            ProductCatalogCache.CatalogEntry entry = productCatalogCache.find(productCode)
+                    .orElseThrow(() -> new ResourceNotFoundException("Product", "code", productCode));
+            catalogs.put(productCode, new Catalogs(
+                    BundleCatalog.of(entry.product(), entry.packagingOptions()),
+                    BundleCatalog.of(entry.product(), proposedOptions(productCode, entry, productChanges))));
+        });
+        return catalogs;
+    }
+
+    private static List<PackagingOption> proposedOptions(String productCode, ProductCatalogCache.CatalogEntry entry,
+                                                         Map<Integer, PackagingOptionChange> changes) {
+        Map<Integer, PackagingOptionChange> pending = new HashMap<>(changes);
+        List<PackagingOption> options = new ArrayList<>();
+        for (PackagingOption option : entry.packagingOptions()) {
+            PackagingOptionChange change = pending.remove(option.getBundleSize());
+            if (change == null) {
+                options.add(option);
+            } else if (change.getBundlePrice() != null) {
+                options.add(PackagingOption.of(productCode, option.getBundleSize(), change.getBundlePrice()));
+            }
+        }
+        for (PackagingOptionChange change : pending.values()) {
+            if (change.getBundlePrice() == null) {
+                throw new IllegalArgumentException("Product " + productCode + " has no bundle size "
+                        + change.getBundleSize() + " to remove");
+            }
+            options.add(PackagingOption.of(productCode, change.getBundleSize(), change.getBundlePrice()));
+        }
+        return options;
+    }
+
+    private record Catalogs(BundleCatalog current, BundleCatalog proposed) {
+    }
+
+    /**
+     * Collects streamed counts into batches and solves them on the pool. The reading thread
+     * blocks while {@code maxBatchesInFlight} batches are queued or running.
+     */
+    private class Replay implements Consumer<QuantityCount> {
+
+        private final Map<String, Catalogs> catalogs;
+        private final Map<String, Tally> tallies = new ConcurrentHashMap<>();
+        private final Semaphore inFlight = new Semaphore(maxBatchesInFlight);
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        private List<QuantityCount> batch = new ArrayList<>(BATCH_SIZE);
+
+        Replay(Map<String, Catalogs> catalogs) {
+            this.catalogs = catalogs;
+        }
+
+        @Override
+        public void accept(QuantityCount count) {
+            batch.add(count);
+            if (batch.size() == BATCH_SIZE) {
+                submit();
+            }
+        }
+
+        /**
+         * Solves the last batch, waits for all batches and returns the tallies by product code.
+         */
+        Map<String, Tally> finish() {
+            if (!batch.isEmpty()) {
+                submit();
+            }
+            inFlight.acquireUninterruptibly(maxBatchesInFlight);
+            inFlight.release(maxBatchesInFlight);
+            throwIfFailed();
+            return tallies;
+        }
+
+        private void submit() {
+            throwIfFailed();
+            List<QuantityCount> counts = batch;
+            batch = new ArrayList<>(BATCH_SIZE);
+            inFlight.acquireUninterruptibly();
+            try {
+                pool.execute(() -> {
+                    try {
+                        solve(counts);
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                inFlight.release();
+                throw e;
+            }
+        }
+
+        private void solve(List<QuantityCount> counts) {
+            Map<String, Tally> batchTallies = new HashMap<>();
+            for (QuantityCount count : counts) {
+                batchTallies.computeIfAbsent(count.productCode(), code -> new Tally())
+                        .add(count, catalogs.get(count.productCode()));
+            }
+            batchTallies.forEach((productCode, tally) -> tallies.merge(productCode, tally, Tally::add));
+        }
+
+        private void throwIfFailed() {
+            RuntimeException e = failure.get();
+            if (e != null) {
+                throw e;
+            }
+        }
+    }
+
+    private static final class Tally {
+
+        private long lines;
+        private long currentPackages;
+        private long proposedPackages;
+        private BigDecimal currentRevenue = BigDecimal.ZERO;
+        private BigDecimal proposedRevenue = BigDecimal.ZERO;
+
+        void add(QuantityCount count, Catalogs catalogs) {
+            BigDecimal lineCount = BigDecimal.valueOf(count.lines());
+            lines += count.lines();
+            currentPackages += count.lines() * catalogs.current().packages(count.quantity());
+            proposedPackages += count.lines() * catalogs.proposed().packages(count.quantity());
+            currentRevenue = currentRevenue.add(catalogs.current().price(count.quantity()).multiply(lineCount));
+            proposedRevenue = proposedRevenue.add(catalogs.proposed().price(count.quantity()).multiply(lineCount));
+        }
+
+        Tally add(Tally other) {
+            lines += other.lines;
+            currentPackages += other.currentPackages;
+            proposedPackages += other.proposedPackages;
+            currentRevenue = currentRevenue.add(other.currentRevenue);
+            proposedRevenue = proposedRevenue.add(other.proposedRevenue);
+            return this;
+        }
+
+        SimulatedTotals current() {
+            return totals(currentRevenue, currentPackages);
+        }
+
+        SimulatedTotals proposed() {
+            return totals(proposedRevenue, proposedPackages);
+        }
+
+        SimulatedTotals delta() {
+            SimulatedTotals current = current();
+            SimulatedTotals proposed = proposed();
+            return new SimulatedTotals(proposed.getRevenue().subtract(current.getRevenue()),
+                    proposed.getPackages() - current.getPackages(),
+                    proposed.getPackagesPerLine().subtract(current.getPackagesPerLine()));
+        }
+
+        private SimulatedTotals totals(BigDecimal revenue, long packages) {
+            BigDecimal packagesPerLine = lines == 0 ? BigDecimal.ZERO.setScale(SCALE)
+                    : BigDecimal.valueOf(packages).divide(BigDecimal.valueOf(lines), SCALE, RoundingMode.HALF_UP);
+            return new SimulatedTotals(revenue, packages, packagesPerLine);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.project.packingoptions.service;
+
+import com.project.packingoptions.dto.ProductSalesResponse;
+import com.project.packingoptions.dto.SalesMetric;
+import com.project.packingoptions.dto.TopProductsResponse;
+
+import java.time.LocalDate;
+
+/**
+ * Sales reports answered from the sales rollup. Date ranges are inclusive and limited to
+ * {@link #MAX_RANGE_DAYS} days.
+ */
+public interface SalesAnalyticsService {
+    int MAX_RANGE_DAYS = 366;
+    int MAX_TOP_PRODUCTS = 100;
+
+    ProductSalesResponse getProductSales(String productCode, LocalDate from, LocalDate to);
+
+    TopProductsResponse getTopProducts(LocalDate from, LocalDate to, SalesMetric metric, int limit);
+}
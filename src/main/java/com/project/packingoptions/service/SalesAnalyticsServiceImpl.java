@@ -0,0 +1,103 @@
+package com.project.packingoptions.service;
+
+import com.project.packingoptions.dto.ProductSalesResponse;
+import com.project.packingoptions.dto.ProductSalesResponse.BundleSales;
+import com.project.packingoptions.dto.ProductSalesResponse.DailySales;
+import com.project.packingoptions.dto.ProductSalesResponse.SalesTotals;
+import com.project.packingoptions.dto.SalesMetric;
+import com.project.packingoptions.dto.TopProductsResponse;
+import com.project.packingoptions.exception.ResourceNotFoundException;
+import com.project.packingoptions.repository.ProductRepository;
+import com.project.packingoptions.repository.SalesRollupStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Slf4j
+public class SalesAnalyticsServiceImpl implements SalesAnalyticsService {
+
+    private final SalesRollupStore salesRollupStore;
+    private final ProductRepository productRepository;
+
+    @Override
+    public ProductSalesResponse getProductSales(String productCode, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        log.info("Retrieving sales of product {} from {} to {}", productCode, from, to);
+        List<SalesRollupStore.DailySales> rows = salesRollupStore.findByProduct(productCode, from, to);
+        // Deleted products keep their history, so only an unknown product without sales is missing
+        if (rows.isEmpty() && !productRepository.existsByCode(productCode)) {
+            throw new ResourceNotFoundException("Product", "code", productCode);
+        }
+
+        SalesTotals totals = new SalesTotals(0, 0, BigDecimal.ZERO);
+        Map<Integer, BundleSales> bundles = new TreeMap<>();
+        Map<LocalDate, DailySales> days = new LinkedHashMap<>();
+        for (SalesRollupStore.DailySales row : rows) {
+            totals.setUnits(totals.getUnits() + row.units());
+            totals.setPackages(totals.getPackages() + row.packages());
+            totals.setRevenue(totals.getRevenue().add(row.revenue()));
+
+            BundleSales bundle = bundles.computeIfAbsent(row.bundleSize(),
+                    size -> new BundleSales(size, 0, 0, BigDecimal.ZERO));
+            bundle.setUnits(bundle.getUnits() + row.units());
+            bundle.setPackages(bundle.getPackages() + row.packages());
+            bundle.setRevenue(bundle.getRevenue().add(row.revenue()));
+
+            DailySales day = days.computeIfAbsent(row.salesDate(),
+                    date -> new DailySales(date, 0, 0, BigDecimal.ZERO));
+            day.setUnits(day.getUnits() + row.units());
+            day.setPackages(day.getPackages() + row.packages());
+            day.setRevenue(day.getRevenue().add(row.revenue()));
+        }
+
+        return ProductSalesResponse.builder()
+                .productCode(productCode)
+                .from(from)
+                .to(to)
+                .totals(totals)
+                .bundles(List.copyOf(bundles.values()))
+                .days(List.copyOf(days.values()))
+                .build();
+    }
+
+    @Override
+    public TopProductsResponse getTopProducts(LocalDate from, LocalDate to, SalesMetric metric, int limit) {
+        validateRange(from, to);
+        if (limit < 1 || limit > MAX_TOP_PRODUCTS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_TOP_PRODUCTS);
+        }
+        log.info("Retrieving top {} products by {} from {} to {}", limit, metric, from, to);
+        List<TopProductsResponse.ProductSales> products = salesRollupStore.findTopProducts(from, to, metric, limit)
+                .stream()
+                .map(row -> new TopProductsResponse.ProductSales(row.productCode(), row.units(), row.packages(),
+                        row.revenue()))
+                .toList();
+        return TopProductsResponse.builder()
+                .from(from)
+                .to(to)
+                .metric(metric)
+                .products(products)
+                .build();
+    }
+
+    static void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Date range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+    }
+}
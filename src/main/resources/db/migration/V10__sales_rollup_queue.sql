@@ -0,0 +1,13 @@
+-- Rollup deltas appended in each order's create/delete transaction. JdbcSalesRollupStore
+-- merges them into product_sales_daily and deletes them in one transaction of its own, so a
+-- failed apply leaves them queued for the next run.
+CREATE TABLE IF NOT EXISTS sales_rollup_queue (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    product_code  VARCHAR(20)    NOT NULL,
+    sales_date    DATE           NOT NULL,
+    bundle_size   INTEGER        NOT NULL,
+    units         BIGINT         NOT NULL,
+    packages      BIGINT         NOT NULL,
+    revenue       NUMERIC(14, 2) NOT NULL,
+    CONSTRAINT pk_sales_rollup_queue PRIMARY KEY (id)
+);
@@ -0,0 +1,21 @@
+-- Tickets for asynchronously submitted orders (OrderSubmissionServiceImpl). Kept in the shared
+-- database so any node can answer a poll, and a submission queued on a node that stops is picked
+-- up by another node or after the restart.
+CREATE TABLE IF NOT EXISTS order_submissions (
+    ticket_id      VARCHAR(36)   NOT NULL,
+    status         VARCHAR(20)   NOT NULL,
+    request_body   CLOB          NOT NULL,
+    response_body  CLOB,
+    error          VARCHAR(500),
+    claim_id       VARCHAR(36),
+    submitted_at   TIMESTAMP(6)  NOT NULL,
+    started_at     TIMESTAMP(6),
+    completed_at   TIMESTAMP(6),
+    CONSTRAINT pk_order_submissions PRIMARY KEY (ticket_id)
+);
+
+-- Recovery looks up queued and stalled submissions; the cleanup deletes finished ones by age.
+CREATE INDEX IF NOT EXISTS idx_order_submissions_status
+    ON order_submissions (status, submitted_at);
+CREATE INDEX IF NOT EXISTS idx_order_submissions_completed_at
+    ON order_submissions (completed_at);
@@ -0,0 +1,8 @@
+-- Format version of each order_view document (OrderViewStore.DOCUMENT_VERSION). Documents
+-- already stored were written with string order ids after V9, so they start at version 1 and
+-- OrderViewRebuildRunner rebuilds them at startup.
+ALTER TABLE order_view ADD COLUMN IF NOT EXISTS document_version INTEGER DEFAULT 1 NOT NULL;
+
+-- The startup check looks for any document below the current version.
+CREATE INDEX IF NOT EXISTS idx_order_view_document_version
+    ON order_view (document_version);
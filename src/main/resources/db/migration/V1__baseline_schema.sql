@@ -0,0 +1,47 @@
+-- Baseline schema matching the JPA entities.
+-- IF NOT EXISTS lets databases created earlier by hibernate ddl-auto adopt this history
+-- (spring.flyway.baseline-on-migrate with baseline version 0).
+
+CREATE TABLE IF NOT EXISTS products (
+    code        VARCHAR(20)    NOT NULL,
+    name        VARCHAR(100)   NOT NULL,
+    base_price  NUMERIC(10, 2) NOT NULL,
+    CONSTRAINT pk_products PRIMARY KEY (code)
+);
+
+CREATE TABLE IF NOT EXISTS packaging_options (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    product_code  VARCHAR(10)    NOT NULL,
+    bundle_size   INTEGER        NOT NULL,
+    bundle_price  NUMERIC(10, 2) NOT NULL,
+    CONSTRAINT pk_packaging_options PRIMARY KEY (id),
+    CONSTRAINT fk_packaging_options_product FOREIGN KEY (product_code) REFERENCES products (code)
+);
+
+CREATE TABLE IF NOT EXISTS orders (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    created_at   TIMESTAMP(6)   NOT NULL,
+    total_price  NUMERIC(10, 2) NOT NULL,
+    CONSTRAINT pk_orders PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS order_items (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    order_id          BIGINT         NOT NULL,
+    product_code      VARCHAR(10)    NOT NULL,
+    quantity_ordered  INTEGER        NOT NULL,
+    bundle_size       INTEGER        NOT NULL,
+    bundle_count      INTEGER        NOT NULL,
+    price_at_time     NUMERIC(10, 2) NOT NULL,
+    CONSTRAINT pk_order_items PRIMARY KEY (id),
+    CONSTRAINT fk_order_items_order FOREIGN KEY (order_id) REFERENCES orders (id)
+);
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key  VARCHAR(100) NOT NULL,
+    request_hash     VARCHAR(64)  NOT NULL,
+    order_id         BIGINT       NOT NULL,
+    response_body    CLOB         NOT NULL,
+    created_at       TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_idempotency_keys PRIMARY KEY (idempotency_key)
+);
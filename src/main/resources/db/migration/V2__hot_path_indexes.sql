@@ -0,0 +1,16 @@
+-- Catalog lookup: findByProductCode during every order line; bundle_size lets the
+-- solver's descending sort read options in index order.
+CREATE INDEX IF NOT EXISTS idx_packaging_options_product_size
+    ON packaging_options (product_code, bundle_size);
+
+-- Order rendering: loading items for one or many orders.
+CREATE INDEX IF NOT EXISTS idx_order_items_order_id
+    ON order_items (order_id);
+
+-- Orders containing a product; order_id makes the lookup index-only for existence checks.
+CREATE INDEX IF NOT EXISTS idx_order_items_product_order
+    ON order_items (product_code, order_id);
+
+-- Order listing and date-range filters; id breaks ties for keyset pagination.
+CREATE INDEX IF NOT EXISTS idx_orders_created_at
+    ON orders (created_at, id);
@@ -1,3 +1,4 @@
+-- Sample catalog, applied once by Flyway instead of on every boot.
 MERGE INTO products (code, name, base_price) KEY(code) VALUES ('CE', 'Cheese', 5.95);
 MERGE INTO products (code, name, base_price) KEY(code) VALUES ('HM', 'Ham', 7.95);
 MERGE INTO products (code, name, base_price) KEY(code) VALUES ('SS', 'Soy Sauce', 11.95);
@@ -0,0 +1,22 @@
+-- Committed product and packaging-option writes, tailed by every node to keep
+-- node-local catalog caches and the change feed in step (DatabaseCatalogChangeLog).
+CREATE TABLE IF NOT EXISTS catalog_changes (
+    version              BIGINT        NOT NULL,
+    change_type          VARCHAR(32)   NOT NULL,
+    product_code         VARCHAR(20),
+    packaging_option_id  BIGINT,
+    payload              VARCHAR(2000),
+    changed_at           TIMESTAMP(6)  NOT NULL,
+    CONSTRAINT pk_catalog_changes PRIMARY KEY (version)
+);
+
+-- Single row handing out change versions. Writers increment it inside their transaction,
+-- so its row lock orders catalog commits by version.
+CREATE TABLE IF NOT EXISTS catalog_change_sequence (
+    id            INTEGER  NOT NULL,
+    last_version  BIGINT   NOT NULL,
+    CONSTRAINT pk_catalog_change_sequence PRIMARY KEY (id)
+);
+
+INSERT INTO catalog_change_sequence (id, last_version)
+SELECT 1, 0 WHERE NOT EXISTS (SELECT 1 FROM catalog_change_sequence);
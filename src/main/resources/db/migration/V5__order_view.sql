@@ -0,0 +1,10 @@
+-- Read model for order queries: one row per order holding the GET /api/v1/orders/{id} JSON.
+-- Written in the order's transaction; rebuild from orders/order_items with --rebuild-order-view.
+CREATE TABLE IF NOT EXISTS order_view (
+    order_id        BIGINT         NOT NULL,
+    created_at      TIMESTAMP(6)   NOT NULL,
+    total_price     NUMERIC(10, 2) NOT NULL,
+    total_packages  INTEGER        NOT NULL,
+    document        BLOB           NOT NULL,
+    CONSTRAINT pk_order_view PRIMARY KEY (order_id)
+);
@@ -0,0 +1,26 @@
+-- Sales rollup per product, day and bundle size, maintained in each order's create/delete
+-- transaction (JdbcSalesRollupStore) so analytics never scan order_items.
+CREATE TABLE IF NOT EXISTS product_sales_daily (
+    product_code  VARCHAR(20)    NOT NULL,
+    sales_date    DATE           NOT NULL,
+    bundle_size   INTEGER        NOT NULL,
+    units         BIGINT         NOT NULL,
+    packages      BIGINT         NOT NULL,
+    revenue       NUMERIC(14, 2) NOT NULL,
+    CONSTRAINT pk_product_sales_daily PRIMARY KEY (product_code, sales_date, bundle_size)
+);
+
+-- Top products over a date range.
+CREATE INDEX IF NOT EXISTS idx_product_sales_daily_date
+    ON product_sales_daily (sales_date, product_code);
+
+-- Backfill from orders placed before the rollup existed.
+INSERT INTO product_sales_daily (product_code, sales_date, bundle_size, units, packages, revenue)
+SELECT i.product_code, CAST(o.created_at AS DATE), i.bundle_size,
+       SUM(CAST(i.bundle_size AS BIGINT) * i.bundle_count),
+       SUM(i.bundle_count),
+       SUM(i.bundle_count * i.price_at_time)
+FROM order_items i
+JOIN orders o ON o.id = i.order_id
+WHERE NOT EXISTS (SELECT 1 FROM product_sales_daily)
+GROUP BY i.product_code, CAST(o.created_at AS DATE), i.bundle_size;
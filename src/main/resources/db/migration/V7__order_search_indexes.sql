@@ -0,0 +1,4 @@
+-- Order search by total price range; id makes the keyset condition part of the index range.
+-- Product and date filters use idx_order_items_product_order and idx_orders_created_at (V2).
+CREATE INDEX IF NOT EXISTS idx_orders_total_price
+    ON orders (total_price, id);
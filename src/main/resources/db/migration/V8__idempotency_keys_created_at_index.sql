@@ -0,0 +1,3 @@
+-- The idempotency key purge deletes by age (IdempotencyServiceImpl.purgeExpired).
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_created_at
+    ON idempotency_keys (created_at);
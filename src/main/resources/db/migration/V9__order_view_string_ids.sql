@@ -0,0 +1,3 @@
+-- Order ids in response JSON are now strings. Stored documents still hold numeric ids, so drop them;
+-- OrderViewRebuildRunner rebuilds the view at startup once the oldest order has no document.
+DELETE FROM order_view;
@@ -0,0 +1,31 @@
+-- Order tables for one shard of orders.store=sharded. Ids are assigned by the application
+-- (TimeOrderedIdGenerator), so the columns have no identity default.
+
+CREATE TABLE IF NOT EXISTS orders (
+    id           BIGINT         NOT NULL,
+    created_at   TIMESTAMP(6)   NOT NULL,
+    total_price  NUMERIC(10, 2) NOT NULL,
+    CONSTRAINT pk_orders PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS order_items (
+    id                BIGINT         NOT NULL,
+    order_id          BIGINT         NOT NULL,
+    product_code      VARCHAR(10)    NOT NULL,
+    quantity_ordered  INTEGER        NOT NULL,
+    bundle_size       INTEGER        NOT NULL,
+    bundle_count      INTEGER        NOT NULL,
+    price_at_time     NUMERIC(10, 2) NOT NULL,
+    CONSTRAINT pk_order_items PRIMARY KEY (id),
+    CONSTRAINT fk_order_items_order FOREIGN KEY (order_id) REFERENCES orders (id)
+);
+
+-- Same hot-path indexes as the main schema (V2__hot_path_indexes)
+CREATE INDEX IF NOT EXISTS idx_order_items_order_id
+    ON order_items (order_id);
+
+CREATE INDEX IF NOT EXISTS idx_order_items_product_order
+    ON order_items (product_code, order_id);
+
+CREATE INDEX IF NOT EXISTS idx_orders_created_at
+    ON orders (created_at, id);
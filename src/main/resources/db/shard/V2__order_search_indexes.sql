@@ -0,0 +1,3 @@
+-- Same order search index as the main schema (V7__order_search_indexes)
+CREATE INDEX IF NOT EXISTS idx_orders_total_price
+    ON orders (total_price, id);
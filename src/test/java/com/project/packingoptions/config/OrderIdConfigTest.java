@@ -0,0 +1,43 @@
+package com.project.packingoptions.config;
+
+import com.project.packingoptions.dto.OrderItemRequest;
+import com.project.packingoptions.dto.OrderRequest;
+import com.project.packingoptions.service.OrderService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"orders.id.node-id=7", "orders.id.nodes=2"})
+@ActiveProfiles("test")
+class OrderIdConfigTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Test
+    @DisplayName("Should generate entity ids with this context's node id")
+    void testOrdersUseConfiguredNodeId() {
+        Long orderId = orderService.createOrder(new OrderRequest(List.of(new OrderItemRequest("CE", 10)))).getOrderId();
+
+        // [41 bits timestamp][10 bits node][12 bits sequence]
+        assertEquals(7, (orderId >>> 12) & 1023);
+    }
+
+    @Test
+    @DisplayName("Should fail at startup when several nodes are configured without a node id")
+    void testMissingNodeIdWithSeveralNodes() {
+        assertThrows(IllegalStateException.class, () -> new OrderIdConfig().timeOrderedIdGenerator(null, 2));
+    }
+
+    @Test
+    @DisplayName("Should use node 0 on a single node without a node id")
+    void testSingleNodeDefaultsToNodeZero() {
+        assertEquals(0, new OrderIdConfig().timeOrderedIdGenerator(null, 1).nodeId());
+    }
+}
@@ -0,0 +1,67 @@
+package com.project.packingoptions.config;
+
+import com.project.packingoptions.model.Product;
+import com.project.packingoptions.repository.ProductRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "app.datasource.routing.enabled=true")
+@ActiveProfiles("test")
+class ReadWriteRoutingDataSourceTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("readDataSource")
+    private HikariDataSource readDataSource;
+
+    @Autowired
+    @Qualifier("writeDataSource")
+    private HikariDataSource writeDataSource;
+
+    @Test
+    @DisplayName("Should route read-only transactions to the read pool")
+    void testReadOnlyTransactionUsesReadPool() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        readOnly.executeWithoutResult(status -> {
+            assertFalse(productRepository.findAll().isEmpty());
+            assertEquals(1, readDataSource.getHikariPoolMXBean().getActiveConnections());
+            assertEquals(0, writeDataSource.getHikariPoolMXBean().getActiveConnections());
+        });
+    }
+
+    @Test
+    @DisplayName("Should route read-write transactions to the write pool")
+    void testReadWriteTransactionUsesWritePool() {
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        readWrite.executeWithoutResult(status -> {
+            // Assigned id, so save merges and selects through the transaction's connection
+            productRepository.save(Product.builder()
+                    .code("RW")
+                    .name("Routing Test")
+                    .basePrice(new BigDecimal("1.00"))
+                    .build());
+            assertEquals(1, writeDataSource.getHikariPoolMXBean().getActiveConnections());
+            assertEquals(0, readDataSource.getHikariPoolMXBean().getActiveConnections());
+            status.setRollbackOnly();
+        });
+    }
+}
@@ -0,0 +1,55 @@
+package com.project.packingoptions.config;
+
+import com.project.packingoptions.dto.OrderItemRequest;
+import com.project.packingoptions.dto.OrderRequest;
+import com.project.packingoptions.dto.OrderResponse;
+import com.project.packingoptions.service.OrderService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Points the read pool at a separate database that has the schema and catalog but never
+ * receives writes, standing in for a replica that has not caught up yet.
+ */
+@SpringBootTest(properties = {
+        "app.datasource.routing.enabled=true",
+        "app.datasource.read.url=" + ReplicaLagTest.REPLICA_URL
+})
+@ActiveProfiles("test")
+class ReplicaLagTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:lagging-replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private OrderService orderService;
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+    }
+
+    @Test
+    @DisplayName("Should read a just-created order by id from the primary while listings lag on the replica")
+    void testReadOwnOrderWhileReplicaLags() {
+        OrderResponse created = orderService.createOrder(new OrderRequest(List.of(new OrderItemRequest("CE", 10))));
+        Long orderId = created.getOrderId();
+
+        assertTrue(orderService.orderExists(orderId));
+        assertEquals(orderId, orderService.getOrderById(orderId).orElseThrow().getOrderId());
+        assertTrue(orderService.getOrderJson(orderId).isPresent());
+        assertTrue(orderService.getOrders(0, 10).stream().noneMatch(order -> orderId.equals(order.getOrderId())));
+    }
+}
@@ -0,0 +1,23 @@
+package com.project.packingoptions.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * The in-memory test database outlives individual Spring contexts, so every context
+ * cleans it and re-applies the migrations, as create-drop used to.
+ */
+@Configuration
+@Profile("test")
+public class TestFlywayConfig {
+
+    @Bean
+    public FlywayMigrationStrategy cleanMigrateStrategy() {
+        return flyway -> {
+            flyway.clean();
+            flyway.migrate();
+        };
+    }
+}
@@ -0,0 +1,45 @@
+package com.project.packingoptions.config;
+
+import com.project.packingoptions.util.SqlStatementCounter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.sql.Connection;
+
+/**
+ * Routes every connection handed out by the test profile's Hikari pools through
+ * {@link SqlStatementCounter}. Only the pools are wrapped, not the routing data source in
+ * front of them, so each statement is counted once whichever path issued it.
+ */
+@Configuration
+@Profile("test")
+public class TestSqlCountingConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource)) {
+                    return bean;
+                }
+                // Class-based proxy, so the bean can still be injected as a HikariDataSource
+                ProxyFactory proxyFactory = new ProxyFactory(bean);
+                proxyFactory.setProxyTargetClass(true);
+                proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+                    Object result = invocation.proceed();
+                    return result instanceof Connection connection
+                            && invocation.getMethod().getName().equals("getConnection")
+                            ? SqlStatementCounter.counting(connection)
+                            : result;
+                });
+                return proxyFactory.getProxy();
+            }
+        };
+    }
+}
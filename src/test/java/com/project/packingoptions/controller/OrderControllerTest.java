@@ -5,10 +5,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.packingoptions.dto.OrderItemRequest;
 import com.project.packingoptions.dto.OrderRequest;
 import com.project.packingoptions.dto.OrderResponse;
+import com.project.packingoptions.dto.OrderTicketResponse;
+import com.project.packingoptions.dto.OrderTicketStatus;
 import com.project.packingoptions.dto.OrderResponse.PackageBreakdown;
 import com.project.packingoptions.dto.OrderResponse.ProductBreakdown;
 import com.project.packingoptions.exception.ResourceNotFoundException;
+import com.project.packingoptions.service.IdempotencyService;
+import com.project.packingoptions.service.IdempotencyService.IdempotentResult;
 import com.project.packingoptions.service.OrderService;
+import com.project.packingoptions.service.OrderSubmissionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,10 +28,12 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -44,6 +51,12 @@ class OrderControllerTest {
     @MockBean
     private OrderService orderService;
 
+    @MockBean
+    private IdempotencyService idempotencyService;
+
+    @MockBean
+    private OrderSubmissionService orderSubmissionService;
+
     private OrderResponse sampleOrder;
 
     @BeforeEach
@@ -54,7 +67,7 @@ class OrderControllerTest {
 
         ProductBreakdown productBreakdown = new ProductBreakdown(
                 "CE", "Cheese", 10, new BigDecimal("41.90"),
-                Collections.singletonList(packageBreakdown));
+                Collections.singletonList(packageBreakdown), List.of(0));
 
         sampleOrder = new OrderResponse(
                 1L, LocalDateTime.now(), new BigDecimal("41.90"),
@@ -75,10 +88,23 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$[0].totalPrice", is(41.90)));
     }
 
+    @Test
+    @DisplayName("GET /api/v1/orders?afterId= - Should return a keyset page with the default size")
+    void testGetOrdersPage() throws Exception {
+        when(orderService.getOrders(7L, OrderController.DEFAULT_PAGE_SIZE))
+                .thenReturn(Collections.singletonList(sampleOrder));
+
+        mockMvc.perform(get("/api/v1/orders").param("afterId", "7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+
+        verify(orderService, never()).getAllOrders();
+    }
+
     @Test
     @DisplayName("GET /api/v1/orders/{id} - Should return order by ID")
     void testGetOrderById() throws Exception {
-        when(orderService.getOrderById(1L)).thenReturn(Optional.of(sampleOrder));
+        when(orderService.getOrderJson(1L)).thenReturn(Optional.of(objectMapper.writeValueAsBytes(sampleOrder)));
 
         mockMvc.perform(get("/api/v1/orders/1"))
                 .andExpect(status().isOk())
@@ -87,18 +113,44 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.totalPrice", is(41.90)))
                 .andExpect(jsonPath("$.productBreakdowns", hasSize(1)))
                 .andExpect(jsonPath("$.productBreakdowns[0].productCode", is("CE")))
-                .andExpect(jsonPath("$.productBreakdowns[0].quantityOrdered", is(10)));
+                .andExpect(jsonPath("$.productBreakdowns[0].quantityOrdered", is(10)))
+                .andExpect(header().string("ETag", "\"order-1\""))
+                .andExpect(header().string("Cache-Control", "max-age=60"));
     }
 
     @Test
     @DisplayName("GET /api/v1/orders/{id} - Should return 404 for non-existent order")
     void testGetOrderByIdNotFound() throws Exception {
-        when(orderService.getOrderById(999L)).thenReturn(Optional.empty());
+        when(orderService.getOrderJson(999L)).thenReturn(Optional.empty());
 
         mockMvc.perform(get("/api/v1/orders/999"))
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("GET /api/v1/orders/{id} - Should return 304 for a matching ETag without loading the order")
+    void testGetOrderByIdNotModified() throws Exception {
+        when(orderService.orderExists(1L)).thenReturn(true);
+
+        mockMvc.perform(get("/api/v1/orders/1").header("If-None-Match", "\"order-1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"order-1\""))
+                .andExpect(content().string(""));
+
+        verify(orderService, never()).getOrderJson(any());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/orders/{id} - Should return 404 for a matching ETag when the order was deleted")
+    void testGetOrderByIdNotModifiedAfterDelete() throws Exception {
+        when(orderService.orderExists(1L)).thenReturn(false);
+        when(orderService.getOrderJson(1L)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1/orders/1").header("If-None-Match", "\"order-1\""))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist("ETag"));
+    }
+
     @Test
     @DisplayName("POST /api/v1/orders - Should create an order with optimal packaging")
     void testCreateOrder() throws Exception {
@@ -112,12 +164,65 @@ class OrderControllerTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.orderId", is(1)))
+                .andExpect(jsonPath("$.orderIdString", is("1")))
                 .andExpect(jsonPath("$.totalPrice", is(41.90)))
                 .andExpect(jsonPath("$.productBreakdowns[0].productCode", is("CE")))
                 .andExpect(jsonPath("$.productBreakdowns[0].packages[0].bundleSize", is(5)))
                 .andExpect(jsonPath("$.productBreakdowns[0].packages[0].bundleCount", is(2)));
     }
 
+    @Test
+    @DisplayName("POST /api/v1/orders - Should replay order for a repeated Idempotency-Key")
+    void testCreateOrderWithIdempotencyKey() throws Exception {
+        OrderRequest request = new OrderRequest(Arrays.asList(
+                new OrderItemRequest("CE", 10)));
+
+        when(idempotencyService.createOrder(eq("retry-1"), any(OrderRequest.class)))
+                .thenReturn(new IdempotentResult(sampleOrder, true));
+
+        mockMvc.perform(post("/api/v1/orders")
+                        .header("Idempotency-Key", "retry-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.orderId", is(1)));
+
+        verify(orderService, never()).createOrder(any(OrderRequest.class));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/orders/async - Should accept an order and return a ticket")
+    void testSubmitOrderAsync() throws Exception {
+        OrderRequest request = new OrderRequest(Arrays.asList(
+                new OrderItemRequest("ce", 10)));
+
+        when(orderSubmissionService.submitOrder(any(OrderRequest.class))).thenReturn(OrderTicketResponse.builder()
+                .ticketId("ticket-1")
+                .status(OrderTicketStatus.QUEUED)
+                .submittedAt(LocalDateTime.now())
+                .build());
+
+        mockMvc.perform(post("/api/v1/orders/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/v1/orders/tickets/ticket-1"))
+                .andExpect(jsonPath("$.ticketId", is("ticket-1")))
+                .andExpect(jsonPath("$.status", is("QUEUED")));
+
+        verify(orderSubmissionService).submitOrder(argThat(r -> r.getItems().get(0).getProductCode().equals("CE")));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/orders/tickets/{id} - Should return 404 for unknown ticket")
+    void testGetTicketNotFound() throws Exception {
+        when(orderSubmissionService.getTicket("missing")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1/orders/tickets/missing"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     @DisplayName("POST /api/v1/orders - Should return 400 for empty order")
     void testCreateOrderEmptyItems() throws Exception {
@@ -6,6 +6,7 @@ import com.project.packingoptions.dto.ProductUpdateRequest;
 import com.project.packingoptions.exception.ResourceAlreadyExistsException;
 import com.project.packingoptions.exception.ResourceNotFoundException;
 import com.project.packingoptions.model.Product;
+import com.project.packingoptions.service.CatalogChangeLog;
 import com.project.packingoptions.service.ProductService;
 import com.project.packingoptions.util.TestDataFactory;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,6 +33,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @ActiveProfiles("test")
 class ProductControllerTest {
 
+        private static final String CATALOG_ETAG = "\"catalog-1\"";
+
         @Autowired
         private MockMvc mockMvc;
 
@@ -41,6 +44,9 @@ class ProductControllerTest {
         @MockBean
         private ProductService productService;
 
+        @MockBean
+        private CatalogChangeLog catalogChangeLog;
+
         private Product product1;
         private Product product2;
         private String product1Code;
@@ -53,6 +59,8 @@ class ProductControllerTest {
 
                 product1 = TestDataFactory.createProduct(product1Code, "Cheese", new BigDecimal("5.95"));
                 product2 = TestDataFactory.createProduct(product2Code, "Ham", new BigDecimal("7.95"));
+
+                when(catalogChangeLog.latestVersion()).thenReturn(1L);
         }
 
         @Test
@@ -66,7 +74,31 @@ class ProductControllerTest {
                                 .andExpect(jsonPath("$", hasSize(2)))
                                 .andExpect(jsonPath("$[0].code", is(product1Code)))
                                 .andExpect(jsonPath("$[0].name", is("Cheese")))
-                                .andExpect(jsonPath("$[1].code", is(product2Code)));
+                                .andExpect(jsonPath("$[1].code", is(product2Code)))
+                                .andExpect(header().string("ETag", CATALOG_ETAG))
+                                .andExpect(header().string("Cache-Control", "no-cache"));
+        }
+
+        @Test
+        @DisplayName("GET /api/v1/products - Should return 304 for the current catalog ETag without loading products")
+        void testGetAllProductsNotModified() throws Exception {
+                mockMvc.perform(get("/api/v1/products").header("If-None-Match", CATALOG_ETAG))
+                                .andExpect(status().isNotModified())
+                                .andExpect(header().string("ETag", CATALOG_ETAG))
+                                .andExpect(content().string(""));
+
+                verify(productService, never()).getAllProducts();
+        }
+
+        @Test
+        @DisplayName("GET /api/v1/products - Should return products when the catalog ETag is stale")
+        void testGetAllProductsStaleETag() throws Exception {
+                when(productService.getAllProducts()).thenReturn(Arrays.asList(product1, product2));
+
+                mockMvc.perform(get("/api/v1/products").header("If-None-Match", "\"catalog-0\""))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$", hasSize(2)))
+                                .andExpect(header().string("ETag", CATALOG_ETAG));
         }
 
         @Test
@@ -0,0 +1,125 @@
+package com.project.packingoptions.integration;
+
+import com.project.packingoptions.PackingOptionsApplication;
+import com.project.packingoptions.dto.ProductUpdateRequest;
+import com.project.packingoptions.service.CatalogChangeLog;
+import com.project.packingoptions.service.PackagingOptionService;
+import com.project.packingoptions.service.ProductCatalogCache;
+import com.project.packingoptions.service.ProductService;
+import org.h2.tools.Server;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.ServerSocket;
+import java.sql.SQLException;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two application instances sharing one H2 server, as several nodes behind a load balancer
+ * share the production database. Each keeps its own catalog cache.
+ */
+class CatalogInvalidationIntegrationTest {
+
+        private static final long POLL_INTERVAL_MS = 200;
+        // Allowance for scheduler jitter and the poll query itself
+        private static final long TOLERANCE_MS = 500;
+
+        private static Server h2Server;
+        private static ConfigurableApplicationContext nodeA;
+        private static ConfigurableApplicationContext nodeB;
+
+        @BeforeAll
+        static void startNodes() throws SQLException, IOException {
+                int port;
+                try (ServerSocket socket = new ServerSocket(0)) {
+                        port = socket.getLocalPort();
+                }
+                h2Server = Server.createTcpServer("-tcpPort", String.valueOf(port), "-ifNotExists").start();
+                String url = "jdbc:h2:tcp://localhost:" + port + "/mem:catalog-nodes;DB_CLOSE_DELAY=-1";
+
+                nodeA = startNode(url);
+                nodeB = startNode(url);
+        }
+
+        @AfterAll
+        static void stopNodes() {
+                if (nodeB != null) {
+                        nodeB.close();
+                }
+                if (nodeA != null) {
+                        nodeA.close();
+                }
+                if (h2Server != null) {
+                        h2Server.stop();
+                }
+        }
+
+        private static ConfigurableApplicationContext startNode(String url) {
+                return new SpringApplicationBuilder(PackingOptionsApplication.class)
+                                .web(WebApplicationType.NONE)
+                                .run("--spring.datasource.url=" + url,
+                                                "--spring.datasource.username=sa",
+                                                "--spring.datasource.password=",
+                                                "--spring.jpa.show-sql=false",
+                                                "--app.datasource.routing.enabled=false",
+                                                "--catalog.changes.transport=database",
+                                                "--catalog.changes.poll-interval-ms=" + POLL_INTERVAL_MS);
+        }
+
+        @Test
+        @DisplayName("Integration test: a price change on one node reaches the other node's catalog cache within the poll interval")
+        void testProductChangeConvergesAcrossNodes() throws InterruptedException {
+                ProductCatalogCache cacheA = nodeA.getBean(ProductCatalogCache.class);
+                ProductCatalogCache cacheB = nodeB.getBean(ProductCatalogCache.class);
+                BigDecimal oldPrice = cacheB.find("HM").orElseThrow().product().getBasePrice();
+                BigDecimal newPrice = oldPrice.add(new BigDecimal("0.50"));
+                cacheA.find("HM");
+
+                nodeA.getBean(ProductService.class).updateProduct("HM", new ProductUpdateRequest("Ham", newPrice));
+                long updatedAt = System.nanoTime();
+
+                // The writing node applies its own change as the transaction commits
+                assertEquals(newPrice, cacheA.find("HM").orElseThrow().product().getBasePrice());
+
+                long convergedMs = awaitMillis(updatedAt,
+                                () -> newPrice.equals(cacheB.find("HM").orElseThrow().product().getBasePrice()));
+                assertTrue(convergedMs <= POLL_INTERVAL_MS + TOLERANCE_MS,
+                                "Node B converged after " + convergedMs + " ms");
+                assertEquals(nodeA.getBean(CatalogChangeLog.class).latestVersion(),
+                                nodeB.getBean(CatalogChangeLog.class).latestVersion());
+        }
+
+        @Test
+        @DisplayName("Integration test: a packaging option deleted on one node disappears from the other node's catalog cache")
+        void testPackagingOptionDeleteConvergesAcrossNodes() throws InterruptedException {
+                ProductCatalogCache cacheA = nodeA.getBean(ProductCatalogCache.class);
+                int optionsBefore = cacheA.find("CE").orElseThrow().packagingOptions().size();
+                Long optionId = cacheA.find("CE").orElseThrow().packagingOptions().get(0).getId();
+
+                nodeB.getBean(PackagingOptionService.class).deletePackagingOption(optionId);
+                long deletedAt = System.nanoTime();
+
+                long convergedMs = awaitMillis(deletedAt,
+                                () -> cacheA.find("CE").orElseThrow().packagingOptions().size() == optionsBefore - 1);
+                assertTrue(convergedMs <= POLL_INTERVAL_MS + TOLERANCE_MS,
+                                "Node A converged after " + convergedMs + " ms");
+        }
+
+        private long awaitMillis(long startNanos, BooleanSupplier condition) throws InterruptedException {
+                long deadline = startNanos + 10_000_000_000L;
+                while (!condition.getAsBoolean()) {
+                        assertTrue(System.nanoTime() < deadline, "Nodes did not converge within 10s");
+                        Thread.sleep(10);
+                }
+                return (System.nanoTime() - startNanos) / 1_000_000;
+        }
+}
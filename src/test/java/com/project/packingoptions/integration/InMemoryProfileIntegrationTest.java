@@ -0,0 +1,80 @@
+package com.project.packingoptions.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.packingoptions.dto.OrderItemRequest;
+import com.project.packingoptions.dto.OrderRequest;
+import com.project.packingoptions.repository.OrderRepository;
+import com.project.packingoptions.repository.memory.InMemoryOrderRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("in-memory")
+class InMemoryProfileIntegrationTest {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Autowired
+        private ApplicationContext applicationContext;
+
+        @Autowired
+        private OrderRepository orderRepository;
+
+        @Test
+        @DisplayName("Integration test: in-memory profile runs without a database")
+        void testNoDataSource() {
+                assertInstanceOf(InMemoryOrderRepository.class, orderRepository);
+                assertEquals(0, applicationContext.getBeanNamesForType(DataSource.class).length);
+        }
+
+        @Test
+        @DisplayName("Integration test: in-memory profile creates and reads orders against the seeded catalog")
+        void testCreateAndReadOrder() throws Exception {
+                OrderRequest request = new OrderRequest(Arrays.asList(
+                                new OrderItemRequest("CE", 10),
+                                new OrderItemRequest("HM", 14)));
+
+                String response = mockMvc.perform(post("/api/v1/orders")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isCreated())
+                                .andExpect(jsonPath("$.totalPrice", is(120.75)))
+                                .andExpect(jsonPath("$.productBreakdowns", hasSize(2)))
+                                .andReturn().getResponse().getContentAsString();
+                long orderId = objectMapper.readTree(response).get("orderId").asLong();
+
+                mockMvc.perform(get("/api/v1/orders/" + orderId))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.orderId", is((int) orderId)))
+                                .andExpect(jsonPath("$.productBreakdowns[*].productCode",
+                                                containsInAnyOrder("CE", "HM")));
+        }
+
+        @Test
+        @DisplayName("Integration test: in-memory profile lists packaging options by product")
+        void testPackagingOptionsByProduct() throws Exception {
+                mockMvc.perform(get("/api/v1/packaging-options/product/HM"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$", hasSize(3)));
+        }
+}
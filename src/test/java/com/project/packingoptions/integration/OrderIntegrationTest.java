@@ -1,23 +1,37 @@
 package com.project.packingoptions.integration;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.project.packingoptions.dto.OrderItemRequest;
 import com.project.packingoptions.dto.OrderRequest;
+import com.project.packingoptions.dto.PackagingOptionChange;
 import com.project.packingoptions.dto.ProductRequest;
 import com.project.packingoptions.dto.ProductUpdateRequest;
+import com.project.packingoptions.dto.RepricingSimulationRequest;
+import com.project.packingoptions.repository.SalesRollupStore;
+import com.project.packingoptions.service.OrderService;
+import com.project.packingoptions.service.OrderSubmissionServiceImpl;
+import com.project.packingoptions.service.OrderViewService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -32,6 +46,21 @@ class OrderIntegrationTest {
         @Autowired
         private ObjectMapper objectMapper;
 
+        @Autowired
+        private OrderService orderService;
+
+        @Autowired
+        private OrderViewService orderViewService;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Autowired
+        private SalesRollupStore salesRollupStore;
+
+        @Autowired
+        private OrderSubmissionServiceImpl orderSubmissionService;
+
         @Test
         @DisplayName("Integration test: Create order with 10 CE, 14 HM, 3 SS")
         void testCreateOrderWithExampleScenario() throws Exception {
@@ -45,10 +74,92 @@ class OrderIntegrationTest {
                                 .content(objectMapper.writeValueAsString(request)))
                                 .andExpect(status().isCreated())
                                 .andExpect(jsonPath("$.orderId").isNumber())
+                                .andExpect(jsonPath("$.orderIdString").isString())
                                 .andExpect(jsonPath("$.totalPrice").isNumber())
                                 .andExpect(jsonPath("$.productBreakdowns", hasSize(3)));
         }
 
+        @Test
+        @DisplayName("Integration test: Retried order with the same Idempotency-Key is not duplicated")
+        void testCreateOrderIdempotencyKeyReplay() throws Exception {
+                String body = objectMapper.writeValueAsString(new OrderRequest(Arrays.asList(
+                                new OrderItemRequest("CE", 10))));
+
+                String firstResponse = mockMvc.perform(post("/api/v1/orders")
+                                .header("Idempotency-Key", "integration-retry-1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                                .andExpect(status().isCreated())
+                                .andExpect(header().string("Idempotent-Replayed", "false"))
+                                .andReturn().getResponse().getContentAsString();
+                long orderId = objectMapper.readTree(firstResponse).get("orderId").asLong();
+
+                mockMvc.perform(post("/api/v1/orders")
+                                .header("Idempotency-Key", "integration-retry-1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                                .andExpect(status().isCreated())
+                                .andExpect(header().string("Idempotent-Replayed", "true"))
+                                .andExpect(jsonPath("$.orderId", is(orderId)));
+
+                mockMvc.perform(post("/api/v1/orders")
+                                .header("Idempotency-Key", "integration-retry-1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new OrderRequest(Arrays.asList(
+                                                new OrderItemRequest("HM", 2))))))
+                                .andExpect(status().isConflict());
+        }
+
+        @Test
+        @DisplayName("Integration test: Async submission is stored as a ticket and a stalled ticket is resumed")
+        void testAsyncSubmissionTickets() throws Exception {
+                String body = objectMapper.writeValueAsString(new OrderRequest(Arrays.asList(
+                                new OrderItemRequest("CE", 10))));
+
+                String accepted = mockMvc.perform(post("/api/v1/orders/async")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                                .andExpect(status().isAccepted())
+                                .andExpect(jsonPath("$.status", is("QUEUED")))
+                                .andReturn().getResponse().getContentAsString();
+                String ticketId = objectMapper.readTree(accepted).get("ticketId").asText();
+                JsonNode completed = awaitTicket(ticketId);
+                assertEquals("COMPLETED", completed.get("status").asText());
+                assertTrue(orderService.orderExists(completed.get("order").get("orderId").asLong()));
+
+                // A ticket whose worker stopped mid-way, e.g. on a node that was killed
+                jdbcTemplate.update("INSERT INTO order_submissions (ticket_id, status, request_body, claim_id,"
+                                + " submitted_at, started_at) VALUES ('stalled-ticket', 'PROCESSING', ?, 'dead-node', ?, ?)",
+                                body, LocalDateTime.now().minusHours(1), LocalDateTime.now().minusHours(1));
+
+                orderSubmissionService.resumeStalledSubmissions();
+
+                JsonNode resumed = awaitTicket("stalled-ticket");
+                assertEquals("COMPLETED", resumed.get("status").asText());
+                assertTrue(orderService.orderExists(resumed.get("order").get("orderId").asLong()));
+        }
+
+        @Test
+        @DisplayName("Integration test: Duplicate product lines are solved as one quantity")
+        void testCreateOrderCoalescesDuplicateLines() throws Exception {
+                OrderRequest request = new OrderRequest(Arrays.asList(
+                                new OrderItemRequest("CE", 3),
+                                new OrderItemRequest("ss", 1),
+                                new OrderItemRequest("CE", 3)));
+
+                mockMvc.perform(post("/api/v1/orders")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isCreated())
+                                .andExpect(jsonPath("$.productBreakdowns", hasSize(2)))
+                                .andExpect(jsonPath("$.productBreakdowns[0].productCode", is("CE")))
+                                .andExpect(jsonPath("$.productBreakdowns[0].quantityOrdered", is(6)))
+                                .andExpect(jsonPath("$.productBreakdowns[0].packages[0].bundleSize", is(5)))
+                                .andExpect(jsonPath("$.productBreakdowns[0].sourceLines", contains(0, 2)))
+                                .andExpect(jsonPath("$.productBreakdowns[1].sourceLines", contains(1)))
+                                .andExpect(jsonPath("$.totalPackages", is(3)));
+        }
+
         @Test
         @DisplayName("Integration test: Full product CRUD flow")
         void testProductCrudFlow() throws Exception {
@@ -127,6 +238,71 @@ class OrderIntegrationTest {
                                 .andExpect(jsonPath("$[?(@.code=='SS')]").exists());
         }
 
+        @Test
+        @DisplayName("Integration test: Catalog ETag answers 304 until a product is written")
+        void testCatalogConditionalGet() throws Exception {
+                String eTag = mockMvc.perform(get("/api/v1/products"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().exists("ETag"))
+                                .andReturn().getResponse().getHeader("ETag");
+
+                mockMvc.perform(get("/api/v1/products").header("If-None-Match", eTag))
+                                .andExpect(status().isNotModified());
+
+                mockMvc.perform(post("/api/v1/products")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(
+                                                new ProductRequest("ETAG1", "Olives", new BigDecimal("3.50")))))
+                                .andExpect(status().isCreated());
+
+                mockMvc.perform(get("/api/v1/products").header("If-None-Match", eTag))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", not(eTag)))
+                                .andExpect(jsonPath("$[?(@.code=='ETAG1')]").exists());
+        }
+
+        @Test
+        @DisplayName("Integration test: Catalog change feed returns product writes by version and over SSE")
+        void testCatalogChangeFeed() throws Exception {
+                long since = objectMapper.readTree(mockMvc.perform(get("/api/v1/catalog/changes"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.changes", hasSize(0)))
+                                .andReturn().getResponse().getContentAsString()).get("latestVersion").asLong();
+
+                MvcResult stream = mockMvc.perform(get("/api/v1/catalog/changes/stream")
+                                .param("sinceVersion", String.valueOf(since)))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                mockMvc.perform(post("/api/v1/products")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(
+                                                new ProductRequest("FEED1", "Capers", new BigDecimal("2.25")))))
+                                .andExpect(status().isCreated());
+                mockMvc.perform(delete("/api/v1/products/FEED1"))
+                                .andExpect(status().isNoContent());
+
+                mockMvc.perform(get("/api/v1/catalog/changes").param("sinceVersion", String.valueOf(since)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.changes[?(@.productCode=='FEED1')].type",
+                                                contains("PRODUCT_UPSERTED", "PRODUCT_DELETED")))
+                                .andExpect(jsonPath("$.changes[?(@.productCode=='FEED1')].product.basePrice",
+                                                contains(2.25)));
+
+                long deadline = System.currentTimeMillis() + 5000;
+                while (!stream.getResponse().getContentAsString().contains("PRODUCT_DELETED")
+                                && System.currentTimeMillis() < deadline) {
+                        Thread.sleep(20);
+                }
+                String events = stream.getResponse().getContentAsString();
+                assertTrue(events.contains("event:catalog-change"), events);
+                assertTrue(events.indexOf("PRODUCT_UPSERTED") < events.indexOf("PRODUCT_DELETED"), events);
+
+                // A version this log never issued, e.g. from before a database reset
+                mockMvc.perform(get("/api/v1/catalog/changes").param("sinceVersion", String.valueOf(since + 1_000_000)))
+                                .andExpect(status().isGone());
+        }
+
         @Test
         @DisplayName("Integration test: Get packaging options for product")
         void testGetPackagingOptionsForProduct() throws Exception {
@@ -136,4 +312,310 @@ class OrderIntegrationTest {
                                 .andExpect(jsonPath("$[?(@.bundleSize==3)]").exists())
                                 .andExpect(jsonPath("$[?(@.bundleSize==5)]").exists());
         }
+
+        @Test
+        @DisplayName("Integration test: Cached order response matches the stored order and is evicted on delete")
+        void testOrderResponseCache() throws Exception {
+                String created = mockMvc.perform(post("/api/v1/orders")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new OrderRequest(Arrays.asList(
+                                                new OrderItemRequest("HM", 14),
+                                                new OrderItemRequest("CE", 3))))))
+                                .andExpect(status().isCreated())
+                                .andReturn().getResponse().getContentAsString();
+                long orderId = objectMapper.readTree(created).get("orderId").asLong();
+
+                String cached = mockMvc.perform(get("/api/v1/orders/" + orderId))
+                                .andExpect(status().isOk())
+                                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                                .andReturn().getResponse().getContentAsString();
+
+                ObjectNode fromCache = (ObjectNode) objectMapper.readTree(cached);
+                ObjectNode fromDatabase = (ObjectNode) objectMapper.readTree(
+                                objectMapper.writeValueAsString(orderService.getOrderById(orderId).orElseThrow()));
+                fromCache.remove("createdAt");
+                fromDatabase.remove("createdAt");
+                assertEquals(fromDatabase, fromCache);
+
+                mockMvc.perform(get("/api/v1/orders/" + orderId).header("If-None-Match", "\"order-" + orderId + "\""))
+                                .andExpect(status().isNotModified());
+
+                mockMvc.perform(delete("/api/v1/orders/" + orderId))
+                                .andExpect(status().isNoContent());
+
+                mockMvc.perform(get("/api/v1/orders/" + orderId))
+                                .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("Integration test: Orders are read and listed from the order_view read model, which can be rebuilt")
+        void testOrderViewReadModel() throws Exception {
+                String created = mockMvc.perform(post("/api/v1/orders")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new OrderRequest(Arrays.asList(
+                                                new OrderItemRequest("CE", 10),
+                                                new OrderItemRequest("SS", 3))))))
+                                .andExpect(status().isCreated())
+                                .andReturn().getResponse().getContentAsString();
+                long orderId = objectMapper.readTree(created).get("orderId").asLong();
+                String stored = mockMvc.perform(get("/api/v1/orders/" + orderId))
+                                .andExpect(status().isOk())
+                                .andReturn().getResponse().getContentAsString();
+
+                assertEquals(1, jdbcTemplate.queryForObject(
+                                "SELECT COUNT(*) FROM order_view WHERE order_id = ?", Integer.class, orderId));
+
+                // Simulate an order stored before the read model existed
+                jdbcTemplate.update("DELETE FROM order_view WHERE order_id = ?", orderId);
+                mockMvc.perform(get("/api/v1/orders").param("afterId", String.valueOf(orderId - 1)).param("limit", "1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$", hasSize(0)));
+
+                assertTrue(orderViewService.rebuild() >= 1);
+
+                String listed = mockMvc.perform(get("/api/v1/orders")
+                                                .param("afterId", String.valueOf(orderId - 1)).param("limit", "1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$", hasSize(1)))
+                                .andReturn().getResponse().getContentAsString();
+                ObjectNode fromView = (ObjectNode) objectMapper.readTree(stored);
+                ObjectNode rebuilt = (ObjectNode) objectMapper.readTree(listed).get(0);
+                // The rebuilt view reads created_at back from the database, at microsecond precision
+                fromView.remove("createdAt");
+                rebuilt.remove("createdAt");
+                assertEquals(fromView, rebuilt);
+
+                // A document stored in an older format, e.g. with the order id as a string
+                jdbcTemplate.update("UPDATE order_view SET document = ?, document_version = 1 WHERE order_id = ?",
+                                stored.replace("\"orderId\":" + orderId, "\"orderId\":\"" + orderId + "\"")
+                                                .getBytes(StandardCharsets.UTF_8), orderId);
+                assertTrue(orderViewService.rebuildIfMissing() >= 1);
+                mockMvc.perform(get("/api/v1/orders/" + orderId))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.orderId", is(orderId)));
+                assertEquals(0, orderViewService.rebuildIfMissing());
+
+                mockMvc.perform(delete("/api/v1/orders/" + orderId))
+                                .andExpect(status().isNoContent());
+                assertEquals(0, jdbcTemplate.queryForObject(
+                                "SELECT COUNT(*) FROM order_view WHERE order_id = ?", Integer.class, orderId));
+        }
+
+        @Test
+        @DisplayName("Integration test: Order search filters by product, creation time and total")
+        void testSearchOrders() throws Exception {
+                String created = mockMvc.perform(post("/api/v1/orders")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new OrderRequest(Arrays.asList(
+                                                new OrderItemRequest("CE", 10))))))
+                                .andExpect(status().isCreated())
+                                .andReturn().getResponse().getContentAsString();
+                long orderId = objectMapper.readTree(created).get("orderId").asLong();
+                String afterId = String.valueOf(orderId - 1);
+
+                mockMvc.perform(get("/api/v1/orders/search")
+                                .param("productCode", "ce")
+                                .param("createdFrom", LocalDate.now().atStartOfDay().toString())
+                                .param("minTotal", "41.90")
+                                .param("maxTotal", "41.90")
+                                .param("afterId", afterId)
+                                .param("limit", "1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$", hasSize(1)))
+                                .andExpect(jsonPath("$[0].orderId", is(orderId)))
+                                .andExpect(jsonPath("$[0].productBreakdowns[0].productCode", is("CE")))
+                                .andExpect(jsonPath("$[0].productBreakdowns[0].packages", hasSize(1)));
+
+                mockMvc.perform(get("/api/v1/orders/search")
+                                .param("productCode", "HM")
+                                .param("afterId", afterId))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$[*].orderId", not(hasItem(orderId))));
+                mockMvc.perform(get("/api/v1/orders/search")
+                                .param("minTotal", "50")
+                                .param("maxTotal", "10"))
+                                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Integration test: Queued sales rollup deltas apply in any order")
+        void testSalesRollupDeltasCommute() {
+                LocalDate day = LocalDate.of(2020, 1, 1);
+                String insertDelta = "INSERT INTO sales_rollup_queue "
+                                + "(product_code, sales_date, bundle_size, units, packages, revenue) VALUES (?, ?, ?, ?, ?, ?)";
+
+                // A deletion drained before the creation it undoes, e.g. by another node
+                jdbcTemplate.update(insertDelta, "SS", day, 1, -3, -3, new BigDecimal("-35.85"));
+                salesRollupStore.applyPending();
+                assertEquals(-3, salesRollupStore.findByProduct("SS", day, day).get(0).packages());
+
+                jdbcTemplate.update(insertDelta, "SS", day, 1, 3, 3, new BigDecimal("35.85"));
+                salesRollupStore.applyPending();
+                assertTrue(salesRollupStore.findByProduct("SS", day, day).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Integration test: Sales rollups follow order creation and deletion")
+        void testSalesAnalytics() throws Exception {
+                salesRollupStore.applyPending();
+                JsonNode before = productSales("CE");
+
+                String created = mockMvc.perform(post("/api/v1/orders")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new OrderRequest(Arrays.asList(
+                                                new OrderItemRequest("CE", 10))))))
+                                .andExpect(status().isCreated())
+                                .andReturn().getResponse().getContentAsString();
+                long orderId = objectMapper.readTree(created).get("orderId").asLong();
+                salesRollupStore.applyPending();
+
+                JsonNode after = productSales("CE");
+                assertEquals(before.at("/totals/units").asLong() + 10, after.at("/totals/units").asLong());
+                assertEquals(before.at("/totals/packages").asLong() + 2, after.at("/totals/packages").asLong());
+                assertEquals(0, before.at("/totals/revenue").decimalValue().add(new BigDecimal("41.90"))
+                                .compareTo(after.at("/totals/revenue").decimalValue()));
+                mockMvc.perform(get("/api/v1/analytics/top-products").param("metric", "UNITS").param("limit", "3"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.products[*].productCode", hasItem("CE")));
+
+                mockMvc.perform(delete("/api/v1/orders/" + orderId))
+                                .andExpect(status().isNoContent());
+                salesRollupStore.applyPending();
+                assertEquals(before.at("/totals/packages").asLong(), productSales("CE").at("/totals/packages").asLong());
+                assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM sales_rollup_queue", Integer.class));
+
+                mockMvc.perform(get("/api/v1/analytics/products/NOPE"))
+                                .andExpect(status().isNotFound());
+                mockMvc.perform(get("/api/v1/analytics/top-products").param("metric", "PROFIT"))
+                                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Integration test: Retention purge deletes aged orders in chunks and keeps recent ones")
+        void testPurgeAgedOrders() throws Exception {
+                long agedId = createOrder("CE", 10);
+                long recentId = createOrder("HM", 14);
+                mockMvc.perform(get("/api/v1/orders/" + agedId)).andExpect(status().isOk());
+                jdbcTemplate.update("UPDATE orders SET created_at = TIMESTAMP '2000-01-01 00:00:00' WHERE id = ?", agedId);
+
+                mockMvc.perform(post("/api/v1/admin/orders/purge").param("olderThanDays", "3650"))
+                                .andExpect(status().isAccepted());
+                JsonNode purge;
+                do {
+                        Thread.sleep(20);
+                        purge = objectMapper.readTree(mockMvc.perform(get("/api/v1/admin/orders/purge"))
+                                        .andExpect(status().isOk())
+                                        .andReturn().getResponse().getContentAsString());
+                } while ("RUNNING".equals(purge.get("status").asText()));
+
+                assertEquals("COMPLETED", purge.get("status").asText());
+                assertTrue(purge.get("ordersDeleted").asLong() >= 1);
+                mockMvc.perform(get("/api/v1/orders/" + agedId)).andExpect(status().isNotFound());
+                mockMvc.perform(get("/api/v1/orders/" + recentId)).andExpect(status().isOk());
+                assertEquals(0, jdbcTemplate.queryForObject(
+                                "SELECT COUNT(*) FROM order_items WHERE order_id = ?", Integer.class, agedId));
+                mockMvc.perform(post("/api/v1/admin/orders/purge").param("olderThanDays", "0"))
+                                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Integration test: repricing simulation replays order lines without changing the catalog")
+        void testRepricingSimulation() throws Exception {
+                long orderId = createOrder("CE", 13);
+                jdbcTemplate.update("UPDATE orders SET created_at = TIMESTAMP '2001-06-15 12:00:00' WHERE id = ?", orderId);
+                RepricingSimulationRequest request = RepricingSimulationRequest.builder()
+                                .from(LocalDate.of(2001, 6, 15))
+                                .to(LocalDate.of(2001, 6, 15))
+                                .changes(Arrays.asList(PackagingOptionChange.builder()
+                                                .productCode("ce")
+                                                .bundleSize(13)
+                                                .bundlePrice(new BigDecimal("50.00"))
+                                                .build()))
+                                .build();
+
+                // 13 cheese: two 5-packs and a 3-pack (56.85) today, one 13-pack (50.00) proposed
+                mockMvc.perform(post("/api/v1/analytics/repricing-simulations")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.orderLines", is(1)))
+                                .andExpect(jsonPath("$.current.packages", is(3)))
+                                .andExpect(jsonPath("$.current.revenue", is(56.85)))
+                                .andExpect(jsonPath("$.proposed.packages", is(1)))
+                                .andExpect(jsonPath("$.delta.revenue", is(-6.85)))
+                                .andExpect(jsonPath("$.delta.packagesPerLine", is(-2.0)))
+                                .andExpect(jsonPath("$.products[0].productCode", is("CE")));
+                assertEquals(0, jdbcTemplate.queryForObject(
+                                "SELECT COUNT(*) FROM packaging_options WHERE product_code = 'CE' AND bundle_size = 13",
+                                Integer.class));
+
+                request.setChanges(Arrays.asList(PackagingOptionChange.builder()
+                                .productCode("CE")
+                                .bundleSize(1)
+                                .bundlePrice(new BigDecimal("5.00"))
+                                .build()));
+                mockMvc.perform(post("/api/v1/analytics/repricing-simulations")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Integration test: bundle recommendations are searched from the ordered quantities")
+        void testBundleRecommendations() throws Exception {
+                for (int quantity : new int[]{12, 12, 6}) {
+                        long orderId = createOrder("SS", quantity);
+                        jdbcTemplate.update("UPDATE orders SET created_at = TIMESTAMP '2001-07-01 12:00:00' WHERE id = ?",
+                                        orderId);
+                }
+
+                // Soy sauce has no bundles today; one 6-pack size packs 12, 12 and 6 in 5 packages
+                mockMvc.perform(get("/api/v1/analytics/products/SS/bundle-recommendations")
+                                .param("from", "2001-07-01").param("to", "2001-07-01")
+                                .param("maxSizes", "1").param("maxBundleSize", "12").param("limit", "2"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.orderLines", is(3)))
+                                .andExpect(jsonPath("$.current.bundleSizes", hasSize(0)))
+                                .andExpect(jsonPath("$.current.packages", is(30)))
+                                .andExpect(jsonPath("$.recommendations", hasSize(2)))
+                                .andExpect(jsonPath("$.recommendations[0].bundleSizes", contains(6)))
+                                .andExpect(jsonPath("$.recommendations[0].packages", is(5)))
+                                .andExpect(jsonPath("$.recommendations[0].packagesPerLine", is(1.6667)));
+
+                mockMvc.perform(get("/api/v1/analytics/products/SS/bundle-recommendations").param("maxSizes", "5"))
+                                .andExpect(status().isBadRequest());
+                mockMvc.perform(get("/api/v1/analytics/products/XX/bundle-recommendations"))
+                                .andExpect(status().isNotFound());
+        }
+
+        private long createOrder(String productCode, int quantity) throws Exception {
+                String created = mockMvc.perform(post("/api/v1/orders")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new OrderRequest(Arrays.asList(
+                                                new OrderItemRequest(productCode, quantity))))))
+                                .andExpect(status().isCreated())
+                                .andReturn().getResponse().getContentAsString();
+                return objectMapper.readTree(created).get("orderId").asLong();
+        }
+
+        private JsonNode productSales(String productCode) throws Exception {
+                String today = LocalDate.now().toString();
+                return objectMapper.readTree(mockMvc.perform(get("/api/v1/analytics/products/" + productCode)
+                                                .param("from", today).param("to", today))
+                                .andExpect(status().isOk())
+                                .andReturn().getResponse().getContentAsString());
+        }
+
+        private JsonNode awaitTicket(String ticketId) throws Exception {
+                long deadline = System.currentTimeMillis() + 5000;
+                while (true) {
+                        JsonNode ticket = objectMapper.readTree(mockMvc.perform(get("/api/v1/orders/tickets/" + ticketId))
+                                        .andExpect(status().isOk())
+                                        .andReturn().getResponse().getContentAsString());
+                        if (ticket.has("completedAt") || System.currentTimeMillis() > deadline) {
+                                return ticket;
+                        }
+                        Thread.sleep(20);
+                }
+        }
 }
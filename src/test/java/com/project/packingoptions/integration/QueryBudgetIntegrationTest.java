@@ -0,0 +1,101 @@
+package com.project.packingoptions.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.packingoptions.dto.OrderItemRequest;
+import com.project.packingoptions.dto.OrderRequest;
+import com.project.packingoptions.util.QueryBudget;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Arrays;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Guards the number of SQL statements issued by the hot read and write paths.
+ * Budgets are fixed, so any per-row query introduced later fails these tests.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QueryBudgetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Query budget: create order issues at most two selects per line and a fixed number of inserts")
+    void testCreateOrderQueryBudget() throws Exception {
+        // Selects: product and packaging options per line. Inserts: order header, batched items,
+        // order_view upsert and batched rollup queue rows, none of which grow with the line count
+        QueryBudget.maxSelects(6).inserts(4).updates(0)
+                .verify(() -> createOrder(sampleOrderRequest()));
+    }
+
+    @Test
+    @DisplayName("Query budget: get order by ID is independent of item count")
+    void testGetOrderByIdQueryBudget() throws Exception {
+        long orderId = createOrder(sampleOrderRequest());
+
+        QueryBudget.maxSelects(3).inserts(0).updates(0)
+                .verify(() -> mockMvc.perform(get("/api/v1/orders/" + orderId))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("Query budget: list orders is independent of order count")
+    void testGetAllOrdersQueryBudget() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            createOrder(sampleOrderRequest());
+        }
+
+        QueryBudget.maxSelects(2).inserts(0).updates(0)
+                .verify(() -> mockMvc.perform(get("/api/v1/orders"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("Query budget: list products issues a single select")
+    void testGetAllProductsQueryBudget() throws Exception {
+        QueryBudget.maxSelects(1).inserts(0).updates(0)
+                .verify(() -> mockMvc.perform(get("/api/v1/products"))
+                        .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("Query budget: list packaging options issues a single select")
+    void testGetAllPackagingOptionsQueryBudget() throws Exception {
+        QueryBudget.maxSelects(1).inserts(0).updates(0)
+                .verify(() -> mockMvc.perform(get("/api/v1/packaging-options"))
+                        .andExpect(status().isOk()));
+    }
+
+    private OrderRequest sampleOrderRequest() {
+        return new OrderRequest(Arrays.asList(
+                new OrderItemRequest("CE", 10),
+                new OrderItemRequest("HM", 14),
+                new OrderItemRequest("SS", 3)));
+    }
+
+    private long createOrder(OrderRequest request) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return objectMapper.readTree(result.getResponse().getContentAsString())
+                .get("orderId").asLong();
+    }
+}
@@ -0,0 +1,98 @@
+package com.project.packingoptions.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.packingoptions.dto.OrderItemRequest;
+import com.project.packingoptions.dto.OrderRequest;
+import com.project.packingoptions.repository.OrderRepository;
+import com.project.packingoptions.repository.shard.ShardedOrderRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+                "orders.store=sharded",
+                "orders.sharding.shards[0].url=jdbc:h2:mem:orders-shard-0;DB_CLOSE_DELAY=-1",
+                "orders.sharding.shards[0].username=sa",
+                "orders.sharding.shards[1].url=jdbc:h2:mem:orders-shard-1;DB_CLOSE_DELAY=-1",
+                "orders.sharding.shards[1].username=sa"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ShardedOrderStoreIntegrationTest {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Autowired
+        private OrderRepository orderRepository;
+
+        @Test
+        @DisplayName("Integration test: sharded store creates, reads, pages and deletes orders")
+        void testShardedOrderLifecycle() throws Exception {
+                assertInstanceOf(ShardedOrderRepository.class, orderRepository);
+
+                List<Long> createdIds = new ArrayList<>();
+                for (int i = 0; i < 6; i++) {
+                        createdIds.add(createOrder(2 * (i + 1)));
+                }
+
+                mockMvc.perform(get("/api/v1/orders/" + createdIds.get(2)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.orderId", is(createdIds.get(2))))
+                                .andExpect(jsonPath("$.productBreakdowns[0].productCode", is("HM")));
+
+                List<Long> pagedIds = new ArrayList<>();
+                long afterId = 0;
+                JsonNode page;
+                do {
+                        page = objectMapper.readTree(mockMvc.perform(get("/api/v1/orders")
+                                                        .param("afterId", String.valueOf(afterId))
+                                                        .param("limit", "4"))
+                                        .andExpect(status().isOk())
+                                        .andReturn().getResponse().getContentAsString());
+                        for (JsonNode order : page) {
+                                pagedIds.add(order.get("orderId").asLong());
+                                afterId = order.get("orderId").asLong();
+                        }
+                } while (page.size() == 4);
+                assertEquals(createdIds, pagedIds);
+
+                mockMvc.perform(delete("/api/v1/orders/" + createdIds.get(0)))
+                                .andExpect(status().isNoContent());
+                mockMvc.perform(get("/api/v1/orders/" + createdIds.get(0)))
+                                .andExpect(status().isNotFound());
+                mockMvc.perform(get("/api/v1/orders"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$", hasSize(5)));
+
+                mockMvc.perform(get("/api/v1/orders").param("limit", "0"))
+                                .andExpect(status().isBadRequest());
+        }
+
+        private long createOrder(int quantity) throws Exception {
+                OrderRequest request = new OrderRequest(List.of(new OrderItemRequest("HM", quantity)));
+                String response = mockMvc.perform(post("/api/v1/orders")
+                                                .contentType(MediaType.APPLICATION_JSON)
+                                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isCreated())
+                                .andReturn().getResponse().getContentAsString();
+                return objectMapper.readTree(response).get("orderId").asLong();
+        }
+}
@@ -0,0 +1,215 @@
+package com.project.packingoptions.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.packingoptions.dto.OrderItemRequest;
+import com.project.packingoptions.dto.OrderRequest;
+import com.project.packingoptions.dto.PackagingOptionRequest;
+import com.project.packingoptions.util.TestDataFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator for the REST API.
+ * Requests are scheduled at a fixed target rate and latency is measured from the
+ * intended start time, so a slow server cannot hide queueing delay
+ * (no coordinated omission).
+ */
+@Slf4j
+public class LoadGenerator {
+
+    private static final String[] PRODUCT_CODES = {"CE", "HM", "SS"};
+    private static final int ORDER_ID_RING_SIZE = 4096;
+
+    private final LoadTestSettings settings;
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final List<LoadOperation> weightedOperations;
+    private final Map<LoadOperation, OperationStats> stats = new EnumMap<>(LoadOperation.class);
+
+    private final AtomicLongArray createdOrderIds = new AtomicLongArray(ORDER_ID_RING_SIZE);
+    private final AtomicLong createdOrderCount = new AtomicLong();
+    private final List<PackagingOptionRequest> seededOptions = new ArrayList<>();
+    private final List<Long> seededOptionIds = new ArrayList<>();
+
+    public LoadGenerator(LoadTestSettings settings, String baseUrl, ObjectMapper objectMapper) {
+        this.settings = settings;
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.weightedOperations = expandMix(settings.getMix());
+        for (LoadOperation operation : LoadOperation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    /**
+     * Runs warmup followed by the measured phase and returns the collected results.
+     */
+    public LoadTestResult run() throws IOException, InterruptedException {
+        prime();
+
+        ExecutorService workers = Executors.newFixedThreadPool(settings.getConcurrency());
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.getTargetRps();
+        long start = System.nanoTime();
+        long measureFrom = start + settings.getWarmup().toNanos();
+        long end = measureFrom + settings.getDuration().toNanos();
+
+        log.info("Load test '{}': {} rps for {}s after {}s warmup, mix {}", settings.getLabel(),
+                settings.getTargetRps(), settings.getDuration().toSeconds(),
+                settings.getWarmup().toSeconds(), settings.getMix());
+
+        long scheduled = 0;
+        long intendedStart = start;
+        while (intendedStart < end) {
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            long requestStart = intendedStart;
+            boolean measured = requestStart >= measureFrom;
+            LoadOperation operation = pickOperation();
+            workers.execute(() -> execute(operation, requestStart, measured));
+            scheduled++;
+            intendedStart = start + scheduled * intervalNanos;
+        }
+
+        workers.shutdown();
+        if (!workers.awaitTermination(60, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+            log.warn("Load test workers did not drain within 60s");
+        }
+
+        return new LoadTestResult(settings, stats, settings.getDuration());
+    }
+
+    private void prime() throws IOException, InterruptedException {
+        HttpResponse<String> options = send(HttpRequest.newBuilder(uri("/api/v1/packaging-options")).GET());
+        for (JsonNode option : objectMapper.readTree(options.body())) {
+            seededOptionIds.add(option.get("id").asLong());
+            seededOptions.add(PackagingOptionRequest.builder()
+                    .productCode(option.get("productCode").asText())
+                    .bundleSize(option.get("bundleSize").asInt())
+                    .build());
+        }
+        for (int i = 0; i < 20; i++) {
+            HttpResponse<String> response = send(createOrderRequest());
+            rememberOrderId(response);
+        }
+    }
+
+    private void execute(LoadOperation operation, long intendedStart, boolean measured) {
+        boolean success;
+        try {
+            HttpResponse<String> response = send(buildRequest(operation));
+            success = response.statusCode() < 400;
+            if (success && operation == LoadOperation.CREATE_ORDER) {
+                rememberOrderId(response);
+            }
+        } catch (IOException e) {
+            success = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (measured) {
+            stats.get(operation).record(System.nanoTime() - intendedStart, success);
+        }
+    }
+
+    private HttpRequest.Builder buildRequest(LoadOperation operation) throws IOException {
+        return switch (operation) {
+            case CREATE_ORDER -> createOrderRequest();
+            case READ_ORDER -> HttpRequest.newBuilder(uri("/api/v1/orders/" + randomOrderId())).GET();
+            case CATALOG_EDIT -> catalogEditRequest();
+        };
+    }
+
+    private HttpRequest.Builder createOrderRequest() throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int lines = random.nextInt(1, 4);
+        List<OrderItemRequest> items = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            items.add(TestDataFactory.createOrderItemRequest(
+                    PRODUCT_CODES[random.nextInt(PRODUCT_CODES.length)],
+                    TestDataFactory.generateQuantity(1, 50)));
+        }
+        OrderRequest request = TestDataFactory.createOrderRequest(items);
+        return jsonRequest("/api/v1/orders", "POST", request);
+    }
+
+    private HttpRequest.Builder catalogEditRequest() throws IOException {
+        // Re-prices an existing bundle; product and bundle size stay the same so order results remain valid
+        int index = ThreadLocalRandom.current().nextInt(seededOptions.size());
+        PackagingOptionRequest seeded = seededOptions.get(index);
+        PackagingOptionRequest request = PackagingOptionRequest.builder()
+                .productCode(seeded.getProductCode())
+                .bundleSize(seeded.getBundleSize())
+                .bundlePrice(TestDataFactory.generatePrice(10.00, 50.00))
+                .build();
+        return jsonRequest("/api/v1/packaging-options/" + seededOptionIds.get(index), "PUT", request);
+    }
+
+    private HttpRequest.Builder jsonRequest(String path, String method, Object body) throws IOException {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return httpClient.send(request.timeout(Duration.ofSeconds(30)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private void rememberOrderId(HttpResponse<String> response) throws IOException {
+        if (response.statusCode() != 201) {
+            return;
+        }
+        long orderId = objectMapper.readTree(response.body()).get("orderId").asLong();
+        long slot = createdOrderCount.getAndIncrement() % ORDER_ID_RING_SIZE;
+        createdOrderIds.set((int) slot, orderId);
+    }
+
+    private long randomOrderId() {
+        long known = Math.min(createdOrderCount.get(), ORDER_ID_RING_SIZE);
+        return createdOrderIds.get(ThreadLocalRandom.current().nextInt((int) Math.max(1, known)));
+    }
+
+    private LoadOperation pickOperation() {
+        return weightedOperations.get(ThreadLocalRandom.current().nextInt(weightedOperations.size()));
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static List<LoadOperation> expandMix(Map<LoadOperation, Integer> mix) {
+        List<LoadOperation> operations = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                operations.add(operation);
+            }
+        });
+        return operations;
+    }
+}
@@ -0,0 +1,35 @@
+package com.project.packingoptions.loadtest;
+
+/**
+ * Request types the load generator can issue.
+ */
+public enum LoadOperation {
+
+    /** POST /api/v1/orders with one to three random lines. */
+    CREATE_ORDER("create"),
+
+    /** GET /api/v1/orders/{id} for a previously created order. */
+    READ_ORDER("read"),
+
+    /** PUT /api/v1/packaging-options/{id} with a new bundle price. */
+    CATALOG_EDIT("catalog");
+
+    private final String key;
+
+    LoadOperation(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public static LoadOperation fromKey(String key) {
+        for (LoadOperation operation : values()) {
+            if (operation.key.equalsIgnoreCase(key.trim())) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown load operation: " + key);
+    }
+}
@@ -0,0 +1,85 @@
+package com.project.packingoptions.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives sustained load against the application running on a random port with
+ * in-memory H2. Excluded from the default build; run it with
+ * {@code ./mvnw test -Pload-test} and tune it through {@link LoadTestSettings}.
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "logging.level.com.project.packingoptions=WARN")
+@ActiveProfiles("test")
+class LoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Autowired
+    private ObjectProvider<HikariDataSource> connectionPools;
+
+    @Value("${orders.writer:jpa}")
+    private String orderWriter;
+
+    @Autowired
+    private Environment environment;
+
+    @Test
+    @DisplayName("Load test: sustain the target request rate and write a latency report")
+    void testSustainedLoad() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        LoadGenerator generator = new LoadGenerator(settings, "http://localhost:" + port, objectMapper);
+
+        LoadTestResult result = generator.run();
+        Path report = result.writeReport(objectMapper, Map.of(
+                "javaVersion", Runtime.version().feature(),
+                "virtualThreads", virtualThreads && Runtime.version().feature() >= 21,
+                "connectionPools", connectionPoolSizes(),
+                "orderWriter", orderWriter,
+                "activeProfiles", String.join(",", environment.getActiveProfiles())));
+
+        log.info("Load test '{}' finished: {} requests, {} errors, {} req/s, p99 {} ms. Report: {}",
+                settings.getLabel(), result.getTotalCount(), result.getErrorCount(),
+                String.format("%.1f", result.getThroughput()),
+                result.getCombinedHistogram().getValueAtPercentile(99.0) / 1000.0, report);
+
+        assertTrue(result.getTotalCount() > 0);
+        assertEquals(0, result.getErrorCount(), "Load test requests failed");
+    }
+
+    /**
+     * Maximum size of each Hikari pool the context actually built, by pool name.
+     */
+    private Map<String, Integer> connectionPoolSizes() {
+        Map<String, Integer> sizes = new TreeMap<>();
+        connectionPools.orderedStream()
+                .forEach(pool -> sizes.put(pool.getPoolName(), pool.getMaximumPoolSize()));
+        return sizes;
+    }
+}
@@ -0,0 +1,130 @@
+package com.project.packingoptions.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Results of a load test run and the report writer.
+ * Each run produces a JSON summary plus one HdrHistogram percentile
+ * distribution ({@code .hgrm}) per operation, named after the run label so
+ * reports from different builds can be compared side by side.
+ */
+public class LoadTestResult {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final LoadTestSettings settings;
+    private final Map<LoadOperation, OperationStats> stats;
+    private final Duration measuredDuration;
+    private final LocalDateTime finishedAt = LocalDateTime.now();
+
+    public LoadTestResult(LoadTestSettings settings, Map<LoadOperation, OperationStats> stats,
+                          Duration measuredDuration) {
+        this.settings = settings;
+        this.stats = stats;
+        this.measuredDuration = measuredDuration;
+    }
+
+    public long getTotalCount() {
+        return stats.values().stream().mapToLong(OperationStats::getTotalCount).sum();
+    }
+
+    public long getErrorCount() {
+        return stats.values().stream().mapToLong(OperationStats::getErrorCount).sum();
+    }
+
+    public double getThroughput() {
+        return getTotalCount() / (double) measuredDuration.toSeconds();
+    }
+
+    public Histogram getCombinedHistogram() {
+        Histogram combined = new Histogram(3);
+        stats.values().forEach(s -> combined.add(s.getHistogram()));
+        return combined;
+    }
+
+    /**
+     * Writes the JSON summary and percentile distributions to the report directory.
+     *
+     * @param serverSettings server-side settings under test, recorded so runs in different modes can be told apart
+     *
+     * @return the path of the JSON summary
+     */
+    public Path writeReport(ObjectMapper objectMapper, Map<String, Object> serverSettings) throws IOException {
+        Path directory = settings.getReportDirectory();
+        Files.createDirectories(directory);
+        String baseName = settings.getLabel() + "-" + finishedAt.format(FILE_TIMESTAMP);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("label", settings.getLabel());
+        report.put("finishedAt", finishedAt.toString());
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.put("targetRps", settings.getTargetRps());
+        report.put("warmupSeconds", settings.getWarmup().toSeconds());
+        report.put("durationSeconds", measuredDuration.toSeconds());
+        report.put("concurrency", settings.getConcurrency());
+        report.put("mix", settings.getMix());
+        report.put("server", serverSettings);
+        report.put("total", summarize(getCombinedHistogram(), getTotalCount(), getErrorCount()));
+
+        Map<String, Object> operations = new LinkedHashMap<>();
+        for (Map.Entry<LoadOperation, OperationStats> entry : stats.entrySet()) {
+            OperationStats operationStats = entry.getValue();
+            if (operationStats.getTotalCount() == 0) {
+                continue;
+            }
+            operations.put(entry.getKey().getKey(), summarize(operationStats.getHistogram(),
+                    operationStats.getTotalCount(), operationStats.getErrorCount()));
+            writeDistribution(directory.resolve(baseName + "-" + entry.getKey().getKey() + ".hgrm"),
+                    operationStats.getHistogram());
+        }
+        report.put("operations", operations);
+
+        Path summary = directory.resolve(baseName + ".json");
+        objectMapper.copy()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(summary.toFile(), report);
+        return summary;
+    }
+
+    private Map<String, Object> summarize(Histogram histogram, long count, long errors) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", count);
+        summary.put("errors", errors);
+        summary.put("throughputPerSecond", round(count / (double) measuredDuration.toSeconds()));
+        summary.put("meanMs", round(histogram.getMean() / 1000.0));
+        summary.put("p50Ms", percentileMillis(histogram, 50.0));
+        summary.put("p90Ms", percentileMillis(histogram, 90.0));
+        summary.put("p99Ms", percentileMillis(histogram, 99.0));
+        summary.put("p999Ms", percentileMillis(histogram, 99.9));
+        summary.put("maxMs", round(histogram.getMaxValue() / 1000.0));
+        return summary;
+    }
+
+    private static double percentileMillis(Histogram histogram, double percentile) {
+        return round(histogram.getValueAtPercentile(percentile) / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+
+    private static void writeDistribution(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            // Values are recorded in microseconds; scale so the distribution reads in milliseconds
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+}
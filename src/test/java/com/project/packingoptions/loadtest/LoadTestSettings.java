@@ -0,0 +1,64 @@
+package com.project.packingoptions.loadtest;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load test configuration, read from {@code loadtest.*} system properties so
+ * runs can be tuned from the Maven command line:
+ *
+ * <pre>
+ * ./mvnw test -Pload-test -Dloadtest.rps=200 -Dloadtest.duration=60 -Dloadtest.mix=create=50,read=45,catalog=5
+ * </pre>
+ */
+@Getter
+@Builder
+public class LoadTestSettings {
+
+    private final String label;
+    private final int targetRps;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int concurrency;
+    private final Map<LoadOperation, Integer> mix;
+    private final Path reportDirectory;
+
+    public static LoadTestSettings fromSystemProperties() {
+        return LoadTestSettings.builder()
+                .label(System.getProperty("loadtest.label", "default"))
+                .targetRps(Integer.getInteger("loadtest.rps", 100))
+                .warmup(Duration.ofSeconds(Integer.getInteger("loadtest.warmup", 5)))
+                .duration(Duration.ofSeconds(Integer.getInteger("loadtest.duration", 30)))
+                .concurrency(Integer.getInteger("loadtest.concurrency", 32))
+                .mix(parseMix(System.getProperty("loadtest.mix", "create=50,read=40,catalog=10")))
+                .reportDirectory(Path.of(System.getProperty("loadtest.reportDir", "target/load-test")))
+                .build();
+    }
+
+    /**
+     * Parses a weighted mix such as {@code create=50,read=40,catalog=10}.
+     */
+    static Map<LoadOperation, Integer> parseMix(String mix) {
+        Map<LoadOperation, Integer> weights = new EnumMap<>(LoadOperation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid load mix entry: " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Load mix weight must not be negative: " + entry);
+            }
+            weights.put(LoadOperation.fromKey(parts[0]), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Load mix must contain at least one positive weight");
+        }
+        return weights;
+    }
+}
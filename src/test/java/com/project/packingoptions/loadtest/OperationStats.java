@@ -0,0 +1,43 @@
+package com.project.packingoptions.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and outcome counters for a single operation type.
+ * Latencies are recorded in microseconds.
+ */
+public class OperationStats {
+
+    private final Histogram histogram = new ConcurrentHistogram(3);
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    public void record(long latencyNanos, boolean success) {
+        histogram.recordValue(Math.max(1L, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        if (success) {
+            successes.increment();
+        } else {
+            errors.increment();
+        }
+    }
+
+    public Histogram getHistogram() {
+        return histogram;
+    }
+
+    public long getSuccessCount() {
+        return successes.sum();
+    }
+
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    public long getTotalCount() {
+        return getSuccessCount() + getErrorCount();
+    }
+}
@@ -0,0 +1,127 @@
+package com.project.packingoptions.model.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedIdGeneratorTest {
+
+    private static final long NOW = TimeOrderedIdGenerator.EPOCH_MILLIS + 86_400_000L;
+
+    private final AtomicLong clock = new AtomicLong(NOW);
+
+    @Test
+    @DisplayName("Should encode the timestamp, node id and sequence")
+    void testLayout() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(42, clock::get);
+
+        long first = generator.nextId();
+        long second = generator.nextId();
+
+        assertEquals(86_400_000L, TimeOrderedIdGenerator.timestampOf(first));
+        assertEquals(42, TimeOrderedIdGenerator.nodeIdOf(first));
+        assertEquals(first + 1, second);
+    }
+
+    @Test
+    @DisplayName("Should order ids by time before node id")
+    void testTimeOrderedAcrossNodes() {
+        TimeOrderedIdGenerator highNode = new TimeOrderedIdGenerator(TimeOrderedIdGenerator.MAX_NODE_ID, clock::get);
+        TimeOrderedIdGenerator lowNode = new TimeOrderedIdGenerator(0, clock::get);
+
+        long earlier = highNode.nextId();
+        clock.addAndGet(1);
+        long later = lowNode.nextId();
+
+        assertTrue(later > earlier);
+    }
+
+    @Test
+    @DisplayName("Should keep increasing when the clock moves backwards")
+    void testClockRegression() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1, clock::get);
+        long beforeRegression = generator.nextId();
+
+        clock.addAndGet(-5_000);
+        long afterRegression = generator.nextId();
+
+        assertTrue(afterRegression > beforeRegression);
+        assertEquals(TimeOrderedIdGenerator.timestampOf(beforeRegression),
+                TimeOrderedIdGenerator.timestampOf(afterRegression));
+    }
+
+    @Test
+    @DisplayName("Should borrow the next millisecond when the sequence is exhausted")
+    void testSequenceOverflow() {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1, clock::get);
+        long last = 0;
+        for (int i = 0; i < (1 << TimeOrderedIdGenerator.SEQUENCE_BITS) + 1; i++) {
+            long id = generator.nextId();
+            assertTrue(id > last);
+            last = id;
+        }
+
+        assertEquals(86_400_001L, TimeOrderedIdGenerator.timestampOf(last));
+    }
+
+    @Test
+    @DisplayName("Should never issue an id at or below one it was advanced past")
+    void testAdvancePast() {
+        TimeOrderedIdGenerator previousRun = new TimeOrderedIdGenerator(1, clock::get);
+        long stored = previousRun.nextId();
+        clock.addAndGet(-60_000);
+
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1, clock::get);
+        generator.advancePast(stored);
+
+        assertTrue(generator.nextId() > stored);
+    }
+
+    @Test
+    @DisplayName("Should issue unique, per-thread increasing ids under concurrency")
+    void testConcurrentUniqueness() throws Exception {
+        TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(7);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                results.add(executor.submit(() -> {
+                    long previous = 0;
+                    for (int i = 0; i < 20_000; i++) {
+                        long id = generator.nextId();
+                        if (id <= previous || !ids.add(id)) {
+                            return false;
+                        }
+                        previous = id;
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(160_000, ids.size());
+    }
+
+    @Test
+    @DisplayName("Should reject node ids outside the 10-bit range")
+    void testInvalidNodeId() {
+        assertThrows(IllegalArgumentException.class, () -> new TimeOrderedIdGenerator(-1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TimeOrderedIdGenerator(TimeOrderedIdGenerator.MAX_NODE_ID + 1));
+    }
+}
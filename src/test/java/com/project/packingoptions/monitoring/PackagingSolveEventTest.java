@@ -0,0 +1,70 @@
+package com.project.packingoptions.monitoring;
+
+import com.project.packingoptions.model.PackagingOption;
+import com.project.packingoptions.model.Product;
+import com.project.packingoptions.service.PackagingCalculatorService;
+import com.project.packingoptions.service.PackagingCalculatorServiceImpl;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackagingSolveEventTest {
+
+    private final PackagingCalculatorService calculatorService = new PackagingCalculatorServiceImpl();
+
+    private final Product cheese = Product.builder()
+            .code("CE")
+            .name("Cheese")
+            .basePrice(new BigDecimal("5.95"))
+            .build();
+
+    private final List<PackagingOption> cheeseOptions = List.of(
+            PackagingOption.builder().id(1L).productCode("CE").bundleSize(3).bundlePrice(new BigDecimal("14.95")).build(),
+            PackagingOption.builder().id(2L).productCode("CE").bundleSize(5).bundlePrice(new BigDecimal("20.95")).build());
+
+    @Test
+    @DisplayName("Should record a packaging solve event when enabled")
+    void testSolveEventRecorded(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("solve.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(PackagingSolveEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            calculatorService.calculateOptimalPackaging(13, cheese, cheeseOptions);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals("com.project.packingoptions.PackagingSolve"))
+                .toList();
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("CE", event.getString("productCode"));
+        assertEquals(13, event.getInt("quantity"));
+        assertEquals(2, event.getInt("bundleOptionCount"));
+        assertEquals(3, event.getInt("bundleCount"));
+        assertNotNull(event.getString("strategy"));
+        assertTrue(event.getLong("allocatedBytes") >= 0);
+    }
+
+    @Test
+    @DisplayName("Should not commit a packaging solve event when disabled")
+    void testSolveEventDisabledByDefault() {
+        PackagingSolveEvent event = PackagingSolveEvent.start();
+
+        assertFalse(event.isEnabled());
+        assertDoesNotThrow(() -> event.finish("CE", 1, 0, 1, "test"));
+    }
+}
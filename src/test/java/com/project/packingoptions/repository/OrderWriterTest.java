@@ -0,0 +1,100 @@
+package com.project.packingoptions.repository;
+
+import com.project.packingoptions.config.OrderIdConfig;
+import com.project.packingoptions.model.Order;
+import com.project.packingoptions.model.OrderItem;
+import com.project.packingoptions.model.id.TimeOrderedIdGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(OrderIdConfig.class)
+@ActiveProfiles("test")
+public class OrderWriterTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123456000);
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TimeOrderedIdGenerator idGenerator;
+
+    private JpaOrderWriter jpaOrderWriter;
+    private JdbcOrderWriter jdbcOrderWriter;
+
+    @BeforeEach
+    void setUp() {
+        jpaOrderWriter = new JpaOrderWriter(orderRepository);
+        jdbcOrderWriter = new JdbcOrderWriter(jdbcTemplate, idGenerator);
+    }
+
+    @Test
+    @DisplayName("JDBC writer should store the same rows as the JPA writer")
+    void testJdbcWriterMatchesJpaWriter() {
+        Order jpaOrder = jpaOrderWriter.write(createOrder());
+        entityManager.flush();
+        Order jdbcOrder = jdbcOrderWriter.write(createOrder());
+
+        assertNotNull(jpaOrder.getId());
+        assertNotNull(jdbcOrder.getId());
+        assertTrue(jdbcOrder.getId() > jpaOrder.getId(), "Ids should follow creation order");
+        assertTrue(jdbcOrder.getOrderItems().stream().allMatch(item -> item.getId() > jdbcOrder.getId()));
+        assertEquals(loadOrderRow(jpaOrder.getId()), loadOrderRow(jdbcOrder.getId()));
+        assertEquals(loadItemRows(jpaOrder.getId()), loadItemRows(jdbcOrder.getId()));
+        assertEquals(3, loadItemRows(jdbcOrder.getId()).size());
+    }
+
+    @Test
+    @DisplayName("Order written through JDBC should be readable through JPA")
+    void testJdbcWrittenOrderReadableThroughJpa() {
+        Order written = jdbcOrderWriter.write(createOrder());
+        entityManager.clear();
+
+        Order loaded = orderRepository.findById(written.getId()).orElseThrow();
+
+        assertEquals(new BigDecimal("96.80"), loaded.getTotalPrice());
+        assertEquals(CREATED_AT, loaded.getCreatedAt());
+        assertEquals(3, loaded.getOrderItems().size());
+    }
+
+    private Order createOrder() {
+        Order order = Order.of(new BigDecimal("96.80"), List.of(
+                OrderItem.of("CE", 10, 5, 2, new BigDecimal("20.95")),
+                OrderItem.of("HM", 10, 8, 1, new BigDecimal("40.95")),
+                OrderItem.of("HM", 10, 2, 1, new BigDecimal("13.95"))));
+        order.setCreatedAt(CREATED_AT);
+        return order;
+    }
+
+    private Map<String, Object> loadOrderRow(Long orderId) {
+        return jdbcTemplate.queryForMap(
+                "SELECT created_at, total_price FROM orders WHERE id = ?", orderId);
+    }
+
+    private List<Map<String, Object>> loadItemRows(Long orderId) {
+        return jdbcTemplate.queryForList(
+                "SELECT product_code, quantity_ordered, bundle_size, bundle_count, price_at_time "
+                        + "FROM order_items WHERE order_id = ? ORDER BY product_code, bundle_size", orderId);
+    }
+}
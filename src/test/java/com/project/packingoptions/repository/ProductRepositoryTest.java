@@ -36,7 +36,7 @@ public class ProductRepositoryTest {
         List<Product> products = productRepository.findAll();
 
         assertNotNull(products);
-        assertTrue(products.size() >= 3); // CE, HM, SS from data.sql
+        assertTrue(products.size() >= 3); // CE, HM, SS from the V3 seed migration
     }
 
     @Test
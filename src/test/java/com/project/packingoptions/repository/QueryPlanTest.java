@@ -0,0 +1,98 @@
+package com.project.packingoptions.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Guards the V2 hot-path and V7 order search indexes: each hot query's H2 plan must name an index rather than
+ * scan the table.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+public class QueryPlanTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Packaging option lookup by product should use an index")
+    void testPackagingOptionsByProductUsesIndex() {
+        String plan = explain("SELECT * FROM packaging_options WHERE product_code = 'CE' ORDER BY bundle_size DESC");
+
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    @Test
+    @DisplayName("Order item lookup by order should use an index")
+    void testOrderItemsByOrderUsesIndex() {
+        String plan = explain("SELECT * FROM order_items WHERE order_id = 1");
+
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    @Test
+    @DisplayName("Order item lookup by product should use idx_order_items_product_order")
+    void testOrderItemsByProductUsesIndex() {
+        String plan = explain("SELECT order_id FROM order_items WHERE product_code = 'CE'");
+
+        assertTrue(plan.contains("IDX_ORDER_ITEMS_PRODUCT_ORDER"), plan);
+    }
+
+    @Test
+    @DisplayName("Order date-range filter should use idx_orders_created_at")
+    void testOrdersByCreatedAtUsesIndex() {
+        String plan = explain("SELECT id FROM orders WHERE created_at >= TIMESTAMP '2024-01-01 00:00:00'");
+
+        assertTrue(plan.contains("IDX_ORDERS_CREATED_AT"), plan);
+    }
+
+    @Test
+    @DisplayName("Order search by product should probe idx_order_items_product_order")
+    void testOrderSearchByProductUsesIndex() {
+        String plan = explain(OrderSearchQuery.of("o.id",
+                new OrderSearchCriteria("CE", null, null, null, null), 0, 50));
+
+        assertTrue(plan.contains("IDX_ORDER_ITEMS_PRODUCT_ORDER"), plan);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    @Test
+    @DisplayName("Order search by creation time should use idx_orders_created_at")
+    void testOrderSearchByCreatedAtUsesIndex() {
+        String plan = explain(OrderSearchQuery.of("o.id", new OrderSearchCriteria(null,
+                LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 2, 1, 0, 0), null, null), 0, 50));
+
+        assertTrue(plan.contains("IDX_ORDERS_CREATED_AT"), plan);
+    }
+
+    @Test
+    @DisplayName("Order search by total should use idx_orders_total_price")
+    void testOrderSearchByTotalUsesIndex() {
+        String plan = explain(OrderSearchQuery.of("o.id",
+                new OrderSearchCriteria(null, null, null, new BigDecimal("10.00"), new BigDecimal("50.00")), 0, 50));
+
+        assertTrue(plan.contains("IDX_ORDERS_TOTAL_PRICE"), plan);
+    }
+
+    private String explain(OrderSearchQuery search) {
+        Query query = entityManager.createNativeQuery("EXPLAIN " + search.sql());
+        for (int i = 0; i < search.parameters().size(); i++) {
+            query.setParameter(i + 1, search.parameters().get(i));
+        }
+        return String.valueOf(query.getSingleResult());
+    }
+
+    private String explain(String sql) {
+        return String.valueOf(entityManager.createNativeQuery("EXPLAIN " + sql).getSingleResult());
+    }
+}
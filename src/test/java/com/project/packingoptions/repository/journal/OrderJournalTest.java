@@ -0,0 +1,211 @@
+package com.project.packingoptions.repository.journal;
+
+import com.project.packingoptions.model.Order;
+import com.project.packingoptions.model.OrderItem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderJournalTest {
+
+    private static final int SEGMENT_SIZE = 2 * 1024 * 1024;
+
+    @TempDir
+    Path directory;
+
+    private OrderJournal journal;
+
+    @AfterEach
+    void tearDown() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should read back appended orders by id and by scan")
+    void testAppendAndRead() {
+        journal = new OrderJournal(directory, SEGMENT_SIZE);
+
+        Order first = journal.append(createOrder("CE", 10));
+        Order second = journal.append(createOrder("HM", 14));
+
+        assertEquals(1L, first.getId());
+        assertEquals(2L, second.getId());
+        assertNotNull(second.getOrderItems().get(0).getId());
+
+        Order loaded = journal.find(first.getId()).orElseThrow();
+        assertOrderEquals(first, loaded);
+        assertEquals(List.of(1L, 2L), scanIds());
+    }
+
+    @Test
+    @DisplayName("Should rebuild the index and id sequence after reopening")
+    void testReopen() {
+        journal = new OrderJournal(directory, SEGMENT_SIZE);
+        Order kept = journal.append(createOrder("CE", 10));
+        Order deleted = journal.append(createOrder("SS", 3));
+        assertTrue(journal.delete(deleted.getId()));
+        journal.close();
+
+        journal = new OrderJournal(directory, SEGMENT_SIZE);
+
+        assertOrderEquals(kept, journal.find(kept.getId()).orElseThrow());
+        assertFalse(journal.contains(deleted.getId()));
+        assertEquals(List.of(kept.getId()), scanIds());
+        assertEquals(3L, journal.append(createOrder("HM", 2)).getId());
+    }
+
+    @Test
+    @DisplayName("Should page live orders after an id, skipping deleted ones")
+    void testFindAfter() {
+        journal = new OrderJournal(directory, SEGMENT_SIZE);
+        for (int i = 0; i < 5; i++) {
+            journal.append(createOrder("CE", i + 1));
+        }
+        journal.delete(3L);
+
+        assertEquals(List.of(2L, 4L), journal.findAfter(1L, 2).stream().map(Order::getId).toList());
+        assertEquals(List.of(5L), journal.findAfter(4L, 10).stream().map(Order::getId).toList());
+        assertTrue(journal.findAfter(5L, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should roll over to a new segment when the current one is full")
+    void testSegmentRollover() {
+        journal = new OrderJournal(directory, SEGMENT_SIZE);
+        int recordBytes = OrderJournal.HEADER_BYTES + OrderRecordCodec.ORDER_FIXED_BYTES + OrderRecordCodec.ITEM_BYTES;
+        int orders = SEGMENT_SIZE / recordBytes + 10;
+        for (int i = 0; i < orders; i++) {
+            journal.append(createOrder("CE", i + 1));
+        }
+        journal.close();
+
+        journal = new OrderJournal(directory, SEGMENT_SIZE);
+
+        assertEquals(2, journal.segmentPaths().size());
+        assertEquals(orders, journal.size());
+        assertEquals(orders, scanIds().size());
+        assertEquals(orders, journal.find((long) orders).orElseThrow().getOrderItems().get(0).getQuantityOrdered());
+    }
+
+    @Test
+    @DisplayName("Should truncate a torn tail record with a bad CRC")
+    void testTornTailWithBadCrcIsTruncated() throws IOException {
+        journal = new OrderJournal(directory, SEGMENT_SIZE);
+        Order kept = journal.append(createOrder("CE", 10));
+        Order torn = journal.append(createOrder("HM", 14));
+        int tornOffset = journal.currentWriteOffset()
+                - OrderJournal.HEADER_BYTES - OrderRecordCodec.ORDER_FIXED_BYTES - OrderRecordCodec.ITEM_BYTES;
+        journal.close();
+
+        // Simulate a crash midway through the second record's payload
+        overwrite(tornOffset + OrderJournal.HEADER_BYTES + 20, new byte[40]);
+
+        journal = new OrderJournal(directory, SEGMENT_SIZE);
+
+        assertTrue(journal.contains(kept.getId()));
+        assertFalse(journal.contains(torn.getId()));
+        assertEquals(tornOffset, journal.currentWriteOffset());
+        assertEquals(0, readInt(tornOffset), "Torn record should be zeroed");
+    }
+
+    @Test
+    @DisplayName("Should truncate a torn tail record whose length runs past the segment")
+    void testTornTailWithBadLengthIsTruncated() throws IOException {
+        journal = new OrderJournal(directory, SEGMENT_SIZE);
+        Order kept = journal.append(createOrder("CE", 10));
+        int tailOffset = journal.currentWriteOffset();
+        journal.close();
+
+        overwrite(tailOffset, ByteBuffer.allocate(8).putInt(SEGMENT_SIZE).putInt(12345).array());
+
+        journal = new OrderJournal(directory, SEGMENT_SIZE);
+
+        assertEquals(List.of(kept.getId()), scanIds());
+        assertEquals(tailOffset, journal.currentWriteOffset());
+
+        Order next = journal.append(createOrder("SS", 3));
+        journal.close();
+        journal = new OrderJournal(directory, SEGMENT_SIZE);
+        assertEquals(List.of(kept.getId(), next.getId()), scanIds());
+    }
+
+    @Test
+    @DisplayName("Should refuse to open when a record before the last segment is corrupt")
+    void testCorruptionBeforeTailFails() throws IOException {
+        journal = new OrderJournal(directory, SEGMENT_SIZE);
+        int recordBytes = OrderJournal.HEADER_BYTES + OrderRecordCodec.ORDER_FIXED_BYTES + OrderRecordCodec.ITEM_BYTES;
+        for (int i = 0; i < SEGMENT_SIZE / recordBytes + 1; i++) {
+            journal.append(createOrder("CE", 1));
+        }
+        journal.close();
+        journal = null;
+
+        overwrite(OrderJournal.HEADER_BYTES + 1, new byte[8]);
+
+        assertThrows(IllegalStateException.class, () -> new OrderJournal(directory, SEGMENT_SIZE));
+    }
+
+    private Order createOrder(String productCode, int quantity) {
+        Order order = Order.of(new BigDecimal("20.95"), List.of(
+                OrderItem.of(productCode, quantity, 5, 1, new BigDecimal("20.95"))));
+        order.setCreatedAt(LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123456789));
+        return order;
+    }
+
+    private List<Long> scanIds() {
+        List<Long> ids = new ArrayList<>();
+        journal.scan(order -> ids.add(order.getId()));
+        return ids;
+    }
+
+    private void assertOrderEquals(Order expected, Order actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+        assertEquals(expected.getTotalPrice(), actual.getTotalPrice());
+        assertEquals(expected.getOrderItems().size(), actual.getOrderItems().size());
+        for (int i = 0; i < expected.getOrderItems().size(); i++) {
+            OrderItem expectedItem = expected.getOrderItems().get(i);
+            OrderItem actualItem = actual.getOrderItems().get(i);
+            assertEquals(expectedItem.getId(), actualItem.getId());
+            assertEquals(expectedItem.getProductCode(), actualItem.getProductCode());
+            assertEquals(expectedItem.getQuantityOrdered(), actualItem.getQuantityOrdered());
+            assertEquals(expectedItem.getBundleSize(), actualItem.getBundleSize());
+            assertEquals(expectedItem.getBundleCount(), actualItem.getBundleCount());
+            assertEquals(expectedItem.getPriceAtTime(), actualItem.getPriceAtTime());
+            assertSame(actual, actualItem.getOrder());
+        }
+    }
+
+    private void overwrite(int offset, byte[] bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(firstSegment(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(bytes), offset);
+        }
+    }
+
+    private int readInt(int offset) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(4);
+        try (FileChannel channel = FileChannel.open(firstSegment(), StandardOpenOption.READ)) {
+            channel.read(buffer, offset);
+        }
+        return buffer.flip().getInt();
+    }
+
+    private Path firstSegment() {
+        return directory.resolve("orders-00000000.journal");
+    }
+}
@@ -0,0 +1,90 @@
+package com.project.packingoptions.repository.memory;
+
+import com.project.packingoptions.model.PackagingOption;
+import com.project.packingoptions.model.Product;
+import com.project.packingoptions.util.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryPackagingOptionRepositoryTest {
+
+    private InMemoryPackagingOptionRepository repository;
+    private Product cheese;
+    private Product ham;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryPackagingOptionRepository();
+        cheese = TestDataFactory.createProduct("CE", "Cheese");
+        ham = TestDataFactory.createProduct("HM", "Ham");
+    }
+
+    @Test
+    @DisplayName("Should assign sequential ids and find options by product code")
+    void testSaveAndFindByProductCode() {
+        PackagingOption first = repository.save(option(cheese, 3));
+        PackagingOption second = repository.save(option(cheese, 5));
+        repository.save(option(ham, 2));
+
+        assertEquals(1L, first.getId());
+        assertEquals(2L, second.getId());
+        assertEquals(List.of(first, second), repository.findByProductCode("CE"));
+        assertEquals(3, repository.findAll().size());
+        assertTrue(repository.findByProductCode("SS").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should move an option between product lists when its product changes")
+    void testSaveMovesOptionToNewProduct() {
+        PackagingOption option = repository.save(option(cheese, 3));
+
+        option.setProduct(ham);
+        repository.save(option);
+
+        assertTrue(repository.findByProductCode("CE").isEmpty());
+        assertEquals(List.of(option), repository.findByProductCode("HM"));
+        assertEquals("HM", repository.findById(option.getId()).orElseThrow().getProductCode());
+    }
+
+    @Test
+    @DisplayName("Should delete options by id and by product code")
+    void testDelete() {
+        PackagingOption cheeseOption = repository.save(option(cheese, 3));
+        PackagingOption hamOption = repository.save(option(ham, 2));
+        repository.save(option(ham, 8));
+
+        repository.deleteById(cheeseOption.getId());
+        repository.deleteByProductCode("HM");
+
+        assertFalse(repository.existsById(cheeseOption.getId()));
+        assertFalse(repository.existsById(hamOption.getId()));
+        assertTrue(repository.findAll().isEmpty());
+        assertTrue(repository.findByProductCode("CE").isEmpty());
+        assertEquals(4L, repository.save(option(cheese, 5)).getId());
+    }
+
+    @Test
+    @DisplayName("Should keep seeded ids and continue the sequence after them")
+    void testSeededIds() {
+        PackagingOption seeded = option(cheese, 3);
+        seeded.setId(5L);
+        repository.save(seeded);
+
+        assertTrue(repository.existsById(5L));
+        assertEquals(6L, repository.save(option(cheese, 5)).getId());
+    }
+
+    private PackagingOption option(Product product, int bundleSize) {
+        return PackagingOption.builder()
+                .product(product)
+                .bundleSize(bundleSize)
+                .bundlePrice(new BigDecimal("10.00"))
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.project.packingoptions.repository.memory;
+
+import com.project.packingoptions.dto.SalesMetric;
+import com.project.packingoptions.model.Order;
+import com.project.packingoptions.model.OrderItem;
+import com.project.packingoptions.repository.SalesRollupStore.DailySales;
+import com.project.packingoptions.repository.SalesRollupStore.ProductSales;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemorySalesRollupStoreTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 1);
+
+    private InMemorySalesRollupStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemorySalesRollupStore();
+    }
+
+    @Test
+    @DisplayName("Should accumulate orders per product, day and bundle size")
+    void testAddOrder() {
+        store.addOrder(order(DAY, item("CE", 5, 2, "20.95"), item("CE", 3, 1, "14.95")));
+        store.addOrder(order(DAY, item("CE", 5, 1, "20.95")));
+        store.addOrder(order(DAY.plusDays(1), item("CE", 5, 1, "20.95")));
+
+        assertEquals(List.of(
+                        new DailySales("CE", DAY, 3, 3, 1, new BigDecimal("14.95")),
+                        new DailySales("CE", DAY, 5, 15, 3, new BigDecimal("62.85"))),
+                store.findByProduct("CE", DAY, DAY));
+        assertEquals(3, store.findByProduct("CE", DAY, DAY.plusDays(1)).size());
+        assertTrue(store.findByProduct("HM", DAY, DAY.plusDays(1)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should subtract removed orders and drop rows without packages")
+    void testRemoveOrder() {
+        Order first = order(DAY, item("CE", 5, 2, "20.95"));
+        Order second = order(DAY, item("CE", 5, 1, "20.95"), item("HM", 2, 1, "13.95"));
+        store.addOrder(first);
+        store.addOrder(second);
+
+        store.removeOrder(second);
+
+        assertEquals(List.of(new DailySales("CE", DAY, 5, 10, 2, new BigDecimal("41.90"))),
+                store.findByProduct("CE", DAY, DAY));
+        assertTrue(store.findByProduct("HM", DAY, DAY).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should rank products within the date range by the requested metric")
+    void testFindTopProducts() {
+        store.addOrder(order(DAY, item("CE", 5, 4, "20.95"), item("HM", 8, 1, "40.95")));
+        store.addOrder(order(DAY.minusDays(1), item("SS", 1, 50, "11.95")));
+
+        assertEquals(List.of(
+                        new ProductSales("CE", 20, 4, new BigDecimal("83.80")),
+                        new ProductSales("HM", 8, 1, new BigDecimal("40.95"))),
+                store.findTopProducts(DAY, DAY, SalesMetric.REVENUE, 10));
+        assertEquals("HM", store.findTopProducts(DAY, DAY, SalesMetric.PACKAGES, 10).get(1).productCode());
+        assertEquals(List.of("SS"), store.findTopProducts(DAY.minusDays(1), DAY, SalesMetric.UNITS, 1).stream()
+                .map(ProductSales::productCode)
+                .toList());
+    }
+
+    private Order order(LocalDate day, OrderItem... items) {
+        Order order = Order.of(BigDecimal.ZERO, Arrays.asList(items));
+        order.setCreatedAt(day.atTime(12, 0));
+        return order;
+    }
+
+    private OrderItem item(String productCode, int bundleSize, int bundleCount, String price) {
+        return OrderItem.builder()
+                .productCode(productCode)
+                .quantityOrdered(bundleSize * bundleCount)
+                .bundleSize(bundleSize)
+                .bundleCount(bundleCount)
+                .priceAtTime(new BigDecimal(price))
+                .build();
+    }
+}
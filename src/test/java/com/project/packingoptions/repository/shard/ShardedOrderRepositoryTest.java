@@ -0,0 +1,174 @@
+package com.project.packingoptions.repository.shard;
+
+import com.project.packingoptions.model.Order;
+import com.project.packingoptions.model.OrderItem;
+import com.project.packingoptions.model.id.TimeOrderedIdGenerator;
+import com.project.packingoptions.repository.OrderSearchCriteria;
+import com.project.packingoptions.repository.memory.InMemoryTransactionManager;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedOrderRepositoryTest {
+
+    private static final int SHARDS = 3;
+
+    private List<OrderShard> shards;
+    private ShardedOrderRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        TimeOrderedIdGenerator idGenerator = new TimeOrderedIdGenerator(1);
+        shards = new ArrayList<>();
+        for (int i = 0; i < SHARDS; i++) {
+            JdbcDataSource dataSource = new JdbcDataSource();
+            dataSource.setURL("jdbc:h2:mem:shard-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+            OrderShard shard = new OrderShard("order-shard-" + i, dataSource, idGenerator);
+            shard.migrate();
+            shards.add(shard);
+        }
+        repository = new ShardedOrderRepository(shards, idGenerator);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("Should spread orders across shards and read each back from its own shard")
+    void testWriteAndFindById() {
+        List<Order> written = writeOrders(60);
+
+        for (OrderShard shard : shards) {
+            assertTrue(shard.countOrders() > 0, shard.name() + " should hold some orders");
+        }
+        assertEquals(60, shards.stream().mapToInt(OrderShard::countOrders).sum());
+
+        Order expected = written.get(17);
+        Order loaded = repository.findById(expected.getId()).orElseThrow();
+        assertEquals(expected.getCreatedAt(), loaded.getCreatedAt());
+        assertEquals(expected.getTotalPrice(), loaded.getTotalPrice());
+        assertEquals(2, loaded.getOrderItems().size());
+        assertEquals(expected.getOrderItems().get(1).getId(), loaded.getOrderItems().get(1).getId());
+        assertSame(loaded, loaded.getOrderItems().get(0).getOrder());
+        assertEquals(1, shards.stream().filter(shard -> shard.exists(expected.getId())).count());
+        assertTrue(repository.shardFor(expected.getId()).exists(expected.getId()));
+    }
+
+    @Test
+    @DisplayName("Should merge keyset pages from all shards in id order without gaps or duplicates")
+    void testKeysetPagination() {
+        List<Long> expectedIds = writeOrders(25).stream().map(Order::getId).toList();
+
+        List<Long> pagedIds = new ArrayList<>();
+        long afterId = 0;
+        List<Order> page;
+        do {
+            page = repository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(7));
+            page.forEach(order -> pagedIds.add(order.getId()));
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).getId();
+                assertEquals(2, page.get(0).getOrderItems().size());
+            }
+        } while (page.size() == 7);
+
+        assertEquals(expectedIds, pagedIds);
+        assertEquals(expectedIds, repository.findAll().stream().map(Order::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should search all shards by product, creation time and total, paging in id order")
+    void testSearch() {
+        List<Long> expectedIds = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            String productCode = i % 2 == 0 ? "SS" : "CE";
+            BigDecimal total = new BigDecimal(10 + i);
+            LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 0, 0).plusHours(i);
+            Order order = repository.write(createOrder(productCode, total, createdAt));
+            if (productCode.equals("SS") && i >= 4 && i < 24) {
+                expectedIds.add(order.getId());
+            }
+        }
+        OrderSearchCriteria criteria = new OrderSearchCriteria("SS", LocalDateTime.of(2024, 3, 1, 4, 0), null,
+                null, new BigDecimal("33"));
+
+        List<Order> firstPage = repository.search(criteria, 0, 6);
+        List<Order> secondPage = repository.search(criteria, firstPage.get(5).getId(), 6);
+
+        assertEquals(expectedIds.subList(0, 6), firstPage.stream().map(Order::getId).toList());
+        assertEquals(expectedIds.subList(6, 10), secondPage.stream().map(Order::getId).toList());
+        assertEquals("SS", secondPage.get(0).getOrderItems().get(0).getProductCode());
+    }
+
+    @Test
+    @DisplayName("Should delete an order from its shard only")
+    void testDeleteById() {
+        List<Order> written = writeOrders(10);
+        Long deletedId = written.get(3).getId();
+
+        repository.deleteById(deletedId);
+
+        assertFalse(repository.existsById(deletedId));
+        assertTrue(repository.findById(deletedId).isEmpty());
+        assertTrue(repository.existsById(written.get(4).getId()));
+        assertEquals(9, repository.findAll().size());
+    }
+
+    @Test
+    @DisplayName("Should delete a written order again when the caller's transaction rolls back")
+    void testWriteUndoneOnRollback() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new InMemoryTransactionManager());
+        Order kept = transactionTemplate.execute(status -> repository.write(createOrder()));
+        Order undone = transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            return repository.write(createOrder());
+        });
+
+        assertTrue(repository.existsById(kept.getId()));
+        assertFalse(repository.existsById(undone.getId()));
+        assertEquals(1, shards.stream().mapToInt(OrderShard::countOrders).sum());
+    }
+
+    @Test
+    @DisplayName("Should reject updates of stored orders")
+    void testSaveExistingOrderRejected() {
+        Order order = writeOrders(1).get(0);
+
+        assertThrows(UnsupportedOperationException.class, () -> repository.save(order));
+    }
+
+    private List<Order> writeOrders(int count) {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            orders.add(repository.write(createOrder()));
+        }
+        return orders;
+    }
+
+    private Order createOrder(String productCode, BigDecimal total, LocalDateTime createdAt) {
+        Order order = Order.of(total, List.of(OrderItem.of(productCode, 1, 1, 1, total)));
+        order.setCreatedAt(createdAt);
+        return order;
+    }
+
+    private Order createOrder() {
+        Order order = Order.of(new BigDecimal("34.90"), List.of(
+                OrderItem.of("CE", 10, 5, 1, new BigDecimal("20.95")),
+                OrderItem.of("HM", 2, 2, 1, new BigDecimal("13.95"))));
+        order.setCreatedAt(LocalDateTime.of(2024, 3, 1, 12, 30, 15));
+        return order;
+    }
+}
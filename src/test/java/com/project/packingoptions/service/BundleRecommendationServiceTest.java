@@ -0,0 +1,146 @@
+package com.project.packingoptions.service;
+
+import com.project.packingoptions.dto.BundleRecommendationResponse;
+import com.project.packingoptions.dto.BundleRecommendationResponse.BundleSet;
+import com.project.packingoptions.exception.ResourceNotFoundException;
+import com.project.packingoptions.model.PackagingOption;
+import com.project.packingoptions.model.Product;
+import com.project.packingoptions.repository.OrderLineStatistics;
+import com.project.packingoptions.repository.OrderLineStatistics.QuantityCount;
+import com.project.packingoptions.util.TestDataFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BundleRecommendationServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 12, 30);
+
+    @Mock
+    private OrderLineStatistics orderLineStatistics;
+
+    @Mock
+    private ProductCatalogCache productCatalogCache;
+
+    private BundleRecommendationServiceImpl bundleRecommendationService;
+
+    @BeforeEach
+    void setUp() {
+        bundleRecommendationService = new BundleRecommendationServiceImpl(orderLineStatistics, productCatalogCache, 2);
+        Product cheese = TestDataFactory.createProduct("CE", "Cheese", new BigDecimal("5.95"));
+        lenient().when(productCatalogCache.find("CE")).thenReturn(Optional.of(new ProductCatalogCache.CatalogEntry(
+                cheese, List.of(PackagingOption.of("CE", 3, new BigDecimal("14.95")),
+                        PackagingOption.of("CE", 5, new BigDecimal("20.95"))))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bundleRecommendationService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should recommend the sizes that pack the ordered quantities in the fewest packages")
+    void testRecommend() {
+        streamCounts(List.of(new QuantityCount("CE", 6, 10), new QuantityCount("CE", 12, 1)));
+
+        BundleRecommendationResponse response = bundleRecommendationService.recommend("CE", FROM, TO, 1, 2, 20, 3);
+
+        // Today 6 = 5 + 1 and 12 = 5 + 5 + 1 + 1
+        assertEquals(11, response.getOrderLines());
+        assertEquals(List.of(3, 5), response.getCurrent().getBundleSizes());
+        assertEquals(24, response.getCurrent().getPackages());
+        assertEquals(new BigDecimal("2.1818"), response.getCurrent().getPackagesPerLine());
+        BundleSet best = response.getRecommendations().get(0);
+        assertEquals(List.of(6), best.getBundleSizes());
+        assertEquals(12, best.getPackages());
+        assertEquals(3, response.getRecommendations().size());
+    }
+
+    @Test
+    @DisplayName("Should find the same sets as scoring every candidate set")
+    void testRecommendMatchesExhaustiveSearch() {
+        Random random = new Random(42);
+        List<QuantityCount> counts = new ArrayList<>();
+        for (int quantity = 1; quantity <= 60; quantity++) {
+            if (random.nextInt(3) > 0) {
+                counts.add(new QuantityCount("CE", quantity, 1 + random.nextInt(quantity % 12 == 0 ? 50 : 8)));
+            }
+        }
+        streamCounts(counts);
+
+        BundleRecommendationResponse response = bundleRecommendationService.recommend("CE", FROM, TO, 3, 2, 24, 10);
+
+        List<BundleSizeSearch.Candidate> expected = new ArrayList<>();
+        for (int a = 2; a <= 24; a++) {
+            expected.add(score(counts, a));
+            for (int b = 2; b < a; b++) {
+                expected.add(score(counts, a, b));
+                for (int c = 2; c < b; c++) {
+                    expected.add(score(counts, a, b, c));
+                }
+            }
+        }
+        expected.sort(BundleSizeSearch.CANDIDATE_ORDER);
+        assertEquals(expected.subList(0, 10).stream().map(BundleSizeSearch.Candidate::bundleSizes).toList(),
+                response.getRecommendations().stream().map(BundleSet::getBundleSizes).toList());
+        assertEquals(expected.get(0).packages(), response.getRecommendations().get(0).getPackages());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown products and search bounds out of range")
+    void testInvalidArguments() {
+        when(productCatalogCache.find("XX")).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> bundleRecommendationService.recommend("XX", FROM, TO, 3, 2, 50, 5));
+        assertThrows(IllegalArgumentException.class,
+                () -> bundleRecommendationService.recommend("CE", FROM, TO, 5, 2, 50, 5));
+        assertThrows(IllegalArgumentException.class,
+                () -> bundleRecommendationService.recommend("CE", FROM, TO, 3, 1, 50, 5));
+        assertThrows(IllegalArgumentException.class,
+                () -> bundleRecommendationService.recommend("CE", FROM, TO, 3, 20, 10, 5));
+        assertThrows(IllegalArgumentException.class,
+                () -> bundleRecommendationService.recommend("CE", FROM, TO, 3, 2, 101, 5));
+        assertThrows(IllegalArgumentException.class,
+                () -> bundleRecommendationService.recommend("CE", FROM, TO, 3, 2, 50, 0));
+        verifyNoInteractions(orderLineStatistics);
+    }
+
+    private void streamCounts(List<QuantityCount> counts) {
+        doAnswer(invocation -> {
+            Consumer<QuantityCount> consumer = invocation.getArgument(3);
+            counts.forEach(consumer);
+            return null;
+        }).when(orderLineStatistics).forEachQuantity(any(), any(), any(), any());
+    }
+
+    private static BundleSizeSearch.Candidate score(List<QuantityCount> counts, int... sizesDescending) {
+        long packages = 0;
+        for (QuantityCount count : counts) {
+            packages += count.lines() * BundleCatalog.packages(count.quantity(), sizesDescending);
+        }
+        List<Integer> ascending = new ArrayList<>();
+        for (int i = sizesDescending.length - 1; i >= 0; i--) {
+            ascending.add(sizesDescending[i]);
+        }
+        return new BundleSizeSearch.Candidate(ascending, packages);
+    }
+}
@@ -0,0 +1,193 @@
+package com.project.packingoptions.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.project.packingoptions.dto.OrderRequest;
+import com.project.packingoptions.dto.OrderResponse;
+import com.project.packingoptions.exception.IdempotencyConflictException;
+import com.project.packingoptions.model.IdempotencyRecord;
+import com.project.packingoptions.repository.IdempotencyRecordRepository;
+import com.project.packingoptions.service.IdempotencyService.IdempotentResult;
+import com.project.packingoptions.util.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class IdempotencyServiceTest {
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private IdempotencyServiceImpl idempotencyService;
+    private OrderRequest request;
+    private OrderResponse response;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyServiceImpl(orderService, idempotencyRecordRepository,
+                transactionTemplate, objectMapper, 100, 5, Duration.ofHours(24));
+
+        request = TestDataFactory.createOrderRequest("CE", 10);
+        response = OrderResponse.builder()
+                .orderId(42L)
+                .createdAt(LocalDateTime.now())
+                .totalPrice(new BigDecimal("41.90"))
+                .totalPackages(2)
+                .productBreakdowns(Collections.emptyList())
+                .build();
+
+        when(idempotencyRecordRepository.findById(any())).thenReturn(Optional.empty());
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+    }
+
+    @Test
+    @DisplayName("Should create the order once and replay it for a retry")
+    void testRetryReplaysStoredResponse() {
+        when(orderService.createOrder(any(OrderRequest.class))).thenReturn(response);
+
+        IdempotentResult first = idempotencyService.createOrder("key-1", request);
+        IdempotentResult retry = idempotencyService.createOrder("key-1", request);
+
+        assertFalse(first.isReplayed());
+        assertTrue(retry.isReplayed());
+        assertEquals(42L, retry.getResponse().getOrderId());
+        verify(orderService, times(1)).createOrder(any(OrderRequest.class));
+        verify(idempotencyRecordRepository, times(1)).saveAndFlush(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    @DisplayName("Should replay a response persisted by an earlier run without solving")
+    void testReplayFromPersistentTable() throws Exception {
+        OrderRequest sameRequest = TestDataFactory.createOrderRequest("CE", 10);
+        String requestHash = firstRunHash(sameRequest);
+        when(idempotencyRecordRepository.findById("key-2")).thenReturn(Optional.of(IdempotencyRecord.builder()
+                .idempotencyKey("key-2")
+                .requestHash(requestHash)
+                .orderId(42L)
+                .responseBody(objectMapper.writeValueAsString(response))
+                .build()));
+
+        IdempotencyServiceImpl restarted = new IdempotencyServiceImpl(orderService, idempotencyRecordRepository,
+                transactionTemplate, objectMapper, 100, 5, Duration.ofHours(24));
+        IdempotentResult result = restarted.createOrder("key-2", sameRequest);
+
+        assertTrue(result.isReplayed());
+        assertEquals(42L, result.getResponse().getOrderId());
+        verify(orderService, never()).createOrder(any(OrderRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should purge keys past the retention, after which the key creates a new order")
+    void testPurgeExpired() {
+        when(orderService.createOrder(any(OrderRequest.class))).thenReturn(response);
+        idempotencyService.createOrder("key-5", request);
+        IdempotencyServiceImpl expiring = new IdempotencyServiceImpl(orderService, idempotencyRecordRepository,
+                transactionTemplate, objectMapper, 100, 5, Duration.ZERO);
+        expiring.createOrder("key-5", request);
+
+        idempotencyService.purgeExpired();
+        expiring.purgeExpired();
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(idempotencyRecordRepository, times(2)).deleteCreatedUpTo(cutoff.capture());
+        assertTrue(cutoff.getAllValues().get(0).isBefore(LocalDateTime.now().minusHours(23)));
+        assertTrue(idempotencyService.createOrder("key-5", request).isReplayed());
+        assertFalse(expiring.createOrder("key-5", request).isReplayed());
+        verify(orderService, times(3)).createOrder(any(OrderRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a reused key with a different request")
+    void testKeyReusedWithDifferentRequest() {
+        when(orderService.createOrder(any(OrderRequest.class))).thenReturn(response);
+
+        idempotencyService.createOrder("key-3", request);
+
+        OrderRequest otherRequest = TestDataFactory.createOrderRequest("HM", 3);
+        assertThrows(IdempotencyConflictException.class,
+                () -> idempotencyService.createOrder("key-3", otherRequest));
+    }
+
+    @Test
+    @DisplayName("Should let concurrent duplicates wait on the in-flight order")
+    void testConcurrentDuplicatesShareOneComputation() throws Exception {
+        CountDownLatch solving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(orderService.createOrder(any(OrderRequest.class))).thenAnswer(invocation -> {
+            solving.countDown();
+            release.await();
+            return response;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<IdempotentResult> first = executor.submit(() -> idempotencyService.createOrder("key-4", request));
+            solving.await();
+            List<Future<IdempotentResult>> duplicates = List.of(
+                    executor.submit(() -> idempotencyService.createOrder("key-4", request)),
+                    executor.submit(() -> idempotencyService.createOrder("key-4", request)));
+            release.countDown();
+
+            assertEquals(42L, first.get().getResponse().getOrderId());
+            for (Future<IdempotentResult> duplicate : duplicates) {
+                assertEquals(42L, duplicate.get().getResponse().getOrderId());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(orderService, times(1)).createOrder(any(OrderRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should reject a blank key")
+    void testBlankKeyRejected() {
+        assertThrows(IllegalArgumentException.class, () -> idempotencyService.createOrder(" ", request));
+    }
+
+    private String firstRunHash(OrderRequest sameRequest) {
+        when(orderService.createOrder(any(OrderRequest.class))).thenReturn(response);
+        idempotencyService.createOrder("probe", sameRequest);
+
+        ArgumentCaptor<IdempotencyRecord> captor = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(idempotencyRecordRepository).saveAndFlush(captor.capture());
+        clearInvocations(orderService);
+        return captor.getValue().getRequestHash();
+    }
+}
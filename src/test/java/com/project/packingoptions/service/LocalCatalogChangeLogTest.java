@@ -0,0 +1,144 @@
+package com.project.packingoptions.service;
+
+import com.project.packingoptions.dto.CatalogChangeResponse;
+import com.project.packingoptions.dto.CatalogChangeType;
+import com.project.packingoptions.exception.CatalogChangesExpiredException;
+import com.project.packingoptions.model.PackagingOption;
+import com.project.packingoptions.model.Product;
+import com.project.packingoptions.util.TestDataFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LocalCatalogChangeLogTest {
+
+    private final ProductCatalogCache productCatalogCache = mock(ProductCatalogCache.class);
+    private final LocalCatalogChangeLog changeLog = new LocalCatalogChangeLog(productCatalogCache, 3);
+    private final Product cheese = TestDataFactory.createProduct("CE", "Cheese");
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        changeLog.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should return changes after a version in order")
+    void testChangesSince() {
+        long start = changeLog.latestVersion();
+
+        changeLog.productSaved(cheese);
+        changeLog.packagingOptionSaved(option(7L, cheese));
+        changeLog.productDeleted("CE");
+
+        List<CatalogChangeResponse> changes = changeLog.changesSince(start).getChanges();
+        assertEquals(List.of(start + 1, start + 2, start + 3),
+                changes.stream().map(CatalogChangeResponse::getVersion).toList());
+        assertEquals(CatalogChangeType.PRODUCT_UPSERTED, changes.get(0).getType());
+        assertEquals("Cheese", changes.get(0).getProduct().getName());
+        assertEquals(7L, changes.get(1).getPackagingOptionId());
+        assertEquals("CE", changes.get(1).getPackagingOption().getProductCode());
+        assertEquals(CatalogChangeType.PRODUCT_DELETED, changes.get(2).getType());
+        assertEquals(start + 3, changeLog.changesSince(start + 2).getLatestVersion());
+        assertEquals(1, changeLog.changesSince(start + 2).getChanges().size());
+    }
+
+    @Test
+    @DisplayName("Should record a change and invalidate the catalog cache only once its transaction commits")
+    void testChangeRecordedAfterCommit() {
+        long start = changeLog.latestVersion();
+        TransactionSynchronizationManager.initSynchronization();
+
+        changeLog.productSaved(cheese);
+        assertEquals(start, changeLog.latestVersion());
+        verify(productCatalogCache, never()).invalidate(any());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(start + 1, changeLog.latestVersion());
+        verify(productCatalogCache).invalidate(argThat(change -> "CE".equals(change.getProductCode())));
+    }
+
+    @Test
+    @DisplayName("Should reject versions older than the retained changes or from the future")
+    void testExpiredVersions() {
+        long start = changeLog.latestVersion();
+        for (int i = 0; i < 4; i++) {
+            changeLog.packagingOptionDeleted((long) i);
+        }
+
+        assertThrows(CatalogChangesExpiredException.class, () -> changeLog.changesSince(start));
+        assertEquals(3, changeLog.changesSince(start + 1).getChanges().size());
+        assertThrows(CatalogChangesExpiredException.class, () -> changeLog.changesSince(start + 5));
+    }
+
+    @Test
+    @DisplayName("Should deliver the backlog and then live changes to subscribers")
+    void testSubscribe() throws InterruptedException {
+        long start = changeLog.latestVersion();
+        changeLog.productSaved(cheese);
+        BlockingQueue<Object> received = new LinkedBlockingQueue<>();
+
+        Runnable unsubscribe = changeLog.subscribe(start, listener(received));
+        changeLog.productDeleted("CE");
+
+        assertEquals(start + 1, ((CatalogChangeResponse) received.poll(5, TimeUnit.SECONDS)).getVersion());
+        assertEquals(start + 2, ((CatalogChangeResponse) received.poll(5, TimeUnit.SECONDS)).getVersion());
+
+        unsubscribe.run();
+        changeLog.productSaved(cheese);
+        assertNull(received.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("Should reset subscribers whose version is no longer retained")
+    void testSubscribeReset() throws InterruptedException {
+        long start = changeLog.latestVersion();
+        for (int i = 0; i < 4; i++) {
+            changeLog.packagingOptionDeleted((long) i);
+        }
+        BlockingQueue<Object> received = new LinkedBlockingQueue<>();
+
+        changeLog.subscribe(start, listener(received));
+        changeLog.productSaved(cheese);
+
+        assertEquals(start + 4, received.poll(5, TimeUnit.SECONDS));
+        assertEquals(start + 5, ((CatalogChangeResponse) received.poll(5, TimeUnit.SECONDS)).getVersion());
+    }
+
+    private CatalogChangeLog.Listener listener(BlockingQueue<Object> received) {
+        return new CatalogChangeLog.Listener() {
+            @Override
+            public void onChange(CatalogChangeResponse change) {
+                received.add(change);
+            }
+
+            @Override
+            public void onReset(long latestVersion) {
+                received.add(latestVersion);
+            }
+        };
+    }
+
+    private PackagingOption option(Long id, Product product) {
+        PackagingOption option = PackagingOption.builder()
+                .product(product)
+                .bundleSize(5)
+                .bundlePrice(new BigDecimal("20.95"))
+                .build();
+        option.setId(id);
+        return option;
+    }
+}
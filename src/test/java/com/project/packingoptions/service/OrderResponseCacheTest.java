@@ -0,0 +1,101 @@
+package com.project.packingoptions.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.project.packingoptions.dto.OrderResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderResponseCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderResponseCacheImpl cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new OrderResponseCacheImpl(objectMapper, meterRegistry, 1, Duration.ofSeconds(60), nanoTime::get);
+    }
+
+    @Test
+    @DisplayName("Should return the serialized response and count hits and misses")
+    void testPutAndGet() throws Exception {
+        byte[] body = cache.put(response(1L));
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(response(1L)), body);
+        assertArrayEquals(body, cache.get(1L).orElseThrow());
+        assertTrue(cache.get(2L).isEmpty());
+        assertEquals(1.0, meterRegistry.get("orders.response.cache.hits").counter().count());
+        assertEquals(1.0, meterRegistry.get("orders.response.cache.misses").counter().count());
+        assertEquals(0.5, meterRegistry.get("orders.response.cache.hit.ratio").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used responses to stay within the byte limit")
+    void testSizeBasedEviction() {
+        // Three-digit ids keep every entry the same size
+        int entrySize = cache.put(response(101L)).length;
+        int capacity = 1024 / entrySize;
+        for (long id = 102; id <= 100 + capacity; id++) {
+            cache.put(response(id));
+        }
+        cache.get(101L);
+
+        cache.put(response(101L + capacity));
+
+        assertTrue(cache.bytes() <= 1024);
+        assertTrue(cache.get(101L).isPresent(), "Recently read entry should survive");
+        assertTrue(cache.get(102L).isEmpty(), "Least recently used entry should be evicted");
+        assertEquals(1.0, meterRegistry.get("orders.response.cache.evictions").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should remove evicted orders")
+    void testEvict() {
+        cache.put(response(1L));
+
+        cache.evict(1L);
+
+        assertTrue(cache.get(1L).isEmpty());
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.bytes());
+    }
+
+    @Test
+    @DisplayName("Should expire responses after the TTL, so deletes on other nodes are seen")
+    void testExpiry() {
+        cache.put(response(1L));
+        nanoTime.addAndGet(Duration.ofSeconds(59).toNanos());
+        cache.put(response(2L));
+
+        assertTrue(cache.get(1L).isPresent());
+        nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        assertTrue(cache.get(1L).isEmpty());
+        assertTrue(cache.get(2L).isPresent());
+        assertEquals(1, cache.size());
+        assertEquals(1.0, meterRegistry.get("orders.response.cache.misses").counter().count());
+    }
+
+    private OrderResponse response(Long orderId) {
+        return OrderResponse.builder()
+                .orderId(orderId)
+                .totalPrice(new BigDecimal("41.90"))
+                .totalPackages(2)
+                .productBreakdowns(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,138 @@
+package com.project.packingoptions.service;
+
+import com.project.packingoptions.dto.OrderPurgeResponse;
+import com.project.packingoptions.dto.OrderPurgeStatus;
+import com.project.packingoptions.repository.JdbcOrderPurger;
+import com.project.packingoptions.repository.JdbcOrderPurger.PurgedChunk;
+import com.project.packingoptions.repository.memory.InMemoryTransactionManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderRetentionServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private JdbcOrderPurger orderPurger;
+
+    @Mock
+    private OrderResponseCache orderResponseCache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderRetentionServiceImpl orderRetentionService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        orderRetentionService = new OrderRetentionServiceImpl(orderPurger, orderResponseCache,
+                new InMemoryTransactionManager(), meterRegistry, Duration.ofDays(365), CHUNK_SIZE, 0, 30);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRetentionService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should purge in chunks until a short chunk, evicting purged orders and counting progress")
+    void testPurge() {
+        when(orderPurger.findExpired(any(LocalDateTime.class), eq(CHUNK_SIZE)))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L));
+        when(orderPurger.delete(List.of(1L, 2L))).thenReturn(new PurgedChunk(2, 5));
+        when(orderPurger.delete(List.of(3L))).thenReturn(new PurgedChunk(1, 2));
+
+        OrderPurgeResponse response = orderRetentionService.purge(Duration.ofDays(30));
+
+        assertEquals(OrderPurgeStatus.COMPLETED, response.getStatus());
+        assertEquals(2, response.getChunks());
+        assertEquals(3, response.getOrdersDeleted());
+        assertEquals(7, response.getItemsDeleted());
+        assertTrue(response.getCutoff().isBefore(LocalDateTime.now().minusDays(29)));
+        verify(orderResponseCache).evict(1L);
+        verify(orderResponseCache).evict(3L);
+        assertEquals(3.0, meterRegistry.get("orders.purge.orders").counter().count());
+        assertEquals(7.0, meterRegistry.get("orders.purge.items").counter().count());
+        assertEquals(response, orderRetentionService.getLastPurge().orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should report a failed chunk and allow the next purge to start")
+    void testPurgeFailure() {
+        when(orderPurger.findExpired(any(LocalDateTime.class), eq(CHUNK_SIZE)))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(List.of());
+        when(orderPurger.delete(List.of())).thenReturn(new PurgedChunk(0, 0));
+
+        OrderPurgeResponse failed = orderRetentionService.purge(Duration.ofDays(30));
+        OrderPurgeResponse next = orderRetentionService.purge(Duration.ofDays(30));
+
+        assertEquals(OrderPurgeStatus.FAILED, failed.getStatus());
+        assertEquals("timeout", failed.getError());
+        assertEquals(OrderPurgeStatus.COMPLETED, next.getStatus());
+        assertEquals(0, next.getChunks());
+        verifyNoInteractions(orderResponseCache);
+    }
+
+    @Test
+    @DisplayName("Should run the scheduled purge on the purge thread without holding the scheduler thread")
+    void testScheduledPurgeRunsInBackground() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<Thread> purgeThread = new AtomicReference<>();
+        when(orderPurger.findExpired(any(LocalDateTime.class), eq(CHUNK_SIZE))).thenAnswer(invocation -> {
+            purgeThread.set(Thread.currentThread());
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+        when(orderPurger.delete(List.of())).thenReturn(new PurgedChunk(0, 0));
+
+        orderRetentionService.purgeExpiredOrders();
+
+        assertEquals(OrderPurgeStatus.RUNNING, orderRetentionService.getLastPurge().orElseThrow().getStatus());
+        release.countDown();
+        assertEquals(OrderPurgeStatus.COMPLETED, awaitFinished().getStatus());
+        assertNotSame(Thread.currentThread(), purgeThread.get());
+        assertEquals("order-purge", purgeThread.get().getName());
+    }
+
+    @Test
+    @DisplayName("Should reject retention ages below one day")
+    void testPurgeRejectsShortRetention() {
+        assertThrows(IllegalArgumentException.class, () -> orderRetentionService.purge(Duration.ofHours(1)));
+        assertTrue(orderRetentionService.getLastPurge().isEmpty());
+        verifyNoInteractions(orderPurger);
+    }
+
+    private OrderPurgeResponse awaitFinished() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            OrderPurgeResponse run = orderRetentionService.getLastPurge().orElseThrow();
+            if (run.getStatus() != OrderPurgeStatus.RUNNING) {
+                return run;
+            }
+            Thread.sleep(10);
+        }
+        fail("Purge did not finish in time");
+        return null;
+    }
+}
@@ -12,7 +12,11 @@ import com.project.packingoptions.model.Order;
 import com.project.packingoptions.model.OrderItem;
 import com.project.packingoptions.model.PackagingOption;
 import com.project.packingoptions.model.Product;
+import com.project.packingoptions.repository.JpaOrderWriter;
 import com.project.packingoptions.repository.OrderRepository;
+import com.project.packingoptions.repository.OrderSearchCriteria;
+import com.project.packingoptions.repository.OrderViewStore;
+import com.project.packingoptions.repository.SalesRollupStore;
 import com.project.packingoptions.repository.PackagingOptionRepository;
 import com.project.packingoptions.repository.ProductRepository;
 import com.project.packingoptions.service.PackagingCalculatorService.PackageCount;
@@ -25,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -36,6 +41,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -57,6 +63,15 @@ class OrderServiceTest {
     @Mock
     private OrderMapper orderMapper;
 
+    @Mock
+    private OrderResponseCache orderResponseCache;
+
+    @Mock
+    private OrderViewStore orderViewStore;
+
+    @Mock
+    private SalesRollupStore salesRollupStore;
+
     private OrderServiceImpl orderService;
 
     private Faker faker;
@@ -68,8 +83,9 @@ class OrderServiceTest {
 
     @BeforeEach
     void setUp() {
-        orderService = new OrderServiceImpl(orderRepository, productRepository,
-                packagingOptionRepository, packagingCalculatorService, orderMapper);
+        orderService = new OrderServiceImpl(orderRepository, new JpaOrderWriter(orderRepository),
+                new ProductCatalogCacheImpl(productRepository, packagingOptionRepository),
+                packagingCalculatorService, orderMapper, orderResponseCache, orderViewStore, salesRollupStore);
 
         faker = TestDataFactory.getFaker();
 
@@ -148,6 +164,7 @@ class OrderServiceTest {
 
         ProductBreakdown resultBreakdown = response.getProductBreakdowns().get(0);
         assertEquals(product1.getCode(), resultBreakdown.getProductCode());
+        verify(salesRollupStore).addOrder(any(Order.class));
     }
 
     @Test
@@ -253,6 +270,67 @@ class OrderServiceTest {
         assertEquals(3, response.getProductBreakdowns().size());
     }
 
+    @Test
+    @DisplayName("Should coalesce duplicate product lines before solving")
+    void testCreateOrderCoalescesDuplicateLines() {
+        OrderRequest request = TestDataFactory.createOrderRequest(Arrays.asList(
+                TestDataFactory.createOrderItemRequest(product1.getCode(), 3),
+                TestDataFactory.createOrderItemRequest(product2.getCode(), 4),
+                TestDataFactory.createOrderItemRequest(product1.getCode(), 3)));
+
+        when(productRepository.findByCode(product1.getCode())).thenReturn(Optional.of(product1));
+        when(productRepository.findByCode(product2.getCode())).thenReturn(Optional.of(product2));
+        when(packagingOptionRepository.findByProductCode(product1.getCode())).thenReturn(product1Options);
+        when(packagingOptionRepository.findByProductCode(product2.getCode())).thenReturn(product2Options);
+
+        BigDecimal price = TestDataFactory.generatePrice(10, 20);
+        PackagingBreakdown breakdown = PackagingBreakdown.builder()
+                .packages(Arrays.asList(PackageCount.builder().bundleSize(3).count(2)
+                        .pricePerBundle(price).build()))
+                .totalPrice(price.multiply(BigDecimal.valueOf(2)))
+                .totalPackageCount(2)
+                .build();
+        when(packagingCalculatorService.calculateOptimalPackaging(anyInt(), any(), any())).thenReturn(breakdown);
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderMapper.toProductBreakdown(any(Product.class), anyInt(), any(PackagingBreakdown.class)))
+                .thenAnswer(invocation -> {
+                    Product p = invocation.getArgument(0);
+                    int qty = invocation.getArgument(1);
+                    return ProductBreakdown.builder()
+                            .productCode(p.getCode())
+                            .quantityOrdered(qty)
+                            .build();
+                });
+        when(orderMapper.toResponse(any(Order.class), anyList())).thenAnswer(invocation -> OrderResponse.builder()
+                .productBreakdowns(invocation.getArgument(1))
+                .build());
+
+        OrderResponse response = orderService.createOrder(request);
+
+        verify(productRepository, times(1)).findByCode(product1.getCode());
+        verify(packagingCalculatorService, times(1)).calculateOptimalPackaging(eq(6), eq(product1), any());
+        verify(packagingCalculatorService, times(1)).calculateOptimalPackaging(eq(4), eq(product2), any());
+        assertEquals(2, response.getProductBreakdowns().size());
+        assertEquals(6, response.getProductBreakdowns().get(0).getQuantityOrdered());
+        assertEquals(List.of(0, 2), response.getProductBreakdowns().get(0).getSourceLines());
+        assertEquals(List.of(1), response.getProductBreakdowns().get(1).getSourceLines());
+    }
+
+    @Test
+    @DisplayName("Should reject duplicate product lines whose total exceeds the quantity limit")
+    void testCreateOrderCoalescedQuantityLimit() {
+        OrderRequest request = TestDataFactory.createOrderRequest(Arrays.asList(
+                TestDataFactory.createOrderItemRequest(product1.getCode(), 6000),
+                TestDataFactory.createOrderItemRequest(product1.getCode(), 4000),
+                TestDataFactory.createOrderItemRequest(product1.getCode(), 1)));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> orderService.createOrder(request));
+
+        assertTrue(exception.getMessage().contains(product1.getCode()));
+        verifyNoInteractions(productRepository, packagingCalculatorService, orderRepository);
+    }
+
     @Test
     @DisplayName("Should throw exception for non-existent product")
     void testCreateOrderProductNotFound() {
@@ -320,24 +398,132 @@ class OrderServiceTest {
         assertFalse(result.isPresent());
     }
 
+    @Test
+    @DisplayName("Should serve cached order JSON without loading the order")
+    void testGetOrderJsonCached() {
+        Long orderId = faker.number().randomNumber();
+        byte[] body = "{\"orderId\":1}".getBytes();
+        when(orderResponseCache.get(orderId)).thenReturn(Optional.of(body));
+
+        Optional<byte[]> result = orderService.getOrderJson(orderId);
+
+        assertSame(body, result.orElseThrow());
+        verifyNoInteractions(orderRepository, orderMapper);
+    }
+
+    @Test
+    @DisplayName("Should serve and cache order JSON from the read model on a cache miss")
+    void testGetOrderJsonFromView() {
+        Long orderId = faker.number().randomNumber();
+        byte[] document = "{\"orderId\":1}".getBytes();
+        when(orderResponseCache.get(orderId)).thenReturn(Optional.empty());
+        when(orderViewStore.findDocument(orderId)).thenReturn(Optional.of(document));
+
+        Optional<byte[]> result = orderService.getOrderJson(orderId);
+
+        assertSame(document, result.orElseThrow());
+        verify(orderResponseCache).put(orderId, document);
+        verifyNoInteractions(orderRepository, orderMapper);
+    }
+
+    @Test
+    @DisplayName("Should load, serialize and cache order JSON for orders without a view")
+    void testGetOrderJsonMiss() {
+        Long orderId = faker.number().randomNumber();
+        Order order = Order.builder().id(orderId).totalPrice(BigDecimal.TEN).build();
+        OrderResponse response = OrderResponse.builder().orderId(orderId).build();
+        byte[] body = "{}".getBytes();
+        when(orderResponseCache.get(orderId)).thenReturn(Optional.empty());
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderMapper.toResponse(order)).thenReturn(response);
+        when(orderResponseCache.put(response)).thenReturn(body);
+
+        Optional<byte[]> result = orderService.getOrderJson(orderId);
+
+        assertSame(body, result.orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should page orders from the read model")
+    void testGetOrdersPage() {
+        List<OrderResponse> responses = List.of(OrderResponse.builder().orderId(42L).build());
+        when(orderViewStore.isEnabled()).thenReturn(true);
+        when(orderViewStore.findAfter(41L, 10)).thenReturn(responses);
+
+        assertEquals(responses, orderService.getOrders(41L, 10));
+        verifyNoInteractions(orderRepository, orderMapper);
+    }
+
+    @Test
+    @DisplayName("Should page orders from the order store when the read model is disabled")
+    void testGetOrdersPageWithoutView() {
+        List<Order> orders = List.of(Order.builder().id(42L).build());
+        List<OrderResponse> responses = List.of(OrderResponse.builder().orderId(42L).build());
+        when(orderViewStore.isEnabled()).thenReturn(false);
+        when(orderRepository.findByIdGreaterThanOrderByIdAsc(41L, Limit.of(10))).thenReturn(orders);
+        when(orderMapper.toResponses(orders)).thenReturn(responses);
+
+        assertEquals(responses, orderService.getOrders(41L, 10));
+        verify(orderViewStore, never()).findAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should search the repository and render the matching orders")
+    void testSearchOrders() {
+        OrderSearchCriteria criteria = new OrderSearchCriteria("CE", null, null, new BigDecimal("10"), null);
+        List<Order> orders = List.of(Order.builder().id(7L).build());
+        List<OrderResponse> responses = List.of(OrderResponse.builder().orderId(7L).build());
+        when(orderRepository.search(criteria, 5L, 20)).thenReturn(orders);
+        when(orderMapper.toResponses(orders)).thenReturn(responses);
+
+        assertEquals(responses, orderService.searchOrders(criteria, 5L, 20));
+        verifyNoInteractions(orderViewStore);
+    }
+
+    @Test
+    @DisplayName("Should reject inverted search ranges")
+    void testSearchOrdersInvalidRanges() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThrows(IllegalArgumentException.class, () -> orderService.searchOrders(
+                new OrderSearchCriteria(null, now, now, null, null), 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> orderService.searchOrders(
+                new OrderSearchCriteria(null, null, null, new BigDecimal("20"), new BigDecimal("10")), 0, 10));
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject page sizes outside the allowed range")
+    void testGetOrdersInvalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> orderService.getOrders(0L, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> orderService.getOrders(0L, OrderService.MAX_PAGE_SIZE + 1));
+        verifyNoInteractions(orderViewStore);
+    }
+
     @Test
     @DisplayName("Should delete order")
     void testDeleteOrder() {
         Long orderId = faker.number().randomNumber();
-        when(orderRepository.existsById(orderId)).thenReturn(true);
+        Order order = Order.builder().id(orderId).build();
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
         doNothing().when(orderRepository).deleteById(orderId);
 
         assertDoesNotThrow(() -> orderService.deleteOrder(orderId));
         verify(orderRepository, times(1)).deleteById(orderId);
+        verify(salesRollupStore).removeOrder(order);
+        verify(orderViewStore).delete(orderId);
+        verify(orderResponseCache, atLeastOnce()).evict(orderId);
     }
 
     @Test
     @DisplayName("Should throw exception when deleting non-existent order")
     void testDeleteOrderNotFound() {
         Long nonExistentId = faker.number().randomNumber();
-        when(orderRepository.existsById(nonExistentId)).thenReturn(false);
+        when(orderRepository.findById(nonExistentId)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> orderService.deleteOrder(nonExistentId));
+        verifyNoInteractions(salesRollupStore);
     }
 }
 
@@ -0,0 +1,248 @@
+package com.project.packingoptions.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.project.packingoptions.dto.OrderRequest;
+import com.project.packingoptions.dto.OrderResponse;
+import com.project.packingoptions.dto.OrderTicketResponse;
+import com.project.packingoptions.dto.OrderTicketStatus;
+import com.project.packingoptions.exception.ResourceNotFoundException;
+import com.project.packingoptions.exception.SubmissionRejectedException;
+import com.project.packingoptions.model.OrderSubmission;
+import com.project.packingoptions.repository.memory.InMemoryOrderSubmissionRepository;
+import com.project.packingoptions.repository.memory.InMemoryTransactionManager;
+import com.project.packingoptions.util.TestDataFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderSubmissionServiceTest {
+
+    @Mock
+    private OrderService orderService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(new InMemoryTransactionManager());
+
+    private MeterRegistry meterRegistry;
+    private InMemoryOrderSubmissionRepository submissionRepository;
+    private OrderSubmissionServiceImpl submissionService;
+    private OrderRequest request;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        submissionRepository = new InMemoryOrderSubmissionRepository();
+        submissionService = createService(new MockEnvironment());
+        request = TestDataFactory.createOrderRequest("CE", 10);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        submissionService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should complete a submitted order and expose it on the ticket")
+    void testSubmitOrderCompletes() throws Exception {
+        OrderResponse response = OrderResponse.builder()
+                .orderId(7L)
+                .createdAt(LocalDateTime.now())
+                .totalPrice(new BigDecimal("41.90"))
+                .productBreakdowns(Collections.emptyList())
+                .build();
+        when(orderService.createOrder(any(OrderRequest.class))).thenReturn(response);
+
+        OrderTicketResponse ticket = submissionService.submitOrder(request);
+        assertEquals(OrderTicketStatus.QUEUED, ticket.getStatus());
+
+        OrderTicketResponse finished = awaitFinished(ticket.getTicketId());
+        assertEquals(OrderTicketStatus.COMPLETED, finished.getStatus());
+        assertEquals(7L, finished.getOrder().getOrderId());
+        assertNotNull(finished.getCompletedAt());
+        assertEquals(1, meterRegistry.get("orders.async.lag").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should mark the ticket failed when the order cannot be created")
+    void testSubmitOrderFails() throws Exception {
+        when(orderService.createOrder(any(OrderRequest.class)))
+                .thenThrow(new ResourceNotFoundException("Product", "code", "CE"));
+
+        OrderTicketResponse ticket = submissionService.submitOrder(request);
+
+        OrderTicketResponse finished = awaitFinished(ticket.getTicketId());
+        assertEquals(OrderTicketStatus.FAILED, finished.getStatus());
+        assertNotNull(finished.getError());
+        assertEquals(1.0, meterRegistry.get("orders.async.failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should reject submissions when the queue is full")
+    void testSubmitOrderRejectedWhenQueueFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(orderService.createOrder(any(OrderRequest.class))).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return OrderResponse.builder().orderId(1L).build();
+        });
+
+        submissionService.submitOrder(request);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        submissionService.submitOrder(request);
+
+        assertThrows(SubmissionRejectedException.class, () -> submissionService.submitOrder(request));
+        assertEquals(1.0, meterRegistry.get("orders.async.rejected").counter().count());
+        assertEquals(1.0, meterRegistry.get("orders.async.queue.depth").gauge().value());
+        release.countDown();
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    @DisplayName("Should process submissions on virtual threads when virtual threads are enabled")
+    void testSubmitOrderOnVirtualThread() throws Exception {
+        submissionService.shutdown();
+        submissionService = createService(new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true"));
+        AtomicReference<Thread> worker = new AtomicReference<>();
+        when(orderService.createOrder(any(OrderRequest.class))).thenAnswer(invocation -> {
+            worker.set(Thread.currentThread());
+            return OrderResponse.builder().orderId(1L).build();
+        });
+
+        OrderTicketResponse ticket = submissionService.submitOrder(request);
+
+        assertEquals(OrderTicketStatus.COMPLETED, awaitFinished(ticket.getTicketId()).getStatus());
+        // Thread.isVirtual() is Java 21 API, and the tests compile for Java 17
+        assertEquals(true, Thread.class.getMethod("isVirtual").invoke(worker.get()));
+        assertTrue(worker.get().getName().startsWith("order-submission-"));
+    }
+
+    @Test
+    @DisplayName("Should return empty for an unknown ticket")
+    void testGetUnknownTicket() {
+        assertTrue(submissionService.getTicket("unknown").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should answer a poll on another node sharing the ticket store")
+    void testGetTicketOnAnotherNode() throws Exception {
+        when(orderService.createOrder(any(OrderRequest.class))).thenReturn(OrderResponse.builder().orderId(3L).build());
+        OrderSubmissionServiceImpl otherNode = createService(new MockEnvironment());
+        try {
+            OrderTicketResponse ticket = submissionService.submitOrder(request);
+
+            awaitFinished(ticket.getTicketId());
+            OrderTicketResponse polled = otherNode.getTicket(ticket.getTicketId()).orElseThrow();
+            assertEquals(OrderTicketStatus.COMPLETED, polled.getStatus());
+            assertEquals(3L, polled.getOrder().getOrderId());
+        } finally {
+            otherNode.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should resume a submission left queued by a node that stopped")
+    void testResumeQueuedSubmission() throws Exception {
+        when(orderService.createOrder(any(OrderRequest.class))).thenReturn(OrderResponse.builder().orderId(5L).build());
+        OrderSubmission orphaned = submissionRepository.saveAndFlush(OrderSubmission.builder()
+                .ticketId("orphaned")
+                .status(OrderTicketStatus.QUEUED)
+                .requestBody(objectMapper.writeValueAsString(request))
+                .submittedAt(LocalDateTime.now().minusMinutes(1))
+                .build());
+
+        submissionService.resumeStalledSubmissions();
+
+        OrderTicketResponse finished = awaitFinished(orphaned.getTicketId());
+        assertEquals(OrderTicketStatus.COMPLETED, finished.getStatus());
+        assertEquals(5L, finished.getOrder().getOrderId());
+    }
+
+    @Test
+    @DisplayName("Should leave queued submissions in the store when shutting down")
+    void testShutdownKeepsQueuedSubmissions() throws Exception {
+        submissionService.shutdown();
+        submissionService = createService(new MockEnvironment(), Duration.ofMillis(100));
+        CountDownLatch started = new CountDownLatch(1);
+        when(orderService.createOrder(any(OrderRequest.class))).thenAnswer(invocation -> {
+            started.countDown();
+            new CountDownLatch(1).await();
+            return OrderResponse.builder().orderId(1L).build();
+        });
+        submissionService.submitOrder(request);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        OrderTicketResponse waiting = submissionService.submitOrder(request);
+
+        submissionService.shutdown();
+
+        assertEquals(OrderTicketStatus.QUEUED, submissionService.getTicket(waiting.getTicketId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    @DisplayName("Should discard the outcome of a worker whose ticket was re-queued")
+    void testLostClaimIsNotRecorded() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(orderService.createOrder(any(OrderRequest.class))).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return OrderResponse.builder().orderId(1L).build();
+        });
+        OrderTicketResponse ticket = submissionService.submitOrder(request);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertEquals(1, submissionRepository.requeueStartedUpTo(LocalDateTime.now()));
+        release.countDown();
+        submissionService.shutdown();
+
+        OrderTicketResponse requeued = submissionService.getTicket(ticket.getTicketId()).orElseThrow();
+        assertEquals(OrderTicketStatus.QUEUED, requeued.getStatus());
+        assertNull(requeued.getOrder());
+    }
+
+    private OrderSubmissionServiceImpl createService(MockEnvironment environment) {
+        return createService(environment, Duration.ofSeconds(30));
+    }
+
+    private OrderSubmissionServiceImpl createService(MockEnvironment environment, Duration shutdownTimeout) {
+        return new OrderSubmissionServiceImpl(orderService, submissionRepository, transactionTemplate, objectMapper,
+                meterRegistry, 1, 1, 15, Duration.ofSeconds(30), Duration.ofMinutes(5), shutdownTimeout, environment);
+    }
+
+    private OrderTicketResponse awaitFinished(String ticketId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            OrderTicketResponse ticket = submissionService.getTicket(ticketId).orElseThrow();
+            if (ticket.getCompletedAt() != null) {
+                return ticket;
+            }
+            Thread.sleep(10);
+        }
+        fail("Ticket " + ticketId + " did not finish in time");
+        return null;
+    }
+}
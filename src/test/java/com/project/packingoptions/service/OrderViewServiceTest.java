@@ -0,0 +1,123 @@
+package com.project.packingoptions.service;
+
+import com.project.packingoptions.dto.OrderResponse;
+import com.project.packingoptions.mapper.OrderMapper;
+import com.project.packingoptions.model.Order;
+import com.project.packingoptions.repository.OrderRepository;
+import com.project.packingoptions.repository.OrderViewStore;
+import com.project.packingoptions.repository.memory.InMemoryTransactionManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderViewServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderMapper orderMapper;
+
+    @Mock
+    private OrderViewStore orderViewStore;
+
+    private OrderViewServiceImpl orderViewService;
+
+    @BeforeEach
+    void setUp() {
+        orderViewService = new OrderViewServiceImpl(orderRepository, orderMapper, orderViewStore,
+                new InMemoryTransactionManager());
+        lenient().when(orderViewStore.isEnabled()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Should rebuild the view in id-ordered batches until the orders run out")
+    void testRebuild() {
+        int batchSize = OrderViewServiceImpl.REBUILD_BATCH_SIZE;
+        List<Order> firstBatch = orders(1, batchSize);
+        List<Order> secondBatch = orders(batchSize + 1, 3);
+        Limit limit = Limit.of(batchSize);
+        when(orderRepository.findByIdGreaterThanOrderByIdAsc(0L, limit)).thenReturn(firstBatch);
+        when(orderRepository.findByIdGreaterThanOrderByIdAsc((long) batchSize, limit)).thenReturn(secondBatch);
+        when(orderRepository.findByIdGreaterThanOrderByIdAsc(batchSize + 3L, limit)).thenReturn(List.of());
+        when(orderMapper.toResponses(anyList())).thenAnswer(invocation -> invocation.<List<Order>>getArgument(0)
+                .stream()
+                .map(order -> OrderResponse.builder().orderId(order.getId()).build())
+                .toList());
+
+        assertEquals(batchSize + 3, orderViewService.rebuild());
+        verify(orderViewStore, times(batchSize + 3)).save(any(OrderResponse.class));
+    }
+
+    @Test
+    @DisplayName("Should rebuild nothing when there are no orders")
+    void testRebuildEmpty() {
+        when(orderRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(OrderViewServiceImpl.REBUILD_BATCH_SIZE)))
+                .thenReturn(List.of());
+
+        assertEquals(0, orderViewService.rebuild());
+        verify(orderViewStore, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should rebuild nothing when the order store has no read model")
+    void testRebuildDisabled() {
+        when(orderViewStore.isEnabled()).thenReturn(false);
+
+        assertEquals(0, orderViewService.rebuild());
+        assertEquals(0, orderViewService.rebuildIfMissing());
+        verifyNoInteractions(orderRepository, orderMapper);
+    }
+
+    @Test
+    @DisplayName("Should rebuild the view when the oldest order has none")
+    void testRebuildIfMissing() {
+        Limit limit = Limit.of(OrderViewServiceImpl.REBUILD_BATCH_SIZE);
+        when(orderRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(1))).thenReturn(orders(1, 1));
+        when(orderViewStore.findDocument(1L)).thenReturn(Optional.empty());
+        when(orderRepository.findByIdGreaterThanOrderByIdAsc(0L, limit)).thenReturn(orders(1, 2));
+        when(orderRepository.findByIdGreaterThanOrderByIdAsc(2L, limit)).thenReturn(List.of());
+        when(orderMapper.toResponses(anyList())).thenAnswer(invocation -> invocation.<List<Order>>getArgument(0)
+                .stream()
+                .map(order -> OrderResponse.builder().orderId(order.getId()).build())
+                .toList());
+
+        assertEquals(2, orderViewService.rebuildIfMissing());
+        verify(orderViewStore, times(2)).save(any(OrderResponse.class));
+    }
+
+    @Test
+    @DisplayName("Should not rebuild when the oldest order has a view or there are no orders")
+    void testRebuildIfMissingComplete() {
+        when(orderRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(1))).thenReturn(orders(1, 1));
+        when(orderViewStore.findDocument(1L)).thenReturn(Optional.of(new byte[]{'{', '}'}));
+
+        assertEquals(0, orderViewService.rebuildIfMissing());
+
+        when(orderRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(1))).thenReturn(List.of());
+
+        assertEquals(0, orderViewService.rebuildIfMissing());
+        verify(orderViewStore, never()).save(any());
+        verifyNoInteractions(orderMapper);
+    }
+
+    private List<Order> orders(long firstId, int count) {
+        return LongStream.range(firstId, firstId + count)
+                .mapToObj(id -> Order.builder().id(id).build())
+                .toList();
+    }
+}
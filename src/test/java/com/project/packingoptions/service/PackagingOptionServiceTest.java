@@ -40,6 +40,9 @@ class PackagingOptionServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private CatalogChangeLog catalogChangeLog;
+
     @InjectMocks
     private PackagingOptionServiceImpl packagingOptionService;
 
@@ -184,6 +187,7 @@ class PackagingOptionServiceTest {
         assertEquals(new BigDecimal("25.00"), result.getBundlePrice());
         verify(productRepository, times(1)).findByCode(productCode);
         verify(packagingOptionRepository, times(1)).save(any(PackagingOption.class));
+        verify(catalogChangeLog).packagingOptionSaved(result);
     }
 
     @Test
@@ -257,6 +261,7 @@ class PackagingOptionServiceTest {
         verify(packagingOptionRepository, times(1)).findById(1L);
         verify(productRepository, times(1)).findByCode(productCode);
         verify(packagingOptionRepository, times(1)).save(any(PackagingOption.class));
+        verify(catalogChangeLog).packagingOptionSaved(result);
     }
 
     @Test
@@ -311,6 +316,7 @@ class PackagingOptionServiceTest {
 
         verify(packagingOptionRepository, times(1)).existsById(1L);
         verify(packagingOptionRepository, times(1)).deleteById(1L);
+        verify(catalogChangeLog).packagingOptionDeleted(1L);
     }
 
     @Test
@@ -324,6 +330,7 @@ class PackagingOptionServiceTest {
 
         verify(packagingOptionRepository, times(1)).existsById(nonExistentId);
         verify(packagingOptionRepository, never()).deleteById(any());
+        verify(catalogChangeLog, never()).packagingOptionDeleted(any());
     }
 
     // ==================== Additional Edge Case Tests ====================
@@ -0,0 +1,122 @@
+package com.project.packingoptions.service;
+
+import com.project.packingoptions.dto.CatalogChangeResponse;
+import com.project.packingoptions.dto.CatalogChangeType;
+import com.project.packingoptions.model.PackagingOption;
+import com.project.packingoptions.model.Product;
+import com.project.packingoptions.repository.PackagingOptionRepository;
+import com.project.packingoptions.repository.ProductRepository;
+import com.project.packingoptions.util.TestDataFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCatalogCacheTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PackagingOptionRepository packagingOptionRepository;
+
+    private ProductCatalogCacheImpl cache;
+    private Product cheese;
+    private PackagingOption cheeseOption;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ProductCatalogCacheImpl(productRepository, packagingOptionRepository);
+        cheese = TestDataFactory.createProduct("CE", "Cheese", new BigDecimal("5.95"));
+        cheeseOption = PackagingOption.builder()
+                .id(7L)
+                .product(cheese)
+                .productCode("CE")
+                .bundleSize(5)
+                .bundlePrice(new BigDecimal("20.95"))
+                .build();
+        lenient().when(productRepository.findByCode("CE")).thenReturn(Optional.of(cheese));
+        lenient().when(packagingOptionRepository.findByProductCode("CE")).thenReturn(List.of(cheeseOption));
+    }
+
+    @Test
+    @DisplayName("Should load a product with its options once and serve later lookups from the cache")
+    void testFindCachesEntry() {
+        ProductCatalogCache.CatalogEntry first = cache.find("CE").orElseThrow();
+        ProductCatalogCache.CatalogEntry second = cache.find("CE").orElseThrow();
+
+        assertSame(first, second);
+        assertEquals(List.of(cheeseOption), first.packagingOptions());
+        verify(productRepository, times(1)).findByCode("CE");
+        verify(packagingOptionRepository, times(1)).findByProductCode("CE");
+    }
+
+    @Test
+    @DisplayName("Should not cache unknown products")
+    void testFindUnknownProduct() {
+        when(productRepository.findByCode("XX")).thenReturn(Optional.empty());
+
+        assertTrue(cache.find("XX").isEmpty());
+        assertTrue(cache.find("XX").isEmpty());
+
+        verify(productRepository, times(2)).findByCode("XX");
+        verify(packagingOptionRepository, never()).findByProductCode("XX");
+    }
+
+    @Test
+    @DisplayName("Should reload a product after a change to it")
+    void testInvalidateByProductCode() {
+        cache.find("CE");
+
+        cache.invalidate(change(CatalogChangeType.PRODUCT_UPSERTED, "CE", null));
+        cache.find("CE");
+
+        verify(productRepository, times(2)).findByCode("CE");
+    }
+
+    @Test
+    @DisplayName("Should evict the product holding a deleted packaging option")
+    void testInvalidateByPackagingOptionId() {
+        cache.find("CE");
+
+        cache.invalidate(change(CatalogChangeType.PACKAGING_OPTION_DELETED, null, 7L));
+        cache.find("CE");
+        cache.invalidate(change(CatalogChangeType.PACKAGING_OPTION_DELETED, null, 8L));
+        cache.find("CE");
+
+        verify(packagingOptionRepository, times(2)).findByProductCode("CE");
+    }
+
+    @Test
+    @DisplayName("Should not cache a load that overlapped an invalidation")
+    void testLoadOverlappingInvalidationIsNotCached() {
+        when(packagingOptionRepository.findByProductCode("CE")).thenAnswer(invocation -> {
+            cache.invalidate(change(CatalogChangeType.PACKAGING_OPTION_UPSERTED, "CE", 7L));
+            return List.of(cheeseOption);
+        }).thenReturn(List.of(cheeseOption));
+
+        cache.find("CE");
+        cache.find("CE");
+        cache.find("CE");
+
+        verify(productRepository, times(2)).findByCode("CE");
+    }
+
+    private CatalogChangeResponse change(CatalogChangeType type, String productCode, Long packagingOptionId) {
+        return CatalogChangeResponse.builder()
+                .type(type)
+                .productCode(productCode)
+                .packagingOptionId(packagingOptionId)
+                .build();
+    }
+}
@@ -34,6 +34,9 @@ public class ProductServiceTest {
     @Mock
     private PackagingOptionRepository packagingOptionRepository;
 
+    @Mock
+    private CatalogChangeLog catalogChangeLog;
+
     @InjectMocks
     private ProductServiceImpl productService;
     private Faker faker;
@@ -104,6 +107,7 @@ public class ProductServiceTest {
         assertEquals(randomName, result.getName());
         assertEquals(randomPrice, result.getBasePrice());
         verify(productRepository, times(1)).save(any(Product.class));
+        verify(catalogChangeLog).productSaved(result);
     }
 
     @Test
@@ -117,6 +121,7 @@ public class ProductServiceTest {
         assertThrows(ResourceAlreadyExistsException.class, () -> productService.createProduct(request));
 
         verify(productRepository, never()).save(any(Product.class));
+        verify(catalogChangeLog, never()).productSaved(any(Product.class));
     }
 
     @Test
@@ -138,6 +143,7 @@ public class ProductServiceTest {
         assertEquals(updatedName, result.getName());
         assertEquals(updatedPrice, result.getBasePrice());
         verify(productRepository, times(1)).save(any(Product.class));
+        verify(catalogChangeLog).productSaved(result);
     }
 
     @Test
@@ -164,6 +170,7 @@ public class ProductServiceTest {
 
         verify(packagingOptionRepository, times(1)).deleteByProductCode(product1.getCode());
         verify(productRepository, times(1)).deleteByCode(product1.getCode());
+        verify(catalogChangeLog).productDeleted(product1.getCode());
     }
 
     @Test
@@ -0,0 +1,158 @@
+package com.project.packingoptions.service;
+
+import com.project.packingoptions.dto.PackagingOptionChange;
+import com.project.packingoptions.dto.RepricingSimulationResponse;
+import com.project.packingoptions.exception.ResourceNotFoundException;
+import com.project.packingoptions.model.PackagingOption;
+import com.project.packingoptions.model.Product;
+import com.project.packingoptions.repository.OrderLineStatistics;
+import com.project.packingoptions.repository.OrderLineStatistics.QuantityCount;
+import com.project.packingoptions.util.TestDataFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RepricingSimulationServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 3, 31);
+
+    @Mock
+    private OrderLineStatistics orderLineStatistics;
+
+    @Mock
+    private ProductCatalogCache productCatalogCache;
+
+    private RepricingSimulationServiceImpl repricingSimulationService;
+    private Product cheese;
+    private List<PackagingOption> cheeseOptions;
+
+    @BeforeEach
+    void setUp() {
+        repricingSimulationService = new RepricingSimulationServiceImpl(orderLineStatistics, productCatalogCache, 2);
+        cheese = TestDataFactory.createProduct("CE", "Cheese", new BigDecimal("5.95"));
+        cheeseOptions = List.of(
+                PackagingOption.of("CE", 3, new BigDecimal("14.95")),
+                PackagingOption.of("CE", 5, new BigDecimal("20.95")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        repricingSimulationService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should report current, proposed and delta totals of a price change")
+    void testSimulatePriceChange() {
+        when(productCatalogCache.find("CE"))
+                .thenReturn(Optional.of(new ProductCatalogCache.CatalogEntry(cheese, cheeseOptions)));
+        streamCounts(List.of(new QuantityCount("CE", 5, 10), new QuantityCount("CE", 13, 4)));
+
+        RepricingSimulationResponse response = repricingSimulationService.simulate(FROM, TO,
+                List.of(change("CE", 5, "19.95")));
+
+        // 5 = one 5-pack; 13 = two 5-packs and a 3-pack
+        assertEquals(14, response.getOrderLines());
+        assertEquals(new BigDecimal("436.90"), response.getCurrent().getRevenue());
+        assertEquals(new BigDecimal("418.90"), response.getProposed().getRevenue());
+        assertEquals(new BigDecimal("-18.00"), response.getDelta().getRevenue());
+        assertEquals(22, response.getProposed().getPackages());
+        assertEquals(0, response.getDelta().getPackages());
+        assertEquals(new BigDecimal("1.5714"), response.getProposed().getPackagesPerLine());
+        assertEquals(List.of("CE"), response.getProducts().stream()
+                .map(RepricingSimulationResponse.ProductSimulation::getProductCode)
+                .toList());
+        verify(orderLineStatistics).forEachQuantity(eq(Set.of("CE")), eq(FROM.atStartOfDay()),
+                eq(TO.plusDays(1).atStartOfDay()), any());
+    }
+
+    @Test
+    @DisplayName("Should pack every batch of quantities like the packaging calculator")
+    void testSimulateMatchesCalculator() {
+        when(productCatalogCache.find("CE"))
+                .thenReturn(Optional.of(new ProductCatalogCache.CatalogEntry(cheese, cheeseOptions)));
+        List<QuantityCount> counts = new ArrayList<>();
+        for (int quantity = 1; quantity <= 3 * RepricingSimulationServiceImpl.BATCH_SIZE; quantity++) {
+            counts.add(new QuantityCount("CE", quantity, quantity % 7 + 1));
+        }
+        streamCounts(counts);
+
+        // Adds an 8-pack and drops the 3-pack
+        RepricingSimulationResponse response = repricingSimulationService.simulate(FROM, TO,
+                List.of(change("CE", 8, "30.95"), change("CE", 3, null)));
+
+        PackagingCalculatorServiceImpl calculator = new PackagingCalculatorServiceImpl();
+        List<PackagingOption> proposedOptions = List.of(
+                PackagingOption.of("CE", 5, new BigDecimal("20.95")),
+                PackagingOption.of("CE", 8, new BigDecimal("30.95")));
+        long lines = 0;
+        long currentPackages = 0;
+        long proposedPackages = 0;
+        BigDecimal proposedRevenue = BigDecimal.ZERO;
+        for (QuantityCount count : counts) {
+            lines += count.lines();
+            currentPackages += count.lines() * calculator.calculateOptimalPackaging(count.quantity(), cheese,
+                    cheeseOptions).getTotalPackageCount();
+            PackagingCalculatorService.PackagingBreakdown proposed =
+                    calculator.calculateOptimalPackaging(count.quantity(), cheese, proposedOptions);
+            proposedPackages += count.lines() * proposed.getTotalPackageCount();
+            proposedRevenue = proposedRevenue.add(proposed.getTotalPrice().multiply(BigDecimal.valueOf(count.lines())));
+        }
+        assertEquals(lines, response.getOrderLines());
+        assertEquals(currentPackages, response.getCurrent().getPackages());
+        assertEquals(proposedPackages, response.getProposed().getPackages());
+        assertEquals(proposedPackages - currentPackages, response.getDelta().getPackages());
+        assertEquals(0, proposedRevenue.compareTo(response.getProposed().getRevenue()));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown products, invalid removals, duplicate changes and inverted ranges")
+    void testInvalidChanges() {
+        when(productCatalogCache.find("CE"))
+                .thenReturn(Optional.of(new ProductCatalogCache.CatalogEntry(cheese, cheeseOptions)));
+        when(productCatalogCache.find("XX")).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> repricingSimulationService.simulate(FROM, TO, List.of(change("XX", 3, "9.95"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> repricingSimulationService.simulate(FROM, TO, List.of(change("CE", 4, null))));
+        assertThrows(IllegalArgumentException.class, () -> repricingSimulationService.simulate(FROM, TO,
+                List.of(change("CE", 3, "13.95"), change("CE", 3, "12.95"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> repricingSimulationService.simulate(TO, FROM, List.of(change("CE", 3, "13.95"))));
+        verifyNoInteractions(orderLineStatistics);
+    }
+
+    private void streamCounts(List<QuantityCount> counts) {
+        doAnswer(invocation -> {
+            Consumer<QuantityCount> consumer = invocation.getArgument(3);
+            counts.forEach(consumer);
+            return null;
+        }).when(orderLineStatistics).forEachQuantity(any(), any(), any(), any());
+    }
+
+    private static PackagingOptionChange change(String productCode, int bundleSize, String bundlePrice) {
+        return PackagingOptionChange.builder()
+                .productCode(productCode)
+                .bundleSize(bundleSize)
+                .bundlePrice(bundlePrice == null ? null : new BigDecimal(bundlePrice))
+                .build();
+    }
+}
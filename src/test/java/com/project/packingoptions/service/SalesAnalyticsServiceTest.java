@@ -0,0 +1,90 @@
+package com.project.packingoptions.service;
+
+import com.project.packingoptions.dto.ProductSalesResponse;
+import com.project.packingoptions.dto.SalesMetric;
+import com.project.packingoptions.exception.ResourceNotFoundException;
+import com.project.packingoptions.repository.ProductRepository;
+import com.project.packingoptions.repository.SalesRollupStore;
+import com.project.packingoptions.repository.SalesRollupStore.DailySales;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SalesAnalyticsServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 3, 31);
+
+    @Mock
+    private SalesRollupStore salesRollupStore;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private SalesAnalyticsServiceImpl salesAnalyticsService;
+
+    @BeforeEach
+    void setUp() {
+        salesAnalyticsService = new SalesAnalyticsServiceImpl(salesRollupStore, productRepository);
+    }
+
+    @Test
+    @DisplayName("Should total rollup rows per bundle size and per day")
+    void testGetProductSales() {
+        when(salesRollupStore.findByProduct("CE", FROM, TO)).thenReturn(List.of(
+                new DailySales("CE", FROM, 3, 6, 2, new BigDecimal("29.90")),
+                new DailySales("CE", FROM, 5, 5, 1, new BigDecimal("20.95")),
+                new DailySales("CE", FROM.plusDays(2), 5, 10, 2, new BigDecimal("41.90"))));
+
+        ProductSalesResponse response = salesAnalyticsService.getProductSales("CE", FROM, TO);
+
+        assertEquals(21, response.getTotals().getUnits());
+        assertEquals(5, response.getTotals().getPackages());
+        assertEquals(new BigDecimal("92.75"), response.getTotals().getRevenue());
+        assertEquals(List.of(3, 5), response.getBundles().stream()
+                .map(ProductSalesResponse.BundleSales::getBundleSize)
+                .toList());
+        assertEquals(15, response.getBundles().get(1).getUnits());
+        assertEquals(2, response.getDays().size());
+        assertEquals(new BigDecimal("50.85"), response.getDays().get(0).getRevenue());
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("Should return empty sales for a known product and 404 for an unknown one")
+    void testGetProductSalesWithoutRows() {
+        when(salesRollupStore.findByProduct(anyString(), eq(FROM), eq(TO))).thenReturn(List.of());
+        when(productRepository.existsByCode("CE")).thenReturn(true);
+        when(productRepository.existsByCode("XX")).thenReturn(false);
+
+        ProductSalesResponse response = salesAnalyticsService.getProductSales("CE", FROM, TO);
+
+        assertEquals(0, response.getTotals().getPackages());
+        assertTrue(response.getDays().isEmpty());
+        assertThrows(ResourceNotFoundException.class, () -> salesAnalyticsService.getProductSales("XX", FROM, TO));
+    }
+
+    @Test
+    @DisplayName("Should reject inverted or oversized date ranges and limits out of range")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> salesAnalyticsService.getProductSales("CE", TO, FROM));
+        assertThrows(IllegalArgumentException.class,
+                () -> salesAnalyticsService.getTopProducts(FROM.minusDays(SalesAnalyticsService.MAX_RANGE_DAYS), FROM,
+                        SalesMetric.REVENUE, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> salesAnalyticsService.getTopProducts(FROM, TO, SalesMetric.REVENUE, 0));
+        verifyNoInteractions(salesRollupStore);
+    }
+}
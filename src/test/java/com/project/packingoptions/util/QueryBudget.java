@@ -0,0 +1,81 @@
+package com.project.packingoptions.util;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Declares the maximum number of SQL statements an operation may issue and
+ * fails the test when the operation exceeds it. Catches N+1 regressions that
+ * functional assertions cannot see.
+ *
+ * <pre>{@code
+ * QueryBudget.maxSelects(2).inserts(0)
+ *         .verify(() -> orderService.getOrderById(id));
+ * }</pre>
+ */
+public final class QueryBudget {
+
+    private static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private int maxSelects = UNLIMITED;
+    private int maxInserts = UNLIMITED;
+    private int maxUpdates = UNLIMITED;
+    private int maxDeletes = UNLIMITED;
+
+    private QueryBudget() {
+    }
+
+    public static QueryBudget maxSelects(int max) {
+        return new QueryBudget().selects(max);
+    }
+
+    public static QueryBudget maxInserts(int max) {
+        return new QueryBudget().inserts(max);
+    }
+
+    public QueryBudget selects(int max) {
+        this.maxSelects = max;
+        return this;
+    }
+
+    public QueryBudget inserts(int max) {
+        this.maxInserts = max;
+        return this;
+    }
+
+    public QueryBudget updates(int max) {
+        this.maxUpdates = max;
+        return this;
+    }
+
+    public QueryBudget deletes(int max) {
+        this.maxDeletes = max;
+        return this;
+    }
+
+    /**
+     * Runs the operation with fresh counters and asserts every declared budget.
+     * Only statements issued on the calling thread are counted.
+     *
+     * @param operation the operation under test
+     * @return the operation's result
+     */
+    public <T> T verify(Operation<T> operation) throws Exception {
+        SqlStatementCounter.reset();
+        T result = operation.run();
+        assertWithin("SELECT", SqlStatementCounter.getSelectCount(), maxSelects);
+        assertWithin("INSERT", SqlStatementCounter.getInsertCount(), maxInserts);
+        assertWithin("UPDATE", SqlStatementCounter.getUpdateCount(), maxUpdates);
+        assertWithin("DELETE", SqlStatementCounter.getDeleteCount(), maxDeletes);
+        return result;
+    }
+
+    private static void assertWithin(String type, long actual, int max) {
+        assertTrue(actual <= max, String.format(
+                "Query budget exceeded: %d %s statements issued, budget is %d", actual, type, max));
+    }
+
+    @FunctionalInterface
+    public interface Operation<T> {
+        T run() throws Exception;
+    }
+}
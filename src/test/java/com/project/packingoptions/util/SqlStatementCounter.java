@@ -0,0 +1,147 @@
+package com.project.packingoptions.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Counts every SQL statement executed on a JDBC connection, bucketed by statement type.
+ * Connections are wrapped at the pool (see {@code TestSqlCountingConfig}), so Hibernate,
+ * {@code JdbcTemplate} and plain JDBC statements are all counted. A JDBC batch counts as
+ * one statement per distinct SQL string, like the single round trip it costs, and
+ * {@code MERGE} upserts count as inserts.
+ * Counters are kept per thread, so background pollers and schedulers do not leak into
+ * the count of the operation under test.
+ */
+public final class SqlStatementCounter {
+
+    private static final int SELECT = 0;
+    private static final int INSERT = 1;
+    private static final int UPDATE = 2;
+    private static final int DELETE = 3;
+
+    private static final ThreadLocal<long[]> COUNTS = ThreadLocal.withInitial(() -> new long[4]);
+
+    private SqlStatementCounter() {
+    }
+
+    /**
+     * Returns a connection that counts the statements executed through it.
+     */
+    public static Connection counting(Connection connection) {
+        return proxy(Connection.class, connection, new ConnectionHandler(connection));
+    }
+
+    public static void reset() {
+        COUNTS.remove();
+    }
+
+    public static long getSelectCount() {
+        return COUNTS.get()[SELECT];
+    }
+
+    public static long getInsertCount() {
+        return COUNTS.get()[INSERT];
+    }
+
+    public static long getUpdateCount() {
+        return COUNTS.get()[UPDATE];
+    }
+
+    public static long getDeleteCount() {
+        return COUNTS.get()[DELETE];
+    }
+
+    static void count(String sql) {
+        String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+        if (statement.startsWith("select") || statement.startsWith("with")) {
+            COUNTS.get()[SELECT]++;
+        } else if (statement.startsWith("insert") || statement.startsWith("merge")) {
+            COUNTS.get()[INSERT]++;
+        } else if (statement.startsWith("update")) {
+            COUNTS.get()[UPDATE]++;
+        } else if (statement.startsWith("delete")) {
+            COUNTS.get()[DELETE]++;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(SqlStatementCounter.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+            return proxy == args[0];
+        }
+        if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
+            return System.identityHashCode(proxy);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SqlStatementCounter.invoke(proxy, target, method, args);
+            if (result instanceof CallableStatement statement) {
+                return proxy(CallableStatement.class, statement, new StatementHandler(statement, (String) args[0]));
+            }
+            if (result instanceof PreparedStatement statement) {
+                return proxy(PreparedStatement.class, statement, new StatementHandler(statement, (String) args[0]));
+            }
+            if (result instanceof Statement statement) {
+                return proxy(Statement.class, statement, new StatementHandler(statement, null));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Counts executions of a statement. {@code preparedSql} is null for plain statements,
+     * whose SQL arrives with each {@code execute*} or {@code addBatch} call.
+     */
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private final List<String> batch = new ArrayList<>();
+
+        private StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("addBatch")) {
+                String sql = args != null ? (String) args[0] : preparedSql;
+                if (!batch.contains(sql)) {
+                    batch.add(sql);
+                }
+            } else if (name.equals("clearBatch")) {
+                batch.clear();
+            } else if (name.equals("executeBatch") || name.equals("executeLargeBatch")) {
+                batch.forEach(SqlStatementCounter::count);
+                batch.clear();
+            } else if (name.startsWith("execute")) {
+                count(args != null && args.length > 0 ? (String) args[0] : preparedSql);
+            }
+            return SqlStatementCounter.invoke(proxy, target, method, args);
+        }
+    }
+}